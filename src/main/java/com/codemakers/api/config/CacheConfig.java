@@ -0,0 +1,48 @@
+package com.codemakers.api.config;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.codemakers.api.configs.cache.CatalogoCacheNotifier;
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.configs.cache.NotificandoCache;
+
+/**
+ * @version 1.0
+ * Configuracion de las caches de catalogo. Cada cache es una Caffeine acotada por tamaño y tiempo
+ * ({@code catalogo.cache.spec}) cuya invalidacion se propaga a los demas nodos.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	@Bean
+	CacheManager cacheManager(CatalogoCacheNotifier notifier,
+			@Value("${catalogo.cache.spec:maximumSize=2000,expireAfterWrite=1h}") String spec) {
+		CaffeineCacheManager caffeine = new CaffeineCacheManager();
+		caffeine.setCacheSpecification(spec);
+		caffeine.setAllowNullValues(false);
+
+		AbstractCacheManager manager = new AbstractCacheManager() {
+			@Override
+			protected Collection<NotificandoCache> loadCaches() {
+				List<NotificandoCache> caches = CatalogoCaches.TODAS.stream()
+						.map(nombre -> new NotificandoCache(caffeine.getCache(nombre), notifier))
+						.toList();
+				notifier.suscribir(nombre -> caches.stream()
+						.filter(cache -> nombre == null || cache.getName().equals(nombre))
+						.forEach(NotificandoCache::clearLocal));
+				return caches;
+			}
+		};
+		return manager;
+	}
+}
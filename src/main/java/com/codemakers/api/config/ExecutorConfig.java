@@ -0,0 +1,69 @@
+package com.codemakers.api.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * @version 1.0
+ * Configuracion de los pools de hilos usados por los procesos en segundo plano.
+ * Con {@code spring.threads.virtual.enabled} los pools crean hilos virtuales, pero conservan su tamaño:
+ * es ese limite, y no el costo de los hilos, el que acota las conexiones que toma cada proceso del pool de Hikari.
+ */
+@Configuration
+public class ExecutorConfig {
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean hilosVirtuales;
+
+	/**
+	 * Pool que ejecuta la facturacion de cada contador. Su tamaño limita las llamadas
+	 * concurrentes a {@code public.generar_factura} y por tanto las conexiones que usa un ciclo.
+	 */
+	@Bean(name = "facturacionExecutor")
+	ThreadPoolTaskExecutor facturacionExecutor(@Value("${facturacion.ciclo.paralelismo:4}") int paralelismo,
+			@Value("${facturacion.ciclo.tamano-lote:200}") int tamanoLote) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(paralelismo);
+		executor.setMaxPoolSize(paralelismo);
+		executor.setQueueCapacity(tamanoLote);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("facturacion-");
+		executor.setVirtualThreads(hilosVirtuales);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	/**
+	 * Pool que coordina los ciclos de facturacion en curso (un hilo por ciclo).
+	 */
+	@Bean(name = "cicloFacturacionExecutor")
+	ThreadPoolTaskExecutor cicloFacturacionExecutor(@Value("${facturacion.ciclo.max-ciclos:2}") int maxCiclos) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(maxCiclos);
+		executor.setMaxPoolSize(maxCiclos);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("ciclo-facturacion-");
+		executor.setVirtualThreads(hilosVirtuales);
+		return executor;
+	}
+
+	/**
+	 * Pool que envia los lotes de la bandeja de salida de correos. Cada hilo usa su propia conexion SMTP.
+	 */
+	@Bean(name = "correoExecutor")
+	ThreadPoolTaskExecutor correoExecutor(@Value("${correo.outbox.hilos:2}") int hilos) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(hilos);
+		executor.setMaxPoolSize(hilos);
+		executor.setQueueCapacity(hilos);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("correo-");
+		executor.setVirtualThreads(hilosVirtuales);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+}
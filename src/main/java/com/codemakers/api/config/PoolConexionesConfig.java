@@ -0,0 +1,80 @@
+package com.codemakers.api.config;
+
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Aplica {@code spring.datasource.hikari.*} al pool del DataSource de la libreria commons. La autoconfiguracion de
+ * DataSource esta excluida, por lo que sin este post procesador esas propiedades no llegan a ningun pool.
+ * Si el pool aun no arranco se enlazan todas; si ya arranco solo se pueden cambiar las que Hikari admite en caliente
+ * (tamaño, tiempos de espera y deteccion de fugas) y el resto se reporta en el log.
+ * Corre antes de la inicializacion del bean, por lo que ve el {@link HikariDataSource} antes de que
+ * {@code ReplicaDataSourceConfig} o {@code RegistroSqlConfig} lo envuelvan.
+ */
+@Slf4j
+@Configuration
+public class PoolConexionesConfig {
+
+	static final String PREFIJO_HIKARI = "spring.datasource.hikari";
+
+	@Bean
+	static BeanPostProcessor poolConexionesPostProcessor(Environment environment) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource pool) {
+					aplicar(Binder.get(environment), pool, beanName);
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * Metodo encargado de aplicar la configuracion de Hikari a un pool existente
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param binder
+	 * @param pool
+	 * @param beanName
+	 */
+	static void aplicar(Binder binder, HikariDataSource pool, String beanName) {
+		if (!pool.isRunning() && !pool.isClosed()) {
+			binder.bind(PREFIJO_HIKARI, Bindable.ofInstance(pool));
+			log.info("Pool {} configurado desde {}: maximo {}, minimo inactivas {}, espera {} ms", beanName,
+					PREFIJO_HIKARI, pool.getMaximumPoolSize(), pool.getMinimumIdle(), pool.getConnectionTimeout());
+			return;
+		}
+		HikariConfigMXBean config = pool.getHikariConfigMXBean();
+		enCaliente(binder, "maximum-pool-size", Integer.class, config::setMaximumPoolSize);
+		enCaliente(binder, "minimum-idle", Integer.class, config::setMinimumIdle);
+		enCaliente(binder, "connection-timeout", Long.class, config::setConnectionTimeout);
+		enCaliente(binder, "validation-timeout", Long.class, config::setValidationTimeout);
+		enCaliente(binder, "idle-timeout", Long.class, config::setIdleTimeout);
+		enCaliente(binder, "max-lifetime", Long.class, config::setMaxLifetime);
+		enCaliente(binder, "leak-detection-threshold", Long.class, config::setLeakDetectionThreshold);
+		binder.bind(PREFIJO_HIKARI + ".auto-commit", Boolean.class)
+				.filter(autoCommit -> autoCommit != pool.isAutoCommit())
+				.ifBound(autoCommit -> log.warn("El pool {} ya estaba iniciado; {}.auto-commit={} no se aplico",
+						beanName, PREFIJO_HIKARI, autoCommit));
+		log.info("Pool {} ya iniciado; se aplicaron en caliente los valores de {}: maximo {}, minimo inactivas {}, "
+				+ "espera {} ms", beanName, PREFIJO_HIKARI, config.getMaximumPoolSize(), config.getMinimumIdle(),
+				config.getConnectionTimeout());
+	}
+
+	private static <T> void enCaliente(Binder binder, String propiedad, Class<T> tipo, Consumer<T> setter) {
+		binder.bind(PREFIJO_HIKARI + "." + propiedad, tipo).ifBound(setter);
+	}
+}
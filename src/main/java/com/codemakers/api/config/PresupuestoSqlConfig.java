@@ -0,0 +1,39 @@
+package com.codemakers.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import com.codemakers.api.configs.sql.ContadorSql;
+import com.codemakers.api.configs.sql.PresupuestoSqlFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @version 1.0
+ * Configuracion del conteo de sentencias SQL por peticion. Solo se activa fuera del perfil {@code prod}
+ * y se puede apagar con {@code sql.presupuesto.habilitado}.
+ */
+@Configuration
+@Profile("!prod")
+@ConditionalOnProperty(prefix = "sql.presupuesto", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class PresupuestoSqlConfig {
+
+	@Bean
+	ContadorSql contadorSql() {
+		return new ContadorSql();
+	}
+
+	@Bean
+	FilterRegistrationBean<PresupuestoSqlFilter> presupuestoSqlFilter(MeterRegistry meterRegistry,
+			@Value("${sql.presupuesto.umbral-repeticiones:5}") int umbralRepeticiones) {
+		FilterRegistrationBean<PresupuestoSqlFilter> registro = new FilterRegistrationBean<>(
+				new PresupuestoSqlFilter(meterRegistry, umbralRepeticiones));
+		registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return registro;
+	}
+}
@@ -0,0 +1,17 @@
+package com.codemakers.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @version 1.0
+ * Habilita las tareas programadas (ciclos de facturacion, outbox de correo, sincronizacion de revocaciones).
+ * Se puede apagar con {@code programacion.habilitado}, por ejemplo en pruebas de integracion cuyo esquema no
+ * tiene las tablas que esas tareas consultan.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "programacion", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class ProgramacionConfig {
+}
@@ -0,0 +1,60 @@
+package com.codemakers.api.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.codemakers.api.configs.sql.CorrelacionFilter;
+import com.codemakers.api.configs.sql.InstrumentadoDataSource;
+import com.codemakers.api.configs.sql.ObservadorSql;
+import com.codemakers.api.configs.sql.RegistroSqlLento;
+
+/**
+ * @version 1.0
+ * Configuracion de la instrumentacion JDBC. El DataSource se envuelve solo si hay algun {@link ObservadorSql}
+ * registrado: el registro de sentencias lentas y muestreadas (todos los perfiles) o el conteo por peticion
+ * (fuera de {@code prod}). Este post procesador no es {@code Ordered}, por lo que corre despues de los que si lo
+ * son y envuelve el DataSource ya enrutado por {@code ReplicaDataSourceConfig}.
+ */
+@Configuration
+public class RegistroSqlConfig {
+
+	@Bean
+	static BeanPostProcessor instrumentadoDataSourcePostProcessor(ObjectProvider<ObservadorSql> observadores) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentadoDataSource)) {
+					List<ObservadorSql> activos = observadores.orderedStream().toList();
+					if (!activos.isEmpty()) {
+						return new InstrumentadoDataSource(dataSource, activos);
+					}
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "sql.registro", name = "habilitado", havingValue = "true", matchIfMissing = true)
+	RegistroSqlLento registroSqlLento(@Value("${sql.registro.umbral-ms:200}") long umbralMillis,
+			@Value("${sql.registro.muestra:0}") int muestra) {
+		return new RegistroSqlLento(umbralMillis, muestra);
+	}
+
+	@Bean
+	FilterRegistrationBean<CorrelacionFilter> correlacionFilter() {
+		FilterRegistrationBean<CorrelacionFilter> registro = new FilterRegistrationBean<>(new CorrelacionFilter());
+		registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registro;
+	}
+}
@@ -0,0 +1,160 @@
+package com.codemakers.api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.codemakers.api.configs.replica.EnrutadorReplicas;
+import com.codemakers.api.configs.replica.LecturaConsistente;
+import com.codemakers.api.configs.replica.LecturaReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @version 1.0
+ * Configuracion del enrutamiento de lecturas a replicas, activa con {@code replicas.habilitado}.
+ * El DataSource de la aplicacion (el de la libreria commons) se envuelve en un {@link LazyConnectionDataSourceProxy}:
+ * la conexion fisica se pide al primer uso, cuando la transaccion ya marco la conexion como de solo lectura,
+ * y en ese caso se toma de las replicas. Las transacciones de escritura y las que no son {@code readOnly}
+ * siguen yendo al DataSource original.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replicas", name = "habilitado", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	private static final String PREFIJO_DATASOURCE = "spring.datasource";
+	private static final String PREFIJO_HIKARI = "spring.datasource.hikari";
+
+	@Bean
+	EnrutadorReplicas enrutadorReplicas(Environment environment, ObjectProvider<DataSource> dataSource,
+			ObjectProvider<MeterRegistry> meterRegistry,
+			@Value("${replicas.urls}") List<String> urls,
+			@Value("${replicas.pool-maximo:10}") int poolMaximo,
+			@Value("${replicas.timeout-conexion-millis:2000}") long timeoutConexion,
+			@Value("${replicas.lag-maximo-segundos:5}") double lagMaximoSegundos) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		Binder binder = Binder.get(environment);
+		DataSourceProperties properties = propiedades(binder);
+		List<String> replicas = urls.stream().filter(StringUtils::hasText).map(String::trim).toList();
+		List<HikariDataSource> pools = new ArrayList<>(replicas.size());
+		for (int i = 0; i < replicas.size(); i++) {
+			HikariDataSource pool = properties.initializeDataSourceBuilder()
+					.type(HikariDataSource.class)
+					.url(replicas.get(i))
+					.build();
+			binder.bind(PREFIJO_HIKARI, Bindable.ofInstance(pool));
+			pool.setPoolName("replica-" + (i + 1));
+			pool.setMaximumPoolSize(poolMaximo);
+			pool.setMinimumIdle(poolMaximo);
+			pool.setConnectionTimeout(timeoutConexion);
+			pool.setReadOnly(true);
+			if (registry != null) {
+				pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+			}
+			pools.add(pool);
+		}
+		return new EnrutadorReplicas(pools, dataSource, lagMaximoSegundos, (int) Math.max(1, timeoutConexion / 1000),
+				registry);
+	}
+
+	/**
+	 * Envuelve el DataSource existente en lugar de crear otro pool hacia la primaria. Se ordena antes que
+	 * la instrumentacion de {@code RegistroSqlConfig} para que esta vea tambien las conexiones de las replicas.
+	 */
+	@Bean
+	static BeanPostProcessor replicaDataSourcePostProcessor(ObjectProvider<EnrutadorReplicas> enrutador) {
+		return new EnrutamientoPostProcessor(enrutador);
+	}
+
+	/**
+	 * Spring Boot aplica este decorador al executor de la aplicacion, que tambien atiende el procesamiento
+	 * asincrono de Spring MVC; asi las descargas en streaming respetan la posicion del WAL del cliente.
+	 */
+	@Bean
+	TaskDecorator lecturaConsistenteTaskDecorator() {
+		return LecturaConsistente.decorador();
+	}
+
+	@Bean
+	FilterRegistrationBean<LecturaConsistente> lecturaConsistenteFilter() {
+		FilterRegistrationBean<LecturaConsistente> registro = new FilterRegistrationBean<>(new LecturaConsistente());
+		registro.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+		return registro;
+	}
+
+	/**
+	 * Metodo encargado de leer {@code spring.datasource.*}. Se enlaza aqui porque la autoconfiguracion de
+	 * DataSource esta excluida y {@link DataSourceProperties} no existe como bean.
+	 */
+	private static DataSourceProperties propiedades(Binder binder) {
+		DataSourceProperties properties = binder.bindOrCreate(PREFIJO_DATASOURCE, DataSourceProperties.class);
+		try {
+			properties.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException("No fue posible leer la configuracion " + PREFIJO_DATASOURCE, e);
+		}
+		return properties;
+	}
+
+	private static final class EnrutamientoPostProcessor implements BeanPostProcessor, Ordered {
+
+		private final ObjectProvider<EnrutadorReplicas> enrutador;
+
+		private EnrutamientoPostProcessor(ObjectProvider<EnrutadorReplicas> enrutador) {
+			this.enrutador = enrutador;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (bean instanceof DataSource primaria && !(bean instanceof EnrutadoDataSource)) {
+				EnrutadoDataSource dataSource = new EnrutadoDataSource(primaria);
+				dataSource.setReadOnlyDataSource(new LecturaReplicaDataSource(primaria, enrutador.getObject()));
+				return dataSource;
+			}
+			return bean;
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+	}
+
+	/**
+	 * Proxy perezoso que cierra el DataSource original al detener el contexto, ya que Spring infiere
+	 * el cierre sobre este objeto.
+	 */
+	private static final class EnrutadoDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+		private EnrutadoDataSource(DataSource primaria) {
+			super(primaria);
+		}
+
+		@Override
+		public void close() throws Exception {
+			if (obtainTargetDataSource() instanceof AutoCloseable cerrable) {
+				cerrable.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.codemakers.api.configs.cache;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Propaga la invalidacion de las caches de catalogo entre nodos con LISTEN/NOTIFY de PostgreSQL.
+ * La notificacion se emite dentro de la transaccion en curso, por lo que PostgreSQL solo la entrega
+ * despues del commit; el nodo que la emite tambien la recibe y vuelve a limpiar su copia local, lo que
+ * descarta valores cargados entre la escritura y el commit. Tras cada reconexion se limpian todas las
+ * caches, ya que las notificaciones emitidas mientras no habia escucha se pierden.
+ */
+@Component
+@Slf4j
+public class CatalogoCacheNotifier implements SmartLifecycle {
+
+	public static final String CANAL = "catalogo_cache";
+
+	private static final String SQL_NOTIFY = "SELECT pg_notify('" + CANAL + "', ?)";
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final List<Consumer<String>> suscriptores = new CopyOnWriteArrayList<>();
+	private final boolean habilitado;
+	private final int esperaMillis;
+
+	private volatile boolean running;
+	private Thread listener;
+
+	public CatalogoCacheNotifier(DataSource dataSource, JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			@Value("${catalogo.cache.notify.enabled:true}") boolean habilitado,
+			@Value("${catalogo.cache.notify.wait-millis:5000}") int esperaMillis) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.habilitado = habilitado;
+		this.esperaMillis = esperaMillis;
+	}
+
+	/**
+	 * Metodo encargado de registrar quien limpia la cache al recibir una notificacion.
+	 * El consumidor recibe el nombre de la cache, o null cuando se deben limpiar todas.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param suscriptor
+	 */
+	public void suscribir(Consumer<String> suscriptor) {
+		suscriptores.add(suscriptor);
+	}
+
+	/**
+	 * Metodo encargado de notificar a todos los nodos que la cache indicada debe limpiarse
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param cache
+	 */
+	public void publicar(String cache) {
+		if (!habilitado) {
+			return;
+		}
+		try {
+			// Se une a la transaccion de la escritura si existe; de lo contrario confirma la notificacion de inmediato.
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(SQL_NOTIFY, ResultSet::next, cache));
+		} catch (Exception e) {
+			log.warn("No fue posible notificar la invalidacion de la cache {}: {}", cache, e.getMessage());
+		}
+	}
+
+	@Override
+	public void start() {
+		if (!habilitado) {
+			return;
+		}
+		running = true;
+		listener = Thread.ofPlatform().daemon().name("catalogo-cache-listener").start(this::escuchar);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (listener != null) {
+			listener.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void escuchar() {
+		while (running) {
+			try (Connection connection = dataSource.getConnection()) {
+				connection.setAutoCommit(true);
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CANAL);
+				}
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				notificar(null);
+				log.info("Escuchando invalidaciones de catalogos en el canal {}", CANAL);
+				try {
+					while (running) {
+						PGNotification[] notificaciones = pgConnection.getNotifications(esperaMillis);
+						if (notificaciones != null) {
+							for (PGNotification notificacion : notificaciones) {
+								notificar(notificacion.getParameter());
+							}
+						}
+					}
+				} finally {
+					try (Statement statement = connection.createStatement()) {
+						statement.execute("UNLISTEN *");
+					}
+				}
+			} catch (SQLException e) {
+				if (running) {
+					log.warn("Se perdio la escucha de invalidaciones de catalogos: {}", e.getMessage());
+					esperar();
+				}
+			}
+		}
+	}
+
+	private void notificar(String cache) {
+		for (Consumer<String> suscriptor : suscriptores) {
+			try {
+				suscriptor.accept(cache);
+			} catch (RuntimeException e) {
+				log.warn("Error limpiando la cache {}: {}", cache, e.getMessage());
+			}
+		}
+	}
+
+	private void esperar() {
+		try {
+			Thread.sleep(esperaMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
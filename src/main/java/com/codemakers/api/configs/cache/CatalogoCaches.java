@@ -0,0 +1,42 @@
+package com.codemakers.api.configs.cache;
+
+import java.util.List;
+
+/**
+ * @version 1.0
+ * Nombres de las caches de los catalogos casi estaticos (tipos, estados y division geografica).
+ */
+public final class CatalogoCaches {
+
+	public static final String DEPARTAMENTO = "catalogo.departamento";
+	public static final String CIUDAD = "catalogo.ciudad";
+	public static final String CORREGIMIENTO = "catalogo.corregimiento";
+	public static final String TIPO_DOCUMENTO = "catalogo.tipo-documento";
+	public static final String TIPO_TARIFA = "catalogo.tipo-tarifa";
+	public static final String TIPO_CONTADOR = "catalogo.tipo-contador";
+	public static final String TIPO_NOVEDAD = "catalogo.tipo-novedad";
+	public static final String TIPO_PAGO = "catalogo.tipo-pago";
+	public static final String TIPO_DEUDA = "catalogo.tipo-deuda";
+	public static final String TIPO_CUENTA_CONTABLE = "catalogo.tipo-cuenta-contable";
+	public static final String PLAZO_PAGO = "catalogo.plazo-pago";
+	public static final String ESTADO = "catalogo.estado";
+	public static final String ROL = "catalogo.rol";
+	public static final String CATEGORIA_PRODUCTO = "catalogo.categoria-producto";
+
+	public static final List<String> TODAS = List.of(DEPARTAMENTO, CIUDAD, CORREGIMIENTO, TIPO_DOCUMENTO, TIPO_TARIFA,
+			TIPO_CONTADOR, TIPO_NOVEDAD, TIPO_PAGO, TIPO_DEUDA, TIPO_CUENTA_CONTABLE, PLAZO_PAGO, ESTADO, ROL,
+			CATEGORIA_PRODUCTO);
+
+	/**
+	 * Clave de la entrada que guarda el listado completo del catalogo.
+	 */
+	public static final String KEY_ALL = "'all'";
+
+	/**
+	 * Condicion para no guardar en cache las respuestas de error.
+	 */
+	public static final String UNLESS_ERROR = "!#result.statusCode.is2xxSuccessful()";
+
+	private CatalogoCaches() {
+	}
+}
@@ -0,0 +1,91 @@
+package com.codemakers.api.configs.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+
+/**
+ * @version 1.0
+ * Cache que, ademas de invalidar su copia local, notifica la invalidacion a los demas nodos.
+ * Las lecturas y escrituras se delegan sin cambios.
+ */
+public class NotificandoCache implements Cache {
+
+	private final Cache delegate;
+	private final CatalogoCacheNotifier notifier;
+
+	public NotificandoCache(Cache delegate, CatalogoCacheNotifier notifier) {
+		this.delegate = delegate;
+		this.notifier = notifier;
+	}
+
+	/**
+	 * Metodo encargado de limpiar solo la copia local, usado al recibir la notificacion de otro nodo
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	public void clearLocal() {
+		delegate.clear();
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		return delegate.get(key);
+	}
+
+	@Override
+	public <T> T get(Object key, Class<T> type) {
+		return delegate.get(key, type);
+	}
+
+	@Override
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return delegate.get(key, valueLoader);
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		delegate.put(key, value);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		return delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void evict(Object key) {
+		delegate.evict(key);
+		notifier.publicar(getName());
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean presente = delegate.evictIfPresent(key);
+		notifier.publicar(getName());
+		return presente;
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+		notifier.publicar(getName());
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean presente = delegate.invalidate();
+		notifier.publicar(getName());
+		return presente;
+	}
+}
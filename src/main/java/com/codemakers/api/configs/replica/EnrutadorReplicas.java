@@ -0,0 +1,226 @@
+package com.codemakers.api.configs.replica;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Administra los pools de las replicas de lectura. Una verificacion periodica mide el retraso de cada replica
+ * y solo las que responden con un retraso menor a {@code replicas.lag-maximo-segundos} reciben lecturas.
+ * Una replica solo se considera al dia si su receptor de WAL esta en streaming y ya aplico la posicion
+ * actual del WAL de la primaria; una replica que perdio su origen no recibe nada nuevo y no debe reportar
+ * retraso cero.
+ */
+@Slf4j
+public class EnrutadorReplicas implements DisposableBean {
+
+	public static final String METRICA_RETRASO = "acueducto.replica.retraso";
+	public static final String METRICA_DISPONIBLE = "acueducto.replica.disponible";
+
+	private static final String SQL_LSN_PRIMARIA = "SELECT CAST(pg_current_wal_lsn() AS text)";
+
+	/**
+	 * Estado de la replica: si esta en recuperacion, si el receptor de WAL esta conectado a su origen,
+	 * la ultima posicion aplicada y los segundos desde la ultima transaccion aplicada.
+	 */
+	private static final String SQL_ESTADO = """
+			SELECT pg_is_in_recovery(),
+			       EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming'),
+			       CAST(pg_last_wal_replay_lsn() AS text),
+			       COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+			""";
+
+	private final List<Replica> replicas;
+	private final ObjectProvider<DataSource> primaria;
+	private final double lagMaximoSegundos;
+	private final int timeoutSegundos;
+	private final AtomicInteger siguiente = new AtomicInteger();
+
+	private volatile List<Replica> disponibles = List.of();
+
+	public EnrutadorReplicas(List<HikariDataSource> pools, ObjectProvider<DataSource> primaria,
+			double lagMaximoSegundos, int timeoutSegundos, MeterRegistry meterRegistry) {
+		this.primaria = primaria;
+		this.lagMaximoSegundos = lagMaximoSegundos;
+		this.timeoutSegundos = timeoutSegundos;
+		this.replicas = pools.stream().map(Replica::new).toList();
+		if (meterRegistry != null) {
+			for (Replica replica : replicas) {
+				Gauge.builder(METRICA_RETRASO, replica, r -> r.retraso)
+						.tag("replica", replica.pool.getPoolName())
+						.baseUnit("seconds")
+						.register(meterRegistry);
+				Gauge.builder(METRICA_DISPONIBLE, replica, r -> r.disponible ? 1 : 0)
+						.tag("replica", replica.pool.getPoolName())
+						.register(meterRegistry);
+			}
+		}
+	}
+
+	/**
+	 * Metodo encargado de elegir, en turno rotativo, una replica disponible que ya aplico la posicion
+	 * {@code lsnMinimo} segun su ultima verificacion
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param lsnMinimo posicion del WAL que la lectura debe ver, o -1 si no hay restriccion
+	 * @return Devuelve el pool de la replica o vacio si ninguna cumple
+	 */
+	public Optional<HikariDataSource> siguiente(long lsnMinimo) {
+		List<Replica> actuales = disponibles;
+		if (actuales.isEmpty()) {
+			return Optional.empty();
+		}
+		int inicio = siguiente.getAndIncrement();
+		for (int i = 0; i < actuales.size(); i++) {
+			Replica replica = actuales.get(Math.floorMod(inicio + i, actuales.size()));
+			if (replica.lsnAplicado >= lsnMinimo) {
+				return Optional.of(replica.pool);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Metodo encargado de retirar una replica que fallo al entregar una conexion, hasta la siguiente verificacion
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param pool
+	 */
+	public void retirar(HikariDataSource pool) {
+		for (Replica replica : replicas) {
+			if (replica.pool == pool) {
+				replica.disponible = false;
+			}
+		}
+		disponibles = replicas.stream().filter(r -> r.disponible).toList();
+	}
+
+	/**
+	 * Metodo encargado de medir el retraso de cada replica y actualizar las que reciben lecturas
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(fixedDelayString = "${replicas.verificacion-millis:5000}")
+	public void verificar() {
+		long lsnPrimaria = lsnPrimaria();
+		List<Replica> actuales = new ArrayList<>(replicas.size());
+		for (Replica replica : replicas) {
+			boolean estaba = replica.disponible;
+			try (Connection conexion = replica.pool.getConnection(); Statement sentencia = conexion.createStatement()) {
+				sentencia.setQueryTimeout(timeoutSegundos);
+				boolean enRecuperacion;
+				boolean streaming;
+				long lsnAplicado;
+				double desdeUltimaAplicada;
+				try (ResultSet rs = sentencia.executeQuery(SQL_ESTADO)) {
+					rs.next();
+					enRecuperacion = rs.getBoolean(1);
+					streaming = rs.getBoolean(2);
+					lsnAplicado = lsn(rs.getString(3));
+					desdeUltimaAplicada = rs.getDouble(4);
+				}
+				if (!conexion.getAutoCommit()) {
+					conexion.rollback();
+				}
+				replica.lsnAplicado = lsnAplicado;
+				replica.retraso = lsnPrimaria >= 0 && lsnAplicado >= lsnPrimaria ? 0 : desdeUltimaAplicada;
+				replica.disponible = enRecuperacion && streaming && replica.retraso <= lagMaximoSegundos;
+				if (!enRecuperacion || !streaming) {
+					log.debug("Replica {} {}", replica.pool.getPoolName(),
+							enRecuperacion ? "sin conexion a su origen" : "no esta en recuperacion");
+				}
+			} catch (SQLException e) {
+				replica.disponible = false;
+				log.debug("Replica {} sin respuesta", replica.pool.getPoolName(), e);
+			}
+			if (estaba != replica.disponible) {
+				log.warn("Replica {} {} (retraso {} s)", replica.pool.getPoolName(),
+						replica.disponible ? "disponible" : "retirada", replica.retraso);
+			}
+			if (replica.disponible) {
+				actuales.add(replica);
+			}
+		}
+		disponibles = List.copyOf(actuales);
+	}
+
+	/**
+	 * Metodo encargado de convertir una posicion del WAL en texto ({@code 16/B374D848}) a un numero comparable
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param lsn
+	 * @return Devuelve la posicion o -1 si es nula o invalida
+	 */
+	public static long lsn(String lsn) {
+		if (lsn == null) {
+			return -1;
+		}
+		int separador = lsn.indexOf('/');
+		try {
+			return separador < 0 ? -1
+					: Long.parseLong(lsn.substring(0, separador), 16) << 32
+							| Long.parseLong(lsn.substring(separador + 1), 16);
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Metodo encargado de leer la posicion actual del WAL en la primaria
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve la posicion o -1 si no fue posible leerla
+	 */
+	public long lsnPrimaria() {
+		try (Connection conexion = primaria.getObject().getConnection(); Statement sentencia = conexion.createStatement()) {
+			sentencia.setQueryTimeout(timeoutSegundos);
+			long lsn;
+			try (ResultSet rs = sentencia.executeQuery(SQL_LSN_PRIMARIA)) {
+				rs.next();
+				lsn = lsn(rs.getString(1));
+			}
+			if (!conexion.getAutoCommit()) {
+				conexion.rollback();
+			}
+			return lsn;
+		} catch (SQLException e) {
+			log.warn("No fue posible leer la posicion del WAL de la primaria: {}", e.getMessage());
+			return -1;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		replicas.forEach(replica -> replica.pool.close());
+	}
+
+	private static final class Replica {
+
+		private final HikariDataSource pool;
+		private volatile boolean disponible;
+		private volatile double retraso;
+		private volatile long lsnAplicado = -1;
+
+		private Replica(HikariDataSource pool) {
+			this.pool = pool;
+		}
+	}
+}
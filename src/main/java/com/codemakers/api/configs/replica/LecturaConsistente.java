@@ -0,0 +1,114 @@
+package com.codemakers.api.configs.replica;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * @version 2.0
+ * Filtro que garantiza que un cliente lea sus propias escrituras. Las peticiones que modifican datos leen de la
+ * primaria; al responderlas {@link LsnEscrituraAdvice} entrega al cliente la posicion del WAL de la primaria en la
+ * cabecera y la cookie {@value #LSN}. Mientras el cliente la reenvie, sus lecturas solo van a replicas que ya
+ * aplicaron esa posicion. El estado viaja con el cliente, por lo que funciona igual en cualquier nodo.
+ * Fuera de una peticion (tareas programadas, executors propios) no hay posicion conocida y se lee de la primaria;
+ * el procesamiento asincrono de la peticion (descargas en streaming) hereda la posicion con {@link #propagar}.
+ */
+public class LecturaConsistente extends OncePerRequestFilter {
+
+	public static final String LSN = "X-Lectura-Lsn";
+	public static final String COOKIE_LSN = "lectura_lsn";
+
+	private static final long PRIMARIA = Long.MAX_VALUE;
+
+	private static final ThreadLocal<Long> LSN_MINIMO = new ThreadLocal<>();
+	private static final Set<String> METODOS_LECTURA = Set.of("GET", "HEAD", "OPTIONS");
+
+	/**
+	 * @return Devuelve true si la peticion en curso modifica datos y debe leer de la primaria
+	 */
+	public static boolean requierePrimaria() {
+		return lsnMinimo() == PRIMARIA;
+	}
+
+	/**
+	 * @return Devuelve la posicion del WAL que deben haber aplicado las replicas para la peticion en curso,
+	 *         -1 si no hay restriccion, o {@link Long#MAX_VALUE} (solo primaria) si el hilo no atiende una peticion
+	 */
+	public static long lsnMinimo() {
+		Long lsn = LSN_MINIMO.get();
+		return lsn != null ? lsn : PRIMARIA;
+	}
+
+	/**
+	 * Metodo encargado de llevar la posicion del WAL de la peticion al hilo que ejecuta su parte asincrona.
+	 * Se registra como {@link TaskDecorator} del executor de Spring MVC
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param tarea
+	 * @return Devuelve la tarea que corre con la posicion capturada en el hilo que la envio
+	 */
+	public static Runnable propagar(Runnable tarea) {
+		Long lsn = LSN_MINIMO.get();
+		if (lsn == null) {
+			return tarea;
+		}
+		return () -> {
+			Long previo = LSN_MINIMO.get();
+			LSN_MINIMO.set(lsn);
+			try {
+				tarea.run();
+			} finally {
+				if (previo != null) {
+					LSN_MINIMO.set(previo);
+				} else {
+					LSN_MINIMO.remove();
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return Devuelve el decorador que aplica {@link #propagar} a las tareas de un executor
+	 */
+	public static TaskDecorator decorador() {
+		return LecturaConsistente::propagar;
+	}
+
+	/**
+	 * @param metodo
+	 * @return Devuelve true si el metodo de la peticion modifica datos
+	 */
+	public static boolean esEscritura(String metodo) {
+		return !METODOS_LECTURA.contains(metodo);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		LSN_MINIMO.set(esEscritura(request.getMethod()) ? PRIMARIA : EnrutadorReplicas.lsn(lsnCliente(request)));
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			LSN_MINIMO.remove();
+		}
+	}
+
+	private static String lsnCliente(HttpServletRequest request) {
+		String cabecera = request.getHeader(LSN);
+		if (StringUtils.hasText(cabecera)) {
+			return cabecera.trim();
+		}
+		Cookie cookie = WebUtils.getCookie(request, COOKIE_LSN);
+		return cookie != null ? cookie.getValue() : null;
+	}
+}
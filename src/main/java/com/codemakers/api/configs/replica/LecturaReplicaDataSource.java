@@ -0,0 +1,60 @@
+package com.codemakers.api.configs.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * DataSource de las conexiones de solo lectura. Entrega una conexion de una replica que ya aplico las escrituras
+ * previas del cliente ({@link LecturaConsistente}); si la peticion modifica datos, si el hilo no atiende una
+ * peticion (tareas programadas y procesos en segundo plano, que leen lo que acaban de escribir), si ninguna replica
+ * esta al dia o si la replica elegida falla, usa la primaria.
+ */
+@Slf4j
+public class LecturaReplicaDataSource extends AbstractDataSource {
+
+	private final DataSource primaria;
+	private final EnrutadorReplicas enrutador;
+
+	public LecturaReplicaDataSource(DataSource primaria, EnrutadorReplicas enrutador) {
+		this.primaria = primaria;
+		this.enrutador = enrutador;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (LecturaConsistente.requierePrimaria()) {
+			return primaria.getConnection();
+		}
+		Optional<HikariDataSource> replica = enrutador.siguiente(LecturaConsistente.lsnMinimo());
+		if (replica.isEmpty()) {
+			return primaria.getConnection();
+		}
+		try {
+			return replica.get().getConnection();
+		} catch (SQLException e) {
+			log.warn("Replica {} no entrego conexion, se lee de la primaria: {}", replica.get().getPoolName(),
+					e.getMessage());
+			enrutador.retirar(replica.get());
+			return primaria.getConnection();
+		}
+	}
+
+	/**
+	 * Las replicas usan las credenciales de su pool, por lo que una conexion con credenciales propias
+	 * siempre se pide a la primaria.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primaria.getConnection(username, password);
+	}
+}
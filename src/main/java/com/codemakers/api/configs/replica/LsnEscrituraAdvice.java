@@ -0,0 +1,64 @@
+package com.codemakers.api.configs.replica;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @version 1.0
+ * Entrega al cliente, en las respuestas de las peticiones que modifican datos, la posicion actual del WAL de la
+ * primaria. Al escribir el cuerpo la transaccion del servicio ya se confirmo, por lo que la posicion incluye las
+ * escrituras de la peticion. La cookie vence a los {@code replicas.lectura-propia-segundos}; despues de ese tiempo
+ * las replicas disponibles ya estan dentro del retraso permitido.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "replicas", name = "habilitado", havingValue = "true")
+public class LsnEscrituraAdvice implements ResponseBodyAdvice<Object> {
+
+	private final EnrutadorReplicas enrutador;
+	private final Duration lecturaPropia;
+
+	public LsnEscrituraAdvice(EnrutadorReplicas enrutador,
+			@Value("${replicas.lectura-propia-segundos:10}") long lecturaPropia) {
+		this.enrutador = enrutador;
+		this.lecturaPropia = Duration.ofSeconds(lecturaPropia);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		if (!LecturaConsistente.esEscritura(request.getMethod().name())) {
+			return body;
+		}
+		long lsn = enrutador.lsnPrimaria();
+		if (lsn < 0) {
+			return body;
+		}
+		String valor = Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+		response.getHeaders().set(LecturaConsistente.LSN, valor);
+		response.getHeaders().add(HttpHeaders.SET_COOKIE, ResponseCookie.from(LecturaConsistente.COOKIE_LSN, valor)
+				.path("/")
+				.httpOnly(true)
+				.sameSite("Lax")
+				.maxAge(lecturaPropia)
+				.build()
+				.toString());
+		return body;
+	}
+}
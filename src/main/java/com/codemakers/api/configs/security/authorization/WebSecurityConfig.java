@@ -37,7 +37,9 @@ public class WebSecurityConfig {
 	        "/v3/api-docs",
 	        "/v3/api-docs/**",
 	        "/swagger-ui/**",
-	        "/swagger-ui.html"
+	        "/swagger-ui.html",
+	        "/actuator/health",
+	        "/actuator/prometheus"
 	 };
 
     /**
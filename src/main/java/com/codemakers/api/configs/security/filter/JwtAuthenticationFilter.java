@@ -1,7 +1,11 @@
 package com.codemakers.api.configs.security.filter;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,9 +14,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.codemakers.api.configs.security.utils.JwtUtil;
+import com.codemakers.api.configs.security.utils.TokenClaims;
+import com.codemakers.api.configs.security.utils.UsuarioEstadoCache;
+import com.codemakers.api.configs.security.utils.UsuarioPrincipal;
 import com.codemakers.api.service.impl.AutenticacionServiceImpl;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,42 +33,86 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	public static final String METRIC_NAME = "acueducto.jwt.filtro";
+
+	private static final String AUTENTICADO = "autenticado";
+	private static final String RECHAZADO = "rechazado";
+	private static final String SIN_TOKEN = "sin_token";
+
 	private final AutenticacionServiceImpl usuarioService;
 	private final JwtUtil jwtTokenUtil;
+	private final UsuarioEstadoCache usuarioEstadoCache;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	@Value("${jwt.stateless.enabled:false}")
+	private boolean statelessPrincipal;
+
+	@Value("${jwt.stateless.revocation-check:true}")
+	private boolean revocationCheck;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
 			throws ServletException, IOException {
-		final String requestTokenHeader = request.getHeader("token");
-		String username = null;
-		String jwtToken = null;
-		if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-			jwtToken = requestTokenHeader.substring(7);
-			try {
-				username = jwtTokenUtil.getUsernameFromToken(jwtToken);
-			} catch (IllegalArgumentException e) {
-				log.error(e.getLocalizedMessage());
-			} catch (ExpiredJwtException e) {
-				log.error(e.getLocalizedMessage());
+		long start = System.nanoTime();
+		String resultado = SIN_TOKEN;
+		try {
+			final String requestTokenHeader = request.getHeader("token");
+			TokenClaims claims = null;
+			if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
+				claims = jwtTokenUtil.validateToken(requestTokenHeader.substring(7)).orElse(null);
+				resultado = RECHAZADO;
+			} else {
+				log.warn("JWT Token does not begin with Bearer String");
 			}
-		} else {
-			log.warn("JWT Token does not begin with Bearer String");
-		}
 
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+			if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-			UserDetails userDetails = usuarioService.loadUserByUsername(username);
+				UserDetails userDetails = resolvePrincipal(claims);
 
-			if (jwtTokenUtil.validateToken(jwtToken, userDetails)) {
+				if (userDetails != null) {
 
-				UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-						userDetails, null, userDetails.getAuthorities());
-				usernamePasswordAuthenticationToken
-						.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-				SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+					UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+							userDetails, null, userDetails.getAuthorities());
+					usernamePasswordAuthenticationToken
+							.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+					resultado = AUTENTICADO;
+				}
 			}
+		} finally {
+			// Solo se mide la autenticacion; el resto de la cadena queda en http.server.requests.
+			timer(resultado).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 		}
 		chain.doFilter(request, response);
 	}
 
+	/**
+	 * Metodo encargado de construir el principal de la peticion.
+	 * En modo sin estado se usan los datos firmados en el token; los tokens emitidos
+	 * antes de incluir la identidad siguen resolviendose contra la base de datos.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param claims
+	 * @return Devuelve el principal o null si el usuario fue revocado
+	 */
+	private UserDetails resolvePrincipal(TokenClaims claims) {
+		if (statelessPrincipal && claims.hasIdentity()) {
+			if (revocationCheck && !usuarioEstadoCache.isActive(claims.usuarioId())) {
+				log.warn("Usuario inactivo con token vigente: {}", claims.usuarioId());
+				return null;
+			}
+			return UsuarioPrincipal.from(claims);
+		}
+		UserDetails userDetails = usuarioService.loadUserByUsername(claims.subject());
+		return claims.subject().equals(userDetails.getUsername()) ? userDetails : null;
+	}
+
+	private Timer timer(String resultado) {
+		return timers.computeIfAbsent(resultado, key -> Timer.builder(METRIC_NAME)
+				.description("Tiempo de validacion del token y construccion del principal")
+				.tag("resultado", resultado)
+				.register(meterRegistry));
+	}
+
 }
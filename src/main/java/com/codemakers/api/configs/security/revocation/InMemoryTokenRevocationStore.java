@@ -0,0 +1,126 @@
+package com.codemakers.api.configs.security.revocation;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Almacen de revocaciones en memoria local. Cada entrada expira junto con el token revocado.
+ * Tambien se usa como copia local del almacen JDBC.
+ * <p>
+ * {@code jwt.revocation.max-size} debe cubrir todas las revocaciones vigentes a la vez: revocaciones por hora en el
+ * pico por horas de vigencia del token, con margen (cada entrada ocupa unos 150 bytes). Si el limite se alcanza,
+ * Caffeine desaloja entradas de tokens que aun no vencen y esos tokens vuelven a ser aceptados. Cada desalojo asi
+ * se registra como error y en la metrica {@value #METRICA_DESALOJADAS}, y {@link #desalojosVigentes()} lo indica
+ * hasta que vence el ultimo token desalojado, para que el almacen JDBC consulte la base de datos mientras tanto.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+	public static final String METRICA_DESALOJADAS = "acueducto.jwt.revocaciones.desalojadas";
+	private static final long AVISO_CADA = 1000;
+
+	private final Cache<String, Long> revoked;
+	private final long maxSize;
+	private final Counter desalojadas;
+	private final AtomicLong totalDesalojadas = new AtomicLong();
+	private final AtomicLong desalojadasHasta = new AtomicLong();
+
+	public InMemoryTokenRevocationStore(long maxSize) {
+		this(maxSize, Metrics.globalRegistry);
+	}
+
+	@Autowired
+	public InMemoryTokenRevocationStore(@Value("${jwt.revocation.max-size:100000}") long maxSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this(maxSize, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	InMemoryTokenRevocationStore(long maxSize, MeterRegistry meterRegistry) {
+		this.maxSize = maxSize;
+		this.desalojadas = Counter.builder(METRICA_DESALOJADAS)
+				.description("Revocaciones vigentes desalojadas por jwt.revocation.max-size")
+				.register(meterRegistry);
+		this.revoked = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new UntilTokenExpires())
+				.evictionListener((String tokenId, Long expiresAtMillis, RemovalCause cause) -> {
+					if (cause == RemovalCause.SIZE && expiresAtMillis != null
+							&& expiresAtMillis > System.currentTimeMillis()) {
+						alDesalojar(expiresAtMillis);
+					}
+				})
+				.build();
+	}
+
+	@Override
+	public void revoke(String tokenId, Instant expiresAt) {
+		if (tokenId != null && expiresAt != null && expiresAt.isAfter(Instant.now())) {
+			revoked.put(tokenId, expiresAt.toEpochMilli());
+		}
+	}
+
+	@Override
+	public boolean isRevoked(String tokenId) {
+		return tokenId != null && revoked.getIfPresent(tokenId) != null;
+	}
+
+	/**
+	 * Metodo encargado de indicar si se desalojaron revocaciones de tokens que aun no vencen, en cuyo caso una
+	 * consulta negativa de este almacen no es confiable
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve true mientras alguno de los tokens desalojados siga vigente
+	 */
+	public boolean desalojosVigentes() {
+		return desalojadasHasta.get() > System.currentTimeMillis();
+	}
+
+	private void alDesalojar(long expiresAtMillis) {
+		desalojadas.increment();
+		desalojadasHasta.accumulateAndGet(expiresAtMillis, Math::max);
+		long total = totalDesalojadas.incrementAndGet();
+		if (total == 1 || total % AVISO_CADA == 0) {
+			log.error("Se alcanzo jwt.revocation.max-size={} y se han desalojado {} revocaciones de tokens vigentes; "
+					+ "esos tokens vuelven a ser aceptados. Aumente el limite o use jwt.revocation.store=jdbc",
+					maxSize, total);
+		}
+	}
+
+	private static final class UntilTokenExpires implements Expiry<String, Long> {
+
+		@Override
+		public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, expiresAtMillis, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
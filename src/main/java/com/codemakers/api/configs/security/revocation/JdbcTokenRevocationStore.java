@@ -0,0 +1,104 @@
+package com.codemakers.api.configs.security.revocation;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Almacen de revocaciones compartido entre nodos respaldado por la tabla public.token_revocado.
+ * Las consultas de pertenencia se resuelven contra una copia local que se sincroniza periodicamente,
+ * por lo que la validacion de cada peticion no consulta la base de datos. La sincronizacion relee
+ * un margen de 60 segundos para no perder revocaciones confirmadas fuera de orden.
+ * Si la copia local llego a {@code jwt.revocation.max-size} y desalojo revocaciones vigentes, las consultas que no
+ * encuentran el token en la copia se confirman contra la tabla hasta que vence el ultimo token desalojado.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+	private static final String SQL_INSERT = "INSERT INTO public.token_revocado (jti, fecha_expiracion, fecha_revocacion) "
+			+ "VALUES (:jti, :expiracion, now()) ON CONFLICT (jti) DO NOTHING";
+	private static final String SQL_RECENT = "SELECT jti, fecha_expiracion, fecha_revocacion FROM public.token_revocado "
+			+ "WHERE fecha_revocacion > CAST(:desde AS timestamp) - INTERVAL '60 seconds' AND fecha_expiracion > now()";
+	private static final String SQL_EXISTE = "SELECT EXISTS (SELECT 1 FROM public.token_revocado "
+			+ "WHERE jti = :jti AND fecha_expiracion > now())";
+	private static final String SQL_PURGE = "DELETE FROM public.token_revocado WHERE fecha_expiracion <= now()";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final InMemoryTokenRevocationStore local;
+
+	private volatile Timestamp lastSync = new Timestamp(0);
+
+	public JdbcTokenRevocationStore(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+			@Value("${jwt.revocation.max-size:100000}") long maxSize, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.local = new InMemoryTokenRevocationStore(maxSize,
+				meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	@Override
+	@Transactional
+	public void revoke(String tokenId, Instant expiresAt) {
+		if (tokenId == null || expiresAt == null) {
+			return;
+		}
+		MapSqlParameterSource parameters = new MapSqlParameterSource();
+		parameters.addValue("jti", tokenId);
+		parameters.addValue("expiracion", Timestamp.from(expiresAt));
+		namedParameterJdbcTemplate.update(SQL_INSERT, parameters);
+		local.revoke(tokenId, expiresAt);
+	}
+
+	@Override
+	public boolean isRevoked(String tokenId) {
+		if (local.isRevoked(tokenId)) {
+			return true;
+		}
+		return tokenId != null && local.desalojosVigentes() && Boolean.TRUE.equals(namedParameterJdbcTemplate
+				.queryForObject(SQL_EXISTE, new MapSqlParameterSource("jti", tokenId), Boolean.class));
+	}
+
+	/**
+	 * Metodo encargado de traer a la copia local las revocaciones registradas por otros nodos
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.sync-millis:5000}")
+	@Transactional(readOnly = true)
+	public void sync() {
+		MapSqlParameterSource parameters = new MapSqlParameterSource("desde", lastSync);
+		namedParameterJdbcTemplate.query(SQL_RECENT, parameters, rs -> {
+			Timestamp revocado = rs.getTimestamp("fecha_revocacion");
+			local.revoke(rs.getString("jti"), rs.getTimestamp("fecha_expiracion").toInstant());
+			if (revocado.after(lastSync)) {
+				lastSync = revocado;
+			}
+		});
+	}
+
+	/**
+	 * Metodo encargado de eliminar las revocaciones de tokens ya vencidos
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.purge-millis:3600000}")
+	@Transactional
+	public void purge() {
+		int eliminados = namedParameterJdbcTemplate.update(SQL_PURGE, new MapSqlParameterSource());
+		log.debug("Revocaciones vencidas eliminadas: {}", eliminados);
+	}
+}
@@ -0,0 +1,29 @@
+package com.codemakers.api.configs.security.revocation;
+
+import java.time.Instant;
+
+/**
+ * @version 1.0
+ * Almacen de tokens revocados indexado por el identificador del token (jti).
+ * Cada registro solo se conserva hasta la fecha de vencimiento del token revocado.
+ */
+public interface TokenRevocationStore {
+
+	/**
+	 * Metodo encargado de revocar un token hasta su fecha de vencimiento
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param tokenId
+	 * @param expiresAt
+	 */
+	void revoke(String tokenId, Instant expiresAt);
+
+	/**
+	 * Metodo encargado de validar si un token fue revocado
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param tokenId
+	 * @return Devuelve true si el token esta revocado y aun no vence
+	 */
+	boolean isRevoked(String tokenId);
+}
@@ -0,0 +1,116 @@
+package com.codemakers.api.configs.security.utils;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.codemakers.api.utils.EncriptarDesencriptar;
+import com.codemakers.commons.entities.ParametrosSistemaEntity;
+import com.codemakers.commons.exceptions.ProcessGenericException;
+import com.codemakers.commons.repositories.ParametrosSistemaRepository;
+import com.codemakers.commons.utils.Constantes;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Clase encargada de mantener en memoria la llave de firma de los tokens.
+ * La llave se construye una sola vez a partir del parametro {@link Constantes#KEY_TOKEN}
+ * y se revalida contra la base de datos como maximo cada {@code jwt.key-refresh-seconds}.
+ */
+@Component
+@Slf4j
+public class JwtKeyProvider {
+
+	public static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS512;
+
+	private final ParametrosSistemaRepository parametrosSistemaRepository;
+	private final EncriptarDesencriptar encriptarDesencriptar;
+	private final long refreshNanos;
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	private volatile KeyMaterial current;
+
+	public JwtKeyProvider(ParametrosSistemaRepository parametrosSistemaRepository,
+			EncriptarDesencriptar encriptarDesencriptar,
+			@Value("${jwt.key-refresh-seconds:300}") long refreshSeconds) {
+		this.parametrosSistemaRepository = parametrosSistemaRepository;
+		this.encriptarDesencriptar = encriptarDesencriptar;
+		this.refreshNanos = refreshSeconds * 1_000_000_000L;
+	}
+
+	/**
+	 * Metodo encargado de obtener la llave de firma vigente
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve la llave HMAC usada para firmar y verificar tokens
+	 */
+	public SecretKey getSigningKey() {
+		return material().key();
+	}
+
+	/**
+	 * Metodo encargado de obtener el parser de tokens asociado a la llave vigente
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve un parser inmutable y seguro para uso concurrente
+	 */
+	public JwtParser getParser() {
+		return material().parser();
+	}
+
+	/**
+	 * Metodo encargado de forzar la recarga de la llave en la siguiente lectura
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	public void invalidate() {
+		current = null;
+	}
+
+	private KeyMaterial material() {
+		KeyMaterial material = current;
+		if (material != null && System.nanoTime() - material.loadedAt() < refreshNanos) {
+			return material;
+		}
+		refreshLock.lock();
+		try {
+			material = current;
+			if (material != null && System.nanoTime() - material.loadedAt() < refreshNanos) {
+				return material;
+			}
+			current = load(material);
+			return current;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private KeyMaterial load(KeyMaterial previous) {
+		ParametrosSistemaEntity parametro = parametrosSistemaRepository.findByLlave(Constantes.KEY_TOKEN)
+				.orElseThrow(() -> new ProcessGenericException(""));
+		String valorCifrado = parametro.getValorParametro();
+
+		if (previous != null && Objects.equals(previous.valorCifrado(), valorCifrado)) {
+			return new KeyMaterial(valorCifrado, previous.key(), previous.parser(), System.nanoTime());
+		}
+
+		log.info("Cargando llave de firma de tokens");
+		byte[] keyBytes = Decoders.BASE64.decode(encriptarDesencriptar.desencriptar(valorCifrado));
+		SecretKey key = new SecretKeySpec(keyBytes, ALGORITHM.getJcaName());
+		JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+		return new KeyMaterial(valorCifrado, key, parser, System.nanoTime());
+	}
+
+	private record KeyMaterial(String valorCifrado, SecretKey key, JwtParser parser, long loadedAt) {
+	}
+}
@@ -2,23 +2,24 @@ package com.codemakers.api.configs.security.utils;
 
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import com.codemakers.api.utils.EncriptarDesencriptar;
+import com.codemakers.api.configs.security.revocation.TokenRevocationStore;
 import com.codemakers.commons.entities.ParametrosSistemaEntity;
 import com.codemakers.commons.exceptions.ProcessGenericException;
 import com.codemakers.commons.repositories.ParametrosSistemaRepository;
 import com.codemakers.commons.utils.Constantes;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,7 +35,9 @@ public class JwtUtil {
 	
 	private final ParametrosSistemaRepository parametrosSistemaRepository;
 	
-	private final EncriptarDesencriptar encriptarDesencriptar;
+	private final JwtKeyProvider jwtKeyProvider;
+	
+	private final TokenRevocationStore revocationStore;
 	
 	 /**
      * Metodo encargado de obtener parametro por llave
@@ -48,15 +51,35 @@ public class JwtUtil {
 		return this.parametrosSistemaRepository.findByLlave(key).orElseThrow(() -> new ProcessGenericException(""));
 	}
 	
-	private final Set<String> blacklistedTokens = new HashSet<>();
-
-    public void invalidateToken(String token) {
-        blacklistedTokens.add(token);
-    }
+	/**
+	 * Metodo encargado de revocar el token hasta su fecha de vencimiento
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param token
+	 */
+	public void invalidateToken(String token) {
+		try {
+			Claims claims = getAllClaimsFromToken(token);
+			revocationStore.revoke(TokenClaims.tokenId(claims, token), claims.getExpiration().toInstant());
+		} catch (ExpiredJwtException e) {
+			log.debug("Token ya vencido, no requiere revocacion");
+		}
+	}
 
-    public boolean isTokenInvalidated(String token) {
-        return blacklistedTokens.contains(token);
-    }
+	/**
+	 * Metodo encargado de validar si el token fue revocado
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param token
+	 * @return Devuelve true si el token fue revocado, vencio o no es valido
+	 */
+	public boolean isTokenInvalidated(String token) {
+		try {
+			return revocationStore.isRevoked(TokenClaims.tokenId(getAllClaimsFromToken(token), token));
+		} catch (JwtException | IllegalArgumentException e) {
+			return true;
+		}
+	}
 	
 	/**
 	 * 
@@ -103,20 +126,7 @@ public class JwtUtil {
 	 * @return Devuelve los datos  del token en Reclamos
 	 */
 	private Claims getAllClaimsFromToken(String token) {
-		return Jwts.parser().setSigningKey(encriptarDesencriptar.desencriptar(this.getParameter(Constantes.KEY_TOKEN).getValorParametro())).parseClaimsJws(token).getBody();
-	}
-
-	/**
-	 * Metodo encargado de validar si el token ya expiro
-	 * @author dchavarro.ext
-	 * @since 21-08-2024
-	 * @version 1.0   
-	 * @param token
-	 * @return Devuelve true si expiro y false si no
-	 */
-	private Boolean isTokenExpired(String token) {
-		final Date expiration = getExpirationDateFromToken(token);
-		return expiration.before(new Date());
+		return jwtKeyProvider.getParser().parseClaimsJws(token).getBody();
 	}
 
 	public String generateToken(String clientId) {
@@ -124,6 +134,18 @@ public class JwtUtil {
 		return doGenerateToken(claims, clientId);
 	}
 
+	/**
+	 * Metodo encargado de generar el token incluyendo reclamos adicionales
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param clientId
+	 * @param claims
+	 * @return Devuelve el token generado
+	 */
+	public String generateToken(String clientId, Map<String, Object> claims) {
+		return doGenerateToken(new HashMap<>(claims), clientId);
+	}
+
 	/**
 	 * Metodo encargado de generar el token
 	 * @author dchavarro.ext
@@ -135,15 +157,39 @@ public class JwtUtil {
 	 */
 	private String doGenerateToken(Map<String, Object> claims, String clientId) {
 
-		return Jwts.builder().setClaims(claims).setSubject(clientId).setIssuedAt(new Date(System.currentTimeMillis()))
+		return Jwts.builder().setClaims(claims).setId(UUID.randomUUID().toString()).setSubject(clientId).setIssuedAt(new Date(System.currentTimeMillis()))
 				.setExpiration(new Date(System.currentTimeMillis() + Long.valueOf(this.getParameter(Constantes.TIEMPO_VIGENCIA_TOKEN).getValorParametro())))
-				.signWith(SignatureAlgorithm.HS512, encriptarDesencriptar.desencriptar(this.getParameter(Constantes.KEY_TOKEN).getValorParametro())).compact();
+				.signWith(jwtKeyProvider.getSigningKey(), JwtKeyProvider.ALGORITHM).compact();
 	}
 	
 	public Date getIssuedAtDateFromToken(String token) {
 	    return getClaimFromToken(token, Claims::getIssuedAt);
 	}
 	
+	/**
+	 * Metodo encargado de validar el token verificando firma y vigencia en un solo parseo
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param token
+	 * @return Devuelve los datos del token si es valido, de lo contrario vacio
+	 */
+	public Optional<TokenClaims> validateToken(String token) {
+		if (token == null || token.isBlank()) {
+			return Optional.empty();
+		}
+		try {
+			TokenClaims claims = TokenClaims.from(getAllClaimsFromToken(token), token);
+			if (revocationStore.isRevoked(claims.tokenId())) {
+				log.warn("Token revocado: {}", claims.tokenId());
+				return Optional.empty();
+			}
+			return Optional.of(claims);
+		} catch (JwtException | IllegalArgumentException e) {
+			log.warn("Token invalido: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
 	/**
 	 * Metodo encargado de validar si el token es valido
 	 * @author dchavarro.ext
@@ -154,10 +200,8 @@ public class JwtUtil {
 	 * @return Devuelve true si es valido de lo contrario false
 	 */
 	public boolean validateToken(String token, UserDetails userDetails) {
-	    final String usuario = getUsernameFromToken(token);
-	    final Date issuedAt = getIssuedAtDateFromToken(token);
-
-	    return usuario.equals(userDetails.getUsername())
-	            && !isTokenExpired(token);
+		return validateToken(token)
+				.filter(claims -> claims.subject().equals(userDetails.getUsername()))
+				.isPresent();
 	}
-}
\ No newline at end of file
+}
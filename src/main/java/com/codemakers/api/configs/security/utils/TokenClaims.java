@@ -0,0 +1,93 @@
+package com.codemakers.api.configs.security.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * @version 1.0
+ * Vista inmutable de los datos de un token ya verificado.
+ * Se construye una sola vez por peticion a partir de los {@link Claims} del token.
+ */
+public record TokenClaims(String tokenId, String subject, Date issuedAt, Date expiration, Integer usuarioId,
+		Integer rolId, Integer personaId, Integer empresaId) {
+
+	public static final String CLAIM_USUARIO = "uid";
+	public static final String CLAIM_ROL = "rol";
+	public static final String CLAIM_PERSONA = "per";
+	public static final String CLAIM_EMPRESA = "emp";
+
+	/**
+	 * Metodo encargado de copiar los datos requeridos de los reclamos del token
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param claims
+	 * @param token
+	 * @return Devuelve la vista inmutable del token
+	 */
+	public static TokenClaims from(Claims claims, String token) {
+		return new TokenClaims(tokenId(claims, token), claims.getSubject(), claims.getIssuedAt(),
+				claims.getExpiration(), claims.get(CLAIM_USUARIO, Integer.class), claims.get(CLAIM_ROL, Integer.class),
+				claims.get(CLAIM_PERSONA, Integer.class), claims.get(CLAIM_EMPRESA, Integer.class));
+	}
+
+	/**
+	 * Metodo encargado de obtener el identificador del token. Los tokens emitidos sin jti
+	 * se identifican con el hash SHA-256 del token completo.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param claims
+	 * @param token
+	 * @return Devuelve el identificador del token
+	 */
+	public static String tokenId(Claims claims, String token) {
+		if (claims.getId() != null) {
+			return claims.getId();
+		}
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Metodo encargado de construir los reclamos de identidad que se firman en el token
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param usuarioId
+	 * @param rolId
+	 * @param personaId
+	 * @param empresaId
+	 * @return Devuelve los reclamos sin valores nulos
+	 */
+	public static Map<String, Object> identityClaims(Integer usuarioId, Integer rolId, Integer personaId,
+			Integer empresaId) {
+		Map<String, Object> claims = new HashMap<>();
+		putIfPresent(claims, CLAIM_USUARIO, usuarioId);
+		putIfPresent(claims, CLAIM_ROL, rolId);
+		putIfPresent(claims, CLAIM_PERSONA, personaId);
+		putIfPresent(claims, CLAIM_EMPRESA, empresaId);
+		return claims;
+	}
+
+	/**
+	 * @return Devuelve true si el token trae la identidad necesaria para construir el principal sin consultar la base de datos
+	 */
+	public boolean hasIdentity() {
+		return usuarioId != null;
+	}
+
+	private static void putIfPresent(Map<String, Object> claims, String name, Integer value) {
+		if (value != null) {
+			claims.put(name, value);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.codemakers.api.configs.security.utils;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.codemakers.commons.repositories.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Cache acotada del estado (activo/inactivo) de los usuarios.
+ * Se usa para revocar el acceso de usuarios desactivados sin consultar la base de datos en cada peticion.
+ * La consulta se hace fuera de la cache y no dentro de un cargador, que se ejecuta bajo el bloqueo del mapa
+ * interno y fijaria el hilo virtual a su portador mientras espera la base de datos.
+ */
+@Component
+@Slf4j
+public class UsuarioEstadoCache {
+
+	private final UsuarioRepository usuarioRepository;
+	private final Cache<Integer, Boolean> estados;
+
+	public UsuarioEstadoCache(UsuarioRepository usuarioRepository,
+			@Value("${jwt.stateless.status-cache-ttl-seconds:60}") long ttlSeconds,
+			@Value("${jwt.stateless.status-cache-max-size:10000}") long maxSize) {
+		this.usuarioRepository = usuarioRepository;
+		this.estados = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+	}
+
+	/**
+	 * Metodo encargado de validar si el usuario sigue activo
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param usuarioId
+	 * @return Devuelve true si el usuario existe y esta activo
+	 */
+	public boolean isActive(Integer usuarioId) {
+		Boolean activo = estados.getIfPresent(usuarioId);
+		if (activo == null) {
+			activo = loadEstado(usuarioId);
+			estados.put(usuarioId, activo);
+		}
+		return activo;
+	}
+
+	/**
+	 * Metodo encargado de descartar el estado en cache de un usuario modificado
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param usuarioId
+	 */
+	public void invalidate(Integer usuarioId) {
+		if (usuarioId != null) {
+			estados.invalidate(usuarioId);
+		}
+	}
+
+	private Boolean loadEstado(Integer usuarioId) {
+		log.debug("Consultando estado del usuario: {}", usuarioId);
+		return usuarioRepository.findById(usuarioId)
+				.map(usuario -> Boolean.TRUE.equals(usuario.getActivo()))
+				.orElse(Boolean.FALSE);
+	}
+}
@@ -0,0 +1,45 @@
+package com.codemakers.api.configs.security.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * @version 1.0
+ * Principal construido unicamente con los datos firmados en el token.
+ * No contiene credenciales y no requiere consultar la tabla de usuarios.
+ */
+public record UsuarioPrincipal(Integer id, String nombre, Integer rolId, Integer personaId, Integer empresaId)
+		implements UserDetails {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Metodo encargado de construir el principal a partir de un token verificado
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param claims
+	 * @return Devuelve el principal del usuario autenticado
+	 */
+	public static UsuarioPrincipal from(TokenClaims claims) {
+		return new UsuarioPrincipal(claims.usuarioId(), claims.subject(), claims.rolId(), claims.personaId(),
+				claims.empresaId());
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public String getUsername() {
+		return nombre;
+	}
+}
@@ -0,0 +1,24 @@
+package com.codemakers.api.configs.sql;
+
+/**
+ * @version 1.0
+ * Observador que acumula las sentencias y filas en la {@link EstadisticaSql} abierta en el hilo, si la hay.
+ */
+public class ContadorSql implements ObservadorSql {
+
+	@Override
+	public void sentencia(String sql, long nanos) {
+		EstadisticaSql estadistica = EstadisticaSql.actual();
+		if (estadistica != null) {
+			estadistica.registrarSentencia(sql);
+		}
+	}
+
+	@Override
+	public void fila() {
+		EstadisticaSql estadistica = EstadisticaSql.actual();
+		if (estadistica != null) {
+			estadistica.registrarFila();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.codemakers.api.configs.sql;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * @version 1.0
+ * Filtro que asigna a cada peticion un identificador de correlacion. Se toma de la cabecera
+ * {@code X-Correlation-Id} si es valida o se genera uno nuevo; se publica en el MDC para los logs
+ * y se devuelve en la respuesta.
+ */
+public class CorrelacionFilter extends OncePerRequestFilter {
+
+	public static final String CABECERA = "X-Correlation-Id";
+	public static final String MDC_CORRELACION = "correlationId";
+
+	private static final Pattern VALIDO = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String correlacion = request.getHeader(CABECERA);
+		if (correlacion == null || !VALIDO.matcher(correlacion).matches()) {
+			correlacion = UUID.randomUUID().toString();
+		}
+		MDC.put(MDC_CORRELACION, correlacion);
+		response.setHeader(CABECERA, correlacion);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_CORRELACION);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.codemakers.api.configs.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * @version 1.0
+ * Conteo de las sentencias JDBC y filas leidas durante una peticion (o un bloque medido).
+ * Cada sentencia se agrupa por su forma, es decir el SQL sin literales, para detectar las que se
+ * repiten (N+1). Solo se cuenta lo ejecutado en el hilo que abrio la medicion.
+ */
+public final class EstadisticaSql {
+
+	private static final ThreadLocal<EstadisticaSql> ACTUAL = new ThreadLocal<>();
+
+	private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern LITERAL_NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern LISTA_IN = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+	private final EstadisticaSql padre;
+	private final Map<String, Integer> formas = new HashMap<>();
+	private int sentencias;
+	private long filas;
+
+	private EstadisticaSql(EstadisticaSql padre) {
+		this.padre = padre;
+	}
+
+	/**
+	 * Metodo encargado de abrir la medicion del hilo actual
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve la estadistica que acumula las sentencias del hilo
+	 */
+	public static EstadisticaSql iniciar() {
+		EstadisticaSql estadistica = new EstadisticaSql(ACTUAL.get());
+		ACTUAL.set(estadistica);
+		return estadistica;
+	}
+
+	/**
+	 * Metodo encargado de cerrar la medicion abierta por {@link #iniciar()}
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param estadistica
+	 */
+	public static void finalizar(EstadisticaSql estadistica) {
+		if (estadistica.padre == null) {
+			ACTUAL.remove();
+		} else {
+			ACTUAL.set(estadistica.padre);
+		}
+	}
+
+	/**
+	 * Metodo encargado de medir las sentencias ejecutadas por un bloque de codigo.
+	 * Pensado para las pruebas de integracion que validan el presupuesto de un servicio.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param accion
+	 * @return Devuelve la estadistica del bloque
+	 */
+	public static EstadisticaSql medir(Runnable accion) {
+		EstadisticaSql estadistica = iniciar();
+		try {
+			accion.run();
+		} finally {
+			finalizar(estadistica);
+		}
+		return estadistica;
+	}
+
+	/**
+	 * @return Devuelve la medicion abierta en el hilo actual o null si no hay ninguna
+	 */
+	public static EstadisticaSql actual() {
+		return ACTUAL.get();
+	}
+
+	void registrarSentencia(String sql) {
+		String forma = forma(sql);
+		for (EstadisticaSql e = this; e != null; e = e.padre) {
+			e.sentencias++;
+			e.formas.merge(forma, 1, Integer::sum);
+		}
+	}
+
+	void registrarFila() {
+		for (EstadisticaSql e = this; e != null; e = e.padre) {
+			e.filas++;
+		}
+	}
+
+	public int getSentencias() {
+		return sentencias;
+	}
+
+	public long getFilas() {
+		return filas;
+	}
+
+	/**
+	 * Metodo encargado de obtener las formas de sentencia que se ejecutaron al menos {@code umbral} veces
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param umbral
+	 * @return Devuelve las formas repetidas con su numero de ejecuciones
+	 */
+	public Map<String, Integer> repetidas(int umbral) {
+		Map<String, Integer> repetidas = new LinkedHashMap<>();
+		formas.forEach((forma, veces) -> {
+			if (veces >= umbral) {
+				repetidas.put(forma, veces);
+			}
+		});
+		return repetidas;
+	}
+
+	static String forma(String sql) {
+		if (sql == null) {
+			return "";
+		}
+		String forma = LITERAL_TEXTO.matcher(sql).replaceAll("?");
+		forma = LITERAL_NUMERO.matcher(forma).replaceAll("?");
+		forma = LISTA_IN.matcher(forma).replaceAll("(?)");
+		return ESPACIOS.matcher(forma).replaceAll(" ").trim();
+	}
+}
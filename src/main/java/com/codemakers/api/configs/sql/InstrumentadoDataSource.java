@@ -0,0 +1,114 @@
+package com.codemakers.api.configs.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * @version 1.0
+ * DataSource que informa a los {@link ObservadorSql} cada sentencia ejecutada, con su duracion, y cada fila leida.
+ * Cubre por igual JPA y {@code JdbcTemplate}.
+ */
+public class InstrumentadoDataSource extends DelegatingDataSource implements AutoCloseable {
+
+	private final List<ObservadorSql> observadores;
+
+	public InstrumentadoDataSource(DataSource targetDataSource, List<ObservadorSql> observadores) {
+		super(targetDataSource);
+		this.observadores = List.copyOf(observadores);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return conexion(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return conexion(super.getConnection(username, password));
+	}
+
+	/**
+	 * Metodo encargado de cerrar el pool envuelto al detener el contexto, ya que Spring infiere el cierre
+	 * sobre este objeto y no sobre el DataSource original
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @throws Exception
+	 */
+	@Override
+	public void close() throws Exception {
+		if (obtainTargetDataSource() instanceof AutoCloseable cerrable) {
+			cerrable.close();
+		}
+	}
+
+	private Connection conexion(Connection conexion) {
+		return proxy(Connection.class, (proxy, method, args) -> {
+			Object resultado = invocar(conexion, method, args);
+			return switch (method.getName()) {
+				case "createStatement" -> sentencia(Statement.class, (Statement) resultado, null);
+				case "prepareStatement" -> sentencia(PreparedStatement.class, (PreparedStatement) resultado, (String) args[0]);
+				case "prepareCall" -> sentencia(CallableStatement.class, (CallableStatement) resultado, (String) args[0]);
+				default -> resultado;
+			};
+		});
+	}
+
+	private <T extends Statement> T sentencia(Class<T> tipo, T sentencia, String sqlPreparado) {
+		return proxy(tipo, (proxy, method, args) -> {
+			String nombre = method.getName();
+			if (!nombre.startsWith("execute")) {
+				Object resultado = invocar(sentencia, method, args);
+				return resultado instanceof ResultSet filas && "getResultSet".equals(nombre) ? resultado(filas) : resultado;
+			}
+			String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : sqlPreparado;
+			long inicio = System.nanoTime();
+			try {
+				Object resultado = invocar(sentencia, method, args);
+				return resultado instanceof ResultSet filas ? resultado(filas) : resultado;
+			} finally {
+				long nanos = System.nanoTime() - inicio;
+				for (ObservadorSql observador : observadores) {
+					observador.sentencia(sql, nanos);
+				}
+			}
+		});
+	}
+
+	private ResultSet resultado(ResultSet filas) {
+		return proxy(ResultSet.class, (proxy, method, args) -> {
+			Object resultado = invocar(filas, method, args);
+			if ("next".equals(method.getName()) && Boolean.TRUE.equals(resultado)) {
+				for (ObservadorSql observador : observadores) {
+					observador.fila();
+				}
+			}
+			return resultado;
+		});
+	}
+
+	private static Object invocar(Object destino, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(destino, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(InstrumentadoDataSource.class.getClassLoader(), new Class<?>[] { tipo }, handler);
+	}
+}
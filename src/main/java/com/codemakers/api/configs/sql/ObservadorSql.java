@@ -0,0 +1,26 @@
+package com.codemakers.api.configs.sql;
+
+/**
+ * @version 1.0
+ * Recibe las sentencias ejecutadas por el {@link InstrumentadoDataSource}.
+ * Se invoca en el hilo que ejecuta la sentencia, por lo que debe ser barato y no lanzar excepciones.
+ */
+public interface ObservadorSql {
+
+	/**
+	 * Metodo encargado de registrar una sentencia ejecutada
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param sql texto de la sentencia; en las preparadas los parametros llegan como {@code ?}
+	 * @param nanos duracion de la ejecucion
+	 */
+	void sentencia(String sql, long nanos);
+
+	/**
+	 * Metodo encargado de registrar una fila leida de un resultado
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	default void fila() {
+	}
+}
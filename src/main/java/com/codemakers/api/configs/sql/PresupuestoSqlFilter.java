@@ -0,0 +1,79 @@
+package com.codemakers.api.configs.sql;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Filtro que abre una {@link EstadisticaSql} por peticion y, al terminar, publica las sentencias y filas
+ * por endpoint y advierte las formas de sentencia repetidas (posibles N+1).
+ */
+@Slf4j
+public class PresupuestoSqlFilter extends OncePerRequestFilter {
+
+	public static final String METRICA_SENTENCIAS = "acueducto.sql.sentencias";
+	public static final String METRICA_FILAS = "acueducto.sql.filas";
+	public static final String METRICA_REPETIDAS = "acueducto.sql.repetidas";
+
+	private static final String URI_DESCONOCIDA = "UNKNOWN";
+
+	private final MeterRegistry meterRegistry;
+	private final int umbralRepeticiones;
+
+	public PresupuestoSqlFilter(MeterRegistry meterRegistry, int umbralRepeticiones) {
+		this.meterRegistry = meterRegistry;
+		this.umbralRepeticiones = umbralRepeticiones;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		EstadisticaSql estadistica = EstadisticaSql.iniciar();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			EstadisticaSql.finalizar(estadistica);
+			publicar(request, estadistica);
+		}
+	}
+
+	private void publicar(HttpServletRequest request, EstadisticaSql estadistica) {
+		Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = patron != null ? patron.toString() : URI_DESCONOCIDA;
+		String metodo = request.getMethod();
+
+		DistributionSummary.builder(METRICA_SENTENCIAS)
+				.tag("method", metodo)
+				.tag("uri", uri)
+				.register(meterRegistry)
+				.record(estadistica.getSentencias());
+		DistributionSummary.builder(METRICA_FILAS)
+				.tag("method", metodo)
+				.tag("uri", uri)
+				.register(meterRegistry)
+				.record(estadistica.getFilas());
+
+		Map<String, Integer> repetidas = estadistica.repetidas(umbralRepeticiones);
+		if (!repetidas.isEmpty()) {
+			Counter.builder(METRICA_REPETIDAS)
+					.tag("method", metodo)
+					.tag("uri", uri)
+					.register(meterRegistry)
+					.increment(repetidas.size());
+			repetidas.forEach((forma, veces) ->
+					log.warn("Posible N+1 en {} {}: {} ejecuciones de [{}]", metodo, uri, veces, forma));
+		}
+	}
+}
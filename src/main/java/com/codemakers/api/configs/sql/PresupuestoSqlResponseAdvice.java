@@ -0,0 +1,53 @@
+package com.codemakers.api.configs.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @version 1.0
+ * Agrega a la respuesta las cabeceras con las sentencias SQL ejecutadas hasta el momento de escribir el cuerpo.
+ * Se escriben aqui y no en el filtro porque al volver del filtro la respuesta ya esta confirmada.
+ * Sigue las mismas condiciones de activacion que {@code PresupuestoSqlConfig}.
+ */
+@ControllerAdvice
+@Profile("!prod")
+@ConditionalOnProperty(prefix = "sql.presupuesto", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class PresupuestoSqlResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String CABECERA_SENTENCIAS = "X-Sql-Sentencias";
+	public static final String CABECERA_FILAS = "X-Sql-Filas";
+	public static final String CABECERA_REPETIDAS = "X-Sql-Repetidas";
+
+	private final int umbralRepeticiones;
+
+	public PresupuestoSqlResponseAdvice(@Value("${sql.presupuesto.umbral-repeticiones:5}") int umbralRepeticiones) {
+		this.umbralRepeticiones = umbralRepeticiones;
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		EstadisticaSql estadistica = EstadisticaSql.actual();
+		if (estadistica != null) {
+			response.getHeaders().set(CABECERA_SENTENCIAS, String.valueOf(estadistica.getSentencias()));
+			response.getHeaders().set(CABECERA_FILAS, String.valueOf(estadistica.getFilas()));
+			response.getHeaders().set(CABECERA_REPETIDAS,
+					String.valueOf(estadistica.repetidas(umbralRepeticiones).size()));
+		}
+		return body;
+	}
+}
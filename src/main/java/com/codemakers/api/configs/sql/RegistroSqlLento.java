@@ -0,0 +1,40 @@
+package com.codemakers.api.configs.sql;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Observador que reemplaza el eco de todas las sentencias ({@code show-sql}): registra las que superan
+ * {@code sql.registro.umbral-ms} y una muestra de 1 de cada {@code sql.registro.muestra}.
+ * El SQL se registra sin valores (los parametros y literales se reemplazan por {@code ?}) y con el
+ * identificador de correlacion de la peticion.
+ */
+@Slf4j
+public class RegistroSqlLento implements ObservadorSql {
+
+	private final long umbralNanos;
+	private final int muestra;
+
+	public RegistroSqlLento(long umbralMillis, int muestra) {
+		this.umbralNanos = TimeUnit.MILLISECONDS.toNanos(umbralMillis);
+		this.muestra = muestra;
+	}
+
+	@Override
+	public void sentencia(String sql, long nanos) {
+		if (nanos >= umbralNanos) {
+			if (log.isWarnEnabled()) {
+				log.warn("SQL lenta {} ms correlacion={}: {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+						MDC.get(CorrelacionFilter.MDC_CORRELACION), EstadisticaSql.forma(sql));
+			}
+		} else if (muestra > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextInt(muestra) == 0) {
+			log.info("SQL muestra {} ms correlacion={}: {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+					MDC.get(CorrelacionFilter.MDC_CORRELACION), EstadisticaSql.forma(sql));
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package com.codemakers.api.controller;
 
+import java.util.List;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,8 +13,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.dtos.AbonoLoteItemDTO;
 import com.codemakers.api.service.impl.AbonoServiceImpl;
 import com.codemakers.commons.dtos.AbonoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -52,6 +58,18 @@ public class AbonoController {
         return abonoServiceImpl.save(abonoDTO);
     }
 
+    @Operation(summary = "Aplicar abonos de forma masiva", description = "Cada abono se aplica solo si la deuda existe y su saldo alcanza; la respuesta trae el resultado por item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Lote vacio, con mas items de los permitidos o con valores de mas de dos decimales", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @PostMapping("/lote")
+    public ResponseEntity<ResponseDTO> aplicarLote(@RequestBody List<AbonoLoteItemDTO> abonos) {
+        return abonoServiceImpl.aplicarLote(abonos);
+    }
+
     @Operation(summary = "Buscar Abono por id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Se ha guardado satisfactoriamente", content = {
@@ -84,6 +102,25 @@ public class AbonoController {
         return abonoServiceImpl.findAll();
     }
 
+    @Operation(summary = "Listar abonos paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa, siguienteCursor es nulo en la ultima pagina", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/all/page")
+    public ResponseEntity<ResponseDTO> getPage(@RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer tamano, @RequestParam(defaultValue = "false") boolean contar) {
+        return abonoServiceImpl.findPage(cursor, tamano, contar);
+    }
+
+    @Operation(summary = "Descargar abonos en streaming como arreglo JSON")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllStream() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(abonoServiceImpl.streamAll());
+    }
+
     @Operation(summary = "Eliminar Abono por id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rol eliminado correctamente", content = {
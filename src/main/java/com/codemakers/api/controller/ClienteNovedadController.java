@@ -1,5 +1,6 @@
 package com.codemakers.api.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,7 +11,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.api.service.impl.ClienteNovedadServiceImpl;
 import com.codemakers.commons.dtos.ClienteNovedadDTO;
@@ -84,6 +87,25 @@ public class ClienteNovedadController {
         return clienteNovedadServiceImpl.findAll();
     }
 
+    @Operation(summary = "Listar novedades de cliente paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa, siguienteCursor es nulo en la ultima pagina", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/all/page")
+    public ResponseEntity<ResponseDTO> getPage(@RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer tamano, @RequestParam(defaultValue = "false") boolean contar) {
+        return clienteNovedadServiceImpl.findPage(cursor, tamano, contar);
+    }
+
+    @Operation(summary = "Descargar novedades de cliente en streaming como arreglo JSON")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllStream() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(clienteNovedadServiceImpl.streamAll());
+    }
+
     @Operation(summary = "Eliminar Cliente Novedad por id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rol eliminado correctamente", content = {
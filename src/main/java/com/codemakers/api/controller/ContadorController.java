@@ -1,5 +1,6 @@
 package com.codemakers.api.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,7 +10,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.api.service.impl.ContadorServiceImpl;
 import com.codemakers.commons.dtos.ContadorDTO;
@@ -91,6 +94,25 @@ public class ContadorController {
         return contadorServiceImpl.findAll();
     }
 
+    @Operation(summary = "Listar contadores paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa, siguienteCursor es nulo en la ultima pagina", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/all/page")
+    public ResponseEntity<ResponseDTO> getPage(@RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer tamano, @RequestParam(defaultValue = "false") boolean contar) {
+        return contadorServiceImpl.findPage(cursor, tamano, contar);
+    }
+
+    @Operation(summary = "Descargar contadores en streaming como arreglo JSON")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllStream() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(contadorServiceImpl.streamAll());
+    }
+
     @Operation(summary = "Eliminar contador por id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rol eliminado correctamente", content = {
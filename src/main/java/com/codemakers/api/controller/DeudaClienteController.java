@@ -1,5 +1,9 @@
 package com.codemakers.api.controller;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,7 +14,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.api.service.impl.DeudaClienteServiceImpl;
 import com.codemakers.commons.dtos.DeudaClienteDTO;
@@ -84,6 +90,53 @@ public class DeudaClienteController {
         return deudaClienteServiceImpl.findAll();
     }
 
+    @Operation(summary = "Estado de cuenta de un cliente", description = "Deudas y abonos con saldo acumulado y facturas pendientes, por contador o por persona")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Se requiere idEmpresaClienteContador o idPersona", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/estado-cuenta")
+    public ResponseEntity<ResponseDTO> getEstadoCuenta(@RequestParam(required = false) Integer idEmpresaClienteContador,
+            @RequestParam(required = false) Integer idPersona,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde) {
+        return deudaClienteServiceImpl.estadoCuenta(idEmpresaClienteContador, idPersona, desde);
+    }
+
+    @Operation(summary = "Saldo pendiente por cliente de una empresa", description = "Totales exactos calculados en la base de datos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/totales/empresa/{idEmpresa}")
+    public ResponseEntity<ResponseDTO> getTotalesPorEmpresa(@PathVariable Integer idEmpresa) {
+        return deudaClienteServiceImpl.totalesPorEmpresa(idEmpresa);
+    }
+
+    @Operation(summary = "Listar deudas de cliente paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa, siguienteCursor es nulo en la ultima pagina", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/all/page")
+    public ResponseEntity<ResponseDTO> getPage(@RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer tamano, @RequestParam(defaultValue = "false") boolean contar) {
+        return deudaClienteServiceImpl.findPage(cursor, tamano, contar);
+    }
+
+    @Operation(summary = "Descargar deudas de cliente en streaming como arreglo JSON")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllStream() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(deudaClienteServiceImpl.streamAll());
+    }
+
     @Operation(summary = "Eliminar deuda del cliente por id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rol eliminado correctamente", content = {
@@ -14,10 +14,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.codemakers.api.service.impl.EmpresaServiceImpl;
+import com.codemakers.api.utils.ConsultaCondicional;
 import com.codemakers.commons.dtos.EmpresaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
+import com.codemakers.commons.entities.EmpresaEntity;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class EmpresaController {
 	
     private final EmpresaServiceImpl empresaServiceImpl;
+    private final ConsultaCondicional consultaCondicional;
     
     
 	@Operation(summary = "Guardar  Empresa")
@@ -107,8 +111,9 @@ public class EmpresaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/usuario/{id}")
-    public ResponseEntity<ResponseDTO> getUserById(@PathVariable Integer id) {
-        return empresaServiceImpl.findByUsuarioId(id);
+    public ResponseEntity<ResponseDTO> getUserById(@PathVariable Integer id, WebRequest request) {
+        return consultaCondicional.responder(request, EmpresaEntity.class, "usuario.id", id,
+                () -> empresaServiceImpl.findByUsuarioId(id));
     }
     
     @Operation(summary = "Buscar Empresa por id")
@@ -123,8 +128,9 @@ public class EmpresaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id) {
-        return empresaServiceImpl.findById(id);
+    public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id, WebRequest request) {
+        return consultaCondicional.responder(request, EmpresaEntity.class, "id", id,
+                () -> empresaServiceImpl.findById(id));
     }
 
     @Operation(summary = "Listar todos los empresa")
@@ -139,8 +145,9 @@ public class EmpresaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/all")
-    public ResponseEntity<ResponseDTO> getAll() {
-        return empresaServiceImpl.findAll();
+    public ResponseEntity<ResponseDTO> getAll(WebRequest request) {
+        return consultaCondicional.responder(request, EmpresaEntity.class, null, null,
+                () -> empresaServiceImpl.findAll());
     }
     
     @Operation(summary = "Listar todos los empresa con response id")
@@ -155,8 +162,9 @@ public class EmpresaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/all/responseId")
-    public ResponseEntity<ResponseDTO> getAllResponseId() {
-        return empresaServiceImpl.getAllEnterpriseResponseId();
+    public ResponseEntity<ResponseDTO> getAllResponseId(WebRequest request) {
+        return consultaCondicional.responder(request, EmpresaEntity.class, null, null,
+                () -> empresaServiceImpl.getAllEnterpriseResponseId());
     }
 
     @Operation(summary = "Eliminar empresa por id")
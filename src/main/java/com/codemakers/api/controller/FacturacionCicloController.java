@@ -0,0 +1,94 @@
+package com.codemakers.api.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.codemakers.api.dtos.FacturacionCicloRequestDTO;
+import com.codemakers.api.service.impl.FacturacionCicloServiceImpl;
+import com.codemakers.commons.dtos.ResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * 
+ *          Controlador que expone los servicios del ciclo de facturacion masivo
+ *          por empresa y periodo.
+ */
+
+@RestController
+@RequestMapping("/api/v1/FacturacionCiclo")
+@Tag(name = "FacturacionCiclo - Controller", description = "Controller encargado de gestionar los ciclos de facturacion masiva")
+@CrossOrigin(origins = "*", methods = { RequestMethod.DELETE, RequestMethod.GET, RequestMethod.POST,
+		RequestMethod.PUT })
+@RequiredArgsConstructor
+public class FacturacionCicloController {
+
+	private final FacturacionCicloServiceImpl facturacionCicloServiceImpl;
+
+	@Operation(summary = "Iniciar o reanudar el ciclo de facturacion de una empresa y periodo")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "202", description = "El ciclo fue aceptado y se procesa en segundo plano", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+			@ApiResponse(responseCode = "400", description = "La petición no puede ser entendida por el servidor debido a errores de sintaxis", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+			@ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+	})
+	@PostMapping
+	public ResponseEntity<ResponseDTO> iniciar(@RequestBody FacturacionCicloRequestDTO request) {
+		return facturacionCicloServiceImpl.iniciar(request);
+	}
+
+	@Operation(summary = "Consultar el avance de un ciclo de facturacion")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Consulta exitosa", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+			@ApiResponse(responseCode = "404", description = "El recurso solicitado no puede ser encontrado", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+			@ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+	})
+	@GetMapping("/{id}")
+	public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id) {
+		return facturacionCicloServiceImpl.findById(id);
+	}
+
+	@Operation(summary = "Listar los contadores que fallaron en un ciclo de facturacion")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Consulta exitosa", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+			@ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+	})
+	@GetMapping("/{id}/fallidos")
+	public ResponseEntity<ResponseDTO> getFallidos(@PathVariable Integer id) {
+		return facturacionCicloServiceImpl.findFallidos(id);
+	}
+
+	@Operation(summary = "Reintentar los contadores que fallaron en un ciclo de facturacion")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "202", description = "Los contadores fallidos se reprogramaron", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+			@ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+	})
+	@PutMapping("/{id}/reintentar")
+	public ResponseEntity<ResponseDTO> reintentar(@PathVariable Integer id) {
+		return facturacionCicloServiceImpl.reintentarFallidos(id);
+	}
+}
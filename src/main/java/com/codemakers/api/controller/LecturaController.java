@@ -1,8 +1,11 @@
 package com.codemakers.api.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,11 +15,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.dtos.LecturaLoteItemDTO;
 import com.codemakers.api.service.impl.LecturaServiceImpl;
 import com.codemakers.commons.dtos.LecturaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
+import com.codemakers.commons.utils.Constantes;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -43,6 +52,7 @@ import lombok.RequiredArgsConstructor;
 public class LecturaController {
 
 	private final LecturaServiceImpl lecturaServiceImpl;
+	private final ObjectMapper objectMapper;
 	
 	@Operation(summary = "Guardar o actualizar lectura")
 	@ApiResponses(value = {
@@ -116,6 +126,25 @@ public class LecturaController {
         return lecturaServiceImpl.findAll();
     }
 
+    @Operation(summary = "Listar lecturas paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa, siguienteCursor es nulo en la ultima pagina", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/all/page")
+    public ResponseEntity<ResponseDTO> getPage(@RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer tamano, @RequestParam(defaultValue = "false") boolean contar) {
+        return lecturaServiceImpl.findPage(cursor, tamano, contar);
+    }
+
+    @Operation(summary = "Descargar lecturas en streaming como arreglo JSON")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllStream() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(lecturaServiceImpl.streamAll());
+    }
+
     @Operation(summary = "Eliminar lectura por id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rol eliminado correctamente", content = {
@@ -129,4 +158,45 @@ public class LecturaController {
     public ResponseEntity<ResponseDTO> deleteById(@PathVariable Integer id) {
         return lecturaServiceImpl.deleteById(id);
     }
+
+    @Operation(summary = "Guardar un lote de lecturas (arreglo JSON)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado, el detalle indica el resultado de cada lectura", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "La petición no puede ser entendida por el servidor debido a errores de sintaxis", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseDTO> saveLote(InputStream body) {
+        return guardarLote(body);
+    }
+
+    @Operation(summary = "Guardar un lote de lecturas (NDJSON, una lectura por linea)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado, el detalle indica el resultado de cada lectura", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "La petición no puede ser entendida por el servidor debido a errores de sintaxis", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseDTO> saveLoteNdjson(InputStream body) {
+        return guardarLote(body);
+    }
+
+    /**
+     * Lee las lecturas del cuerpo una a una, tanto de un arreglo JSON como de NDJSON, por lo que el maximo de items
+     * del lote se aplica mientras se lee y nunca se deserializa el cuerpo completo en memoria.
+     */
+    private ResponseEntity<ResponseDTO> guardarLote(InputStream body) {
+        try (MappingIterator<LecturaLoteItemDTO> lecturas = objectMapper.readerFor(LecturaLoteItemDTO.class)
+                .readValues(body)) {
+            return lecturaServiceImpl.guardarLote(lecturas);
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.PROCCESSING_ERROR + e.getMessage())
+                    .code(HttpStatus.BAD_REQUEST.value())
+                    .build());
+        }
+    }
 }
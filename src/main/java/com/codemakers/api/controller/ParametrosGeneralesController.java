@@ -10,10 +10,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.codemakers.api.service.impl.ParametrosGeneralesServiceImpl;
+import com.codemakers.api.utils.ConsultaCondicional;
 import com.codemakers.commons.dtos.ParametrosGeneralesDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
+import com.codemakers.commons.entities.ParametrosGeneralesEntity;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 public class ParametrosGeneralesController {
 	
 	private final ParametrosGeneralesServiceImpl parametrosGeneralesServiceImpl;
+	private final ConsultaCondicional consultaCondicional;
 
 	@Operation(summary = "Guardar o actualizar Parametros Generales")
 	@ApiResponses(value = {
@@ -61,8 +65,9 @@ public class ParametrosGeneralesController {
 			@ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
 					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }), })
 	@GetMapping("/{id}")
-	public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id) {
-		return parametrosGeneralesServiceImpl.findById(id);
+	public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id, WebRequest request) {
+		return consultaCondicional.responder(request, ParametrosGeneralesEntity.class, "id", id,
+				() -> parametrosGeneralesServiceImpl.findById(id));
 	}
 
 	@Operation(summary = "Listar todos los Parametros Generales")
@@ -76,8 +81,9 @@ public class ParametrosGeneralesController {
 			@ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
 					@Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }), })
 	@GetMapping("/all")
-	public ResponseEntity<ResponseDTO> getAll() {
-		return parametrosGeneralesServiceImpl.findAll();
+	public ResponseEntity<ResponseDTO> getAll(WebRequest request) {
+		return consultaCondicional.responder(request, ParametrosGeneralesEntity.class, null, null,
+				() -> parametrosGeneralesServiceImpl.findAll());
 	}
 
 	@Operation(summary = "Eliminar Parametros Generales por id")
@@ -13,11 +13,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.codemakers.api.service.impl.RutaEmpleadoServiceImpl;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.RutaEmpleadoDTO;
+import com.codemakers.commons.utils.Constantes;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -151,4 +153,35 @@ public class RutaEmpleadoController {
                     ));
         }
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Sincronizar incrementalmente los datos del lector",
+            description = "Sin token descarga la ruta completa. Cada respuesta trae el token de la siguiente llamada; "
+                    + "mientras hayMas sea true se continua la pagina y al terminar el token guarda la marca de agua. "
+                    + "Con completa = true la respuesta es la ruta completa y reemplaza los datos del dispositivo; "
+                    + "eliminados lista los contadores que salieron de las rutas del lector.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operación completada exitosamente", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class)) }),
+            @ApiResponse(responseCode = "400", description = "El token de sincronizacion no es valido", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class)) }),
+            @ApiResponse(responseCode = "403", description = "La persona no es un lector válido o no tiene permisos", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class)) }),
+    })
+    @GetMapping("/sync/{idPersona}")
+    public ResponseEntity<Map<String, Object>> sincronizarRutaDelta(@PathVariable Integer idPersona,
+            @RequestParam(required = false) String token, @RequestParam(required = false) Integer limite) {
+        Map<String, Object> resultFromService = rutaEmpleadoServiceImpl.syncLectorDataDelta(idPersona, token, limite);
+
+        String status = String.valueOf(resultFromService.getOrDefault("statusCode",
+                resultFromService.containsKey(Constantes.ERROR_KEY) ? "500" : "200"));
+        HttpStatus httpStatus = switch (status) {
+            case "400" -> HttpStatus.BAD_REQUEST;
+            case "403" -> HttpStatus.FORBIDDEN;
+            case "500" -> HttpStatus.INTERNAL_SERVER_ERROR;
+            default -> HttpStatus.OK;
+        };
+        return ResponseEntity.status(httpStatus).body(resultFromService);
+    }
+}
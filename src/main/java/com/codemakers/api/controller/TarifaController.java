@@ -10,10 +10,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.codemakers.api.service.impl.TarifaServiceImpl;
+import com.codemakers.api.utils.ConsultaCondicional;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TarifaDTO;
+import com.codemakers.commons.entities.TarifaEntity;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -40,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 public class TarifaController {
 
 	private final TarifaServiceImpl tarifaServiceImpl;
+	private final ConsultaCondicional consultaCondicional;
 	
 	@Operation(summary = "Guardar o actualizar tarifa")
 	@ApiResponses(value = {
@@ -71,8 +75,9 @@ public class TarifaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id) {
-        return tarifaServiceImpl.findById(id);
+    public ResponseEntity<ResponseDTO> getById(@PathVariable Integer id, WebRequest request) {
+        return consultaCondicional.responder(request, TarifaEntity.class, "id", id,
+                () -> tarifaServiceImpl.findById(id));
     }
     
     @Operation(summary = "Buscar las tarifas por el id de la empresa")
@@ -87,8 +92,9 @@ public class TarifaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/empresa/{id}")
-    public ResponseEntity<ResponseDTO> findByEmpresaId(@PathVariable Integer id) {
-        return tarifaServiceImpl.findByEmpresaId(id);
+    public ResponseEntity<ResponseDTO> findByEmpresaId(@PathVariable Integer id, WebRequest request) {
+        return consultaCondicional.responder(request, TarifaEntity.class, "empresa.id", id,
+                () -> tarifaServiceImpl.findByEmpresaId(id));
     }
 
     @Operation(summary = "Listar todas las tarifas")
@@ -103,8 +109,9 @@ public class TarifaController {
                     @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
     })
     @GetMapping("/all")
-    public ResponseEntity<ResponseDTO> getAll() {
-        return tarifaServiceImpl.findAll();
+    public ResponseEntity<ResponseDTO> getAll(WebRequest request) {
+        return consultaCondicional.responder(request, TarifaEntity.class, null, null,
+                () -> tarifaServiceImpl.findAll());
     }
 
     @Operation(summary = "Eliminar tarifa por id")
@@ -1,6 +1,7 @@
 package com.codemakers.api.controller;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 
@@ -17,7 +18,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.api.service.impl.AutenticacionServiceImpl;
 import com.codemakers.api.service.impl.UsuarioServiceImpl;
@@ -121,6 +124,25 @@ public class UsuarioController {
         return usuarioServiceImpl.findAll();
     }
 
+    @Operation(summary = "Listar usuarios paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa, siguienteCursor es nulo en la ultima pagina", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+            @ApiResponse(responseCode = "500", description = "Se presentó una condición inesperada que impidió completar la petición", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseDTO.class)) }),
+    })
+    @GetMapping("/all/page")
+    public ResponseEntity<ResponseDTO> getPage(@RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer tamano, @RequestParam(defaultValue = "false") boolean contar) {
+        return usuarioServiceImpl.findPage(cursor, tamano, contar);
+    }
+
+    @Operation(summary = "Descargar usuarios en streaming como arreglo JSON")
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllStream() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(usuarioServiceImpl.streamAll());
+    }
+
     @Operation(summary = "Eliminar  usuario por id ")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Se ha guardado satisfactoriamente", content = {
@@ -204,17 +226,18 @@ public class UsuarioController {
             @PathVariable Integer id,
             @RequestParam("imagen") MultipartFile imagen,
             @RequestParam("usuarioModificacion") String usuarioModificacion) {
-        try {
-            byte[] imagenBytes = imagen.getBytes();
-            return usuarioServiceImpl.updateImage(id, imagenBytes, usuarioModificacion);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ResponseDTO.builder()
-                            .success(false)
-                            .message("Error procesando la imagen")
-                            .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                            .build());
-        }
+        return usuarioServiceImpl.updateImage(id, imagen, usuarioModificacion);
+    }
+
+    @Operation(summary = "Consultar imagen del usuario", description = "Soporta cabeceras Range e If-None-Match; con v igual al hash la respuesta se cachea como inmutable")
+    @GetMapping("/imagen/{id}")
+    public ResponseEntity<StreamingResponseBody> getImagenUsuario(
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "false") boolean miniatura,
+            @RequestParam(name = "v", required = false) String version,
+            @RequestHeader HttpHeaders headers,
+            WebRequest request) {
+        return usuarioServiceImpl.findImage(id, miniatura, version, headers, request);
     }
     @Operation(summary = "Crear usuario y enviar correo")
     @ApiResponses(value = {
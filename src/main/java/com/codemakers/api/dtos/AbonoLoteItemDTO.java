@@ -0,0 +1,24 @@
+package com.codemakers.api.dtos;
+
+import com.codemakers.api.utils.Dinero;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Abono recibido en una carga masiva, por ejemplo desde un archivo de conciliacion bancaria.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbonoLoteItemDTO {
+
+	private String referencia;
+	private Integer idDeudaCliente;
+	private Dinero valor;
+	private String usuarioCreacion;
+}
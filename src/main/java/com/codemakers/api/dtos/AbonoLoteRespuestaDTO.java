@@ -0,0 +1,24 @@
+package com.codemakers.api.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Resumen de una carga masiva de abonos con el resultado de cada item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbonoLoteRespuestaDTO {
+
+	private int total;
+	private int aplicados;
+	private int rechazados;
+	private List<AbonoLoteResultadoDTO> resultados;
+}
@@ -0,0 +1,23 @@
+package com.codemakers.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Resultado de la aplicacion de un abono dentro de una carga masiva.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbonoLoteResultadoDTO {
+
+	private int indice;
+	private String referencia;
+	private Integer idDeudaCliente;
+	private boolean aplicado;
+	private String mensaje;
+}
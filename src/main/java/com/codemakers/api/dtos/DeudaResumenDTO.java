@@ -0,0 +1,26 @@
+package com.codemakers.api.dtos;
+
+import java.util.List;
+
+import com.codemakers.api.utils.Dinero;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Saldo pendiente de una empresa con el detalle por cliente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeudaResumenDTO {
+
+	private Integer idEmpresa;
+	private long deudas;
+	private Dinero total;
+	private List<DeudaTotalDTO> clientes;
+}
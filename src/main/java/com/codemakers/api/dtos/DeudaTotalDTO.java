@@ -0,0 +1,23 @@
+package com.codemakers.api.dtos;
+
+import com.codemakers.api.utils.Dinero;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Saldo total pendiente de un cliente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeudaTotalDTO {
+
+	private Integer idPersona;
+	private long deudas;
+	private Dinero total;
+}
@@ -0,0 +1,31 @@
+package com.codemakers.api.dtos;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Estado y avance de un ciclo de facturacion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacturacionCicloDTO {
+
+	private Integer id;
+	private Integer idEmpresa;
+	private String periodo;
+	private String estado;
+	private long total;
+	private long pendientes;
+	private long facturados;
+	private long fallidos;
+	private String usuarioCreacion;
+	private Date fechaCreacion;
+	private Date fechaFin;
+}
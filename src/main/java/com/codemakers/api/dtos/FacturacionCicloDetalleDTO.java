@@ -0,0 +1,25 @@
+package com.codemakers.api.dtos;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Resultado de la facturacion de un contador dentro de un ciclo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacturacionCicloDetalleDTO {
+
+	private Integer idEmpresaClienteContador;
+	private Integer idLectura;
+	private String estado;
+	private String mensaje;
+	private Date fechaProceso;
+}
@@ -0,0 +1,25 @@
+package com.codemakers.api.dtos;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Datos requeridos para iniciar el ciclo de facturacion de una empresa en un periodo (yyyy-MM).
+ * Los parametros se envian tal cual a {@code public.generar_factura} junto con el contador y la lectura.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacturacionCicloRequestDTO {
+
+	private Integer idEmpresa;
+	private String periodo;
+	private String usuarioCreacion;
+	private Map<String, Object> parametros;
+}
@@ -0,0 +1,27 @@
+package com.codemakers.api.dtos;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Lectura enviada por el lector dentro de una carga masiva.
+ * La referencia es opcional y se devuelve en el resultado para que el cliente correlacione cada item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LecturaLoteItemDTO {
+
+	private String referencia;
+	private Integer idContador;
+	private BigDecimal lecturaActual;
+	private Date fechaLectura;
+	private String usuarioCreacion;
+}
@@ -0,0 +1,25 @@
+package com.codemakers.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Resultado del registro de una lectura dentro de una carga masiva.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LecturaLoteResultadoDTO {
+
+	private int indice;
+	private String referencia;
+	private Integer idContador;
+	private boolean guardada;
+	/** true si ya existia una lectura del contador en la misma fecha con un valor diferente */
+	private boolean conflicto;
+	private String mensaje;
+}
@@ -0,0 +1,25 @@
+package com.codemakers.api.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @version 1.0
+ * Pagina de resultados paginada por cursor (keyset).
+ * {@code siguienteCursor} es nulo en la ultima pagina y {@code total} solo se calcula cuando se solicita.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+	private List<T> items;
+	private Integer siguienteCursor;
+	private int tamano;
+	private Long total;
+}
@@ -0,0 +1,109 @@
+package com.codemakers.api.persistence;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codemakers.commons.entities.EmpresaClienteContadorEntity;
+import com.codemakers.commons.entities.FacturaEntity;
+import com.codemakers.commons.entities.InventarioEntity;
+import com.codemakers.commons.entities.PatrimonioEntity;
+import com.codemakers.commons.entities.ProductoEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * @version 1.0
+ * Consultas de los listados por empresa. Toda relacion que el mapper recorre y que cambia por fila (cliente,
+ * contador, direccion del contador, lectura, producto) se trae en la misma consulta con {@code JOIN FETCH}.
+ * Lo que queda por cargar son catalogos compartidos entre filas (tipo de contador, tipo de tarifa, etc.), que se
+ * resuelven con una sentencia por catalogo gracias a {@code hibernate.default_batch_fetch_size}, asi que el numero
+ * de sentencias es fijo y no depende de las filas.
+ */
+@Repository
+public class ConsultaEmpresaRepository {
+
+	private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+
+	private static final String JPQL_FACTURAS = "SELECT f FROM FacturaEntity f "
+			+ "JOIN FETCH f.empresaClienteContador ecc "
+			+ "JOIN FETCH ecc.empresa "
+			+ "LEFT JOIN FETCH ecc.cliente "
+			+ "LEFT JOIN FETCH ecc.contador c "
+			+ "LEFT JOIN FETCH c.descripcion "
+			+ "LEFT JOIN FETCH f.lectura "
+			+ "LEFT JOIN FETCH f.tarifa "
+			+ "LEFT JOIN FETCH f.tipoPago "
+			+ "LEFT JOIN FETCH f.estado "
+			+ "WHERE ecc.empresa.id = :idEmpresa ORDER BY f.id";
+
+	private static final String JPQL_CLIENTES_CONTADOR = "SELECT ecc FROM EmpresaClienteContadorEntity ecc "
+			+ "JOIN FETCH ecc.empresa e "
+			+ "LEFT JOIN FETCH ecc.cliente "
+			+ "LEFT JOIN FETCH ecc.contador c "
+			+ "LEFT JOIN FETCH c.descripcion "
+			+ "WHERE e.id = :idEmpresa ORDER BY ecc.id";
+
+	private static final String JPQL_IDS_CLIENTES_CONTADOR = "SELECT ecc.id FROM EmpresaClienteContadorEntity ecc "
+			+ "WHERE ecc.empresa.id = :idEmpresa ORDER BY ecc.id";
+
+	private static final String JPQL_INVENTARIO = "SELECT i FROM InventarioEntity i "
+			+ "JOIN FETCH i.producto p WHERE p.empresa.id = :idEmpresa ORDER BY i.id";
+
+	private static final String JPQL_PRODUCTOS = "SELECT p FROM ProductoEntity p "
+			+ "JOIN FETCH p.empresa e WHERE e.id = :idEmpresa ORDER BY p.id";
+
+	private static final String JPQL_PATRIMONIO = "SELECT p FROM PatrimonioEntity p "
+			+ "JOIN FETCH p.empresa e WHERE e.id = :idEmpresa ORDER BY p.id";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Transactional(readOnly = true)
+	public List<FacturaEntity> facturas(Integer idEmpresa) {
+		return consultar(JPQL_FACTURAS, FacturaEntity.class, idEmpresa);
+	}
+
+	@Transactional(readOnly = true)
+	public List<EmpresaClienteContadorEntity> clientesContador(Integer idEmpresa) {
+		return consultar(JPQL_CLIENTES_CONTADOR, EmpresaClienteContadorEntity.class, idEmpresa);
+	}
+
+	/**
+	 * Metodo encargado de consultar solo los ids de empresa cliente contador, sin cargar las entidades
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idEmpresa
+	 * @return Devuelve los ids ordenados
+	 */
+	@Transactional(readOnly = true)
+	public List<Integer> idsClientesContador(Integer idEmpresa) {
+		return entityManager.createQuery(JPQL_IDS_CLIENTES_CONTADOR, Integer.class)
+				.setParameter("idEmpresa", idEmpresa)
+				.getResultList();
+	}
+
+	@Transactional(readOnly = true)
+	public List<InventarioEntity> inventario(Integer idEmpresa) {
+		return consultar(JPQL_INVENTARIO, InventarioEntity.class, idEmpresa);
+	}
+
+	@Transactional(readOnly = true)
+	public List<ProductoEntity> productos(Integer idEmpresa) {
+		return consultar(JPQL_PRODUCTOS, ProductoEntity.class, idEmpresa);
+	}
+
+	@Transactional(readOnly = true)
+	public List<PatrimonioEntity> patrimonio(Integer idEmpresa) {
+		return consultar(JPQL_PATRIMONIO, PatrimonioEntity.class, idEmpresa);
+	}
+
+	private <E> List<E> consultar(String jpql, Class<E> entidad, Integer idEmpresa) {
+		return entityManager.createQuery(jpql, entidad)
+				.setParameter("idEmpresa", idEmpresa)
+				.setHint(HINT_READ_ONLY, true)
+				.getResultList();
+	}
+}
@@ -0,0 +1,66 @@
+package com.codemakers.api.persistence;
+
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Acceso a la marca y a las plantillas de correo propias de cada empresa
+ * ({@code public.correo_empresa} y {@code public.correo_plantilla_empresa}).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CorreoEmpresaRepository {
+
+	private static final String SQL_MARCA = "SELECT marca_nombre, marca_color FROM public.correo_empresa "
+			+ "WHERE id_empresa = :idEmpresa";
+
+	private static final String SQL_PLANTILLA = "SELECT fuente FROM public.correo_plantilla_empresa "
+			+ "WHERE id_empresa = :idEmpresa AND nombre = :nombre";
+
+	private static final String SQL_EMPRESA_PERSONA = "SELECT id_empresa FROM public.empresa_cliente_contador "
+			+ "WHERE id_persona = :idPersona AND activo ORDER BY id LIMIT 1";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public record Marca(String nombre, String color) {
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<Marca> marca(Integer idEmpresa) {
+		return namedParameterJdbcTemplate.query(SQL_MARCA, new MapSqlParameterSource("idEmpresa", idEmpresa),
+				(rs, rowNum) -> new Marca(rs.getString("marca_nombre"), rs.getString("marca_color")))
+				.stream().findFirst();
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<String> plantilla(Integer idEmpresa, String nombre) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idEmpresa", idEmpresa)
+				.addValue("nombre", nombre);
+		return namedParameterJdbcTemplate.queryForList(SQL_PLANTILLA, params, String.class).stream().findFirst();
+	}
+
+	/**
+	 * Metodo encargado de obtener la empresa de la que una persona es cliente, para los correos que no
+	 * nacen de una operacion de empresa (activacion, recuperacion de contraseña)
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idPersona
+	 * @return Devuelve la empresa del primer contador activo de la persona, o vacio si no es cliente
+	 */
+	@Transactional(readOnly = true)
+	public Optional<Integer> empresaDePersona(Integer idPersona) {
+		if (idPersona == null) {
+			return Optional.empty();
+		}
+		return namedParameterJdbcTemplate.queryForList(SQL_EMPRESA_PERSONA,
+				new MapSqlParameterSource("idPersona", idPersona), Integer.class).stream().findFirst();
+	}
+}
@@ -0,0 +1,137 @@
+package com.codemakers.api.persistence;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Acceso a la bandeja de salida de correos {@code public.correo_saliente}.
+ * Los correos se reclaman con {@code FOR UPDATE SKIP LOCKED} y un bloqueo temporal, por lo que varios
+ * nodos pueden enviar en paralelo y los correos de un nodo caido se vuelven a reclamar al vencer el bloqueo.
+ * El cuerpo puede llevar enlaces con tokens (recuperacion de contraseña, activacion), por lo que se borra
+ * en cuanto el correo queda ENVIADO o FALLIDO y solo se conserva mientras puede volver a enviarse.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CorreoSalienteRepository {
+
+	public static final String ESTADO_PENDIENTE = "PENDIENTE";
+	public static final String ESTADO_ENVIANDO = "ENVIANDO";
+	public static final String ESTADO_ENVIADO = "ENVIADO";
+	public static final String ESTADO_FALLIDO = "FALLIDO";
+
+	private static final String SQL_ENCOLAR = "INSERT INTO public.correo_saliente (destinatario, asunto, cuerpo, estado) "
+			+ "VALUES (:destinatario, :asunto, :cuerpo, :pendiente)";
+
+	private static final String SQL_RECLAMAR = "UPDATE public.correo_saliente c "
+			+ "SET estado = :enviando, intentos = c.intentos + 1, "
+			+ "bloqueado_hasta = now() + make_interval(secs => :lease) "
+			+ "WHERE c.id IN (SELECT id FROM public.correo_saliente "
+			+ "    WHERE (estado = :pendiente AND proximo_intento <= now()) "
+			+ "       OR (estado = :enviando AND bloqueado_hasta < now()) "
+			+ "    ORDER BY proximo_intento LIMIT :limite FOR UPDATE SKIP LOCKED) "
+			+ "RETURNING c.id, c.destinatario, c.asunto, c.cuerpo, c.intentos";
+
+	private static final String SQL_ENVIADOS = "UPDATE public.correo_saliente "
+			+ "SET estado = :enviado, fecha_envio = now(), bloqueado_hasta = NULL, ultimo_error = NULL, cuerpo = NULL "
+			+ "WHERE id IN (:ids)";
+
+	private static final String SQL_REINTENTAR = "UPDATE public.correo_saliente "
+			+ "SET estado = :pendiente, proximo_intento = now() + make_interval(secs => :espera), "
+			+ "bloqueado_hasta = NULL, ultimo_error = :error WHERE id = :id";
+
+	private static final String SQL_FALLIDO = "UPDATE public.correo_saliente "
+			+ "SET estado = :fallido, bloqueado_hasta = NULL, ultimo_error = :error, cuerpo = NULL WHERE id = :id";
+
+	private static final String SQL_PURGAR = "DELETE FROM public.correo_saliente "
+			+ "WHERE (estado = :enviado AND fecha_envio < now() - make_interval(days => :dias)) "
+			+ "   OR (estado = :fallido AND fecha_creacion < now() - make_interval(days => :dias))";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public record CorreoSaliente(Long id, String destinatario, String asunto, String cuerpo, int intentos) {
+	}
+
+	/**
+	 * Metodo encargado de registrar un correo en la bandeja de salida. Se une a la transaccion en curso,
+	 * por lo que el correo solo se envia si la operacion que lo origina se confirma.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param destinatario
+	 * @param asunto
+	 * @param cuerpo
+	 */
+	@Transactional
+	public void encolar(String destinatario, String asunto, String cuerpo) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("destinatario", destinatario)
+				.addValue("asunto", asunto)
+				.addValue("cuerpo", cuerpo)
+				.addValue("pendiente", ESTADO_PENDIENTE);
+		namedParameterJdbcTemplate.update(SQL_ENCOLAR, params);
+	}
+
+	@Transactional
+	public List<CorreoSaliente> reclamar(int limite, int leaseSegundos) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("pendiente", ESTADO_PENDIENTE)
+				.addValue("enviando", ESTADO_ENVIANDO)
+				.addValue("lease", leaseSegundos)
+				.addValue("limite", limite);
+		return namedParameterJdbcTemplate.query(SQL_RECLAMAR, params,
+				(rs, rowNum) -> new CorreoSaliente(rs.getLong("id"), rs.getString("destinatario"),
+						rs.getString("asunto"), rs.getString("cuerpo"), rs.getInt("intentos")));
+	}
+
+	@Transactional
+	public void marcarEnviados(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("enviado", ESTADO_ENVIADO)
+				.addValue("ids", ids);
+		namedParameterJdbcTemplate.update(SQL_ENVIADOS, params);
+	}
+
+	@Transactional
+	public void reintentar(Long id, long esperaSegundos, String error) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("pendiente", ESTADO_PENDIENTE)
+				.addValue("espera", esperaSegundos)
+				.addValue("error", error)
+				.addValue("id", id);
+		namedParameterJdbcTemplate.update(SQL_REINTENTAR, params);
+	}
+
+	@Transactional
+	public void marcarFallido(Long id, String error) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("fallido", ESTADO_FALLIDO)
+				.addValue("error", error)
+				.addValue("id", id);
+		namedParameterJdbcTemplate.update(SQL_FALLIDO, params);
+	}
+
+	/**
+	 * Metodo encargado de eliminar los correos enviados y los fallidos con mas de {@code dias} de antiguedad
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param dias
+	 * @return Devuelve el numero de correos eliminados
+	 */
+	@Transactional
+	public int purgar(int dias) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("enviado", ESTADO_ENVIADO)
+				.addValue("fallido", ESTADO_FALLIDO)
+				.addValue("dias", dias);
+		return namedParameterJdbcTemplate.update(SQL_PURGAR, params);
+	}
+}
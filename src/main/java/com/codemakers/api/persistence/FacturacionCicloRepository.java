@@ -0,0 +1,373 @@
+package com.codemakers.api.persistence;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codemakers.api.dtos.FacturacionCicloDTO;
+import com.codemakers.api.dtos.FacturacionCicloDetalleDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Acceso a las tablas {@code facturacion_ciclo} y {@code facturacion_ciclo_detalle}.
+ * El detalle guarda el estado de cada contador, lo que permite reanudar un ciclo interrumpido
+ * sin volver a facturar los contadores ya procesados. Antes de facturar un contador su fila de detalle
+ * se bloquea y se verifica que siga PENDIENTE, de modo que dos nodos nunca facturan el mismo contador.
+ * El ciclo se crea con el lease del nodo que lo inicia, para que no parezca huerfano mientras se siembra su detalle,
+ * y un ciclo sin filas de detalle nunca se finaliza como procesado.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacturacionCicloRepository {
+
+	public static final String ESTADO_EN_PROCESO = "EN_PROCESO";
+	public static final String ESTADO_FINALIZADO = "FINALIZADO";
+	public static final String ESTADO_FINALIZADO_CON_ERRORES = "FINALIZADO_CON_ERRORES";
+	public static final String DETALLE_PENDIENTE = "PENDIENTE";
+	public static final String DETALLE_FACTURADO = "FACTURADO";
+	public static final String DETALLE_ERROR = "ERROR";
+
+	private static final String SQL_CREAR = "INSERT INTO public.facturacion_ciclo "
+			+ "(id_empresa, periodo, estado, parametros, usuario_creacion, nodo, lease_hasta) "
+			+ "VALUES (:idEmpresa, :periodo, :estado, CAST(:parametros AS jsonb), :usuario, :nodo, "
+			+ "    now() + make_interval(secs => :segundos)) "
+			+ "ON CONFLICT (id_empresa, periodo) DO UPDATE SET estado = :estado, fecha_fin = NULL, "
+			+ "nodo = CASE WHEN facturacion_ciclo.lease_hasta IS NULL OR facturacion_ciclo.lease_hasta < now() "
+			+ "    THEN EXCLUDED.nodo ELSE facturacion_ciclo.nodo END, "
+			+ "lease_hasta = CASE WHEN facturacion_ciclo.lease_hasta IS NULL OR facturacion_ciclo.lease_hasta < now() "
+			+ "    THEN EXCLUDED.lease_hasta ELSE facturacion_ciclo.lease_hasta END "
+			+ "RETURNING id";
+
+	private static final String SQL_SEMBRAR = "INSERT INTO public.facturacion_ciclo_detalle "
+			+ "(id_ciclo, id_empresa_cliente_contador, id_lectura, estado) "
+			+ "SELECT :idCiclo, ecc.id, l.id, :pendiente "
+			+ "FROM public.empresa_cliente_contador ecc "
+			+ "JOIN LATERAL (SELECT lec.id FROM public.lectura lec "
+			+ "    WHERE lec.id_contador = ecc.id_contador AND lec.activo "
+			+ "    AND lec.fecha_lectura >= :desde AND lec.fecha_lectura < :hasta "
+			+ "    ORDER BY lec.fecha_lectura DESC LIMIT 1) l ON true "
+			+ "WHERE ecc.id_empresa = :idEmpresa AND ecc.activo "
+			+ "AND NOT EXISTS (SELECT 1 FROM public.factura f WHERE f.id_lectura = l.id) "
+			+ "ON CONFLICT (id_ciclo, id_empresa_cliente_contador) DO NOTHING";
+
+	private static final String SQL_LEASE = "UPDATE public.facturacion_ciclo "
+			+ "SET nodo = :nodo, lease_hasta = now() + make_interval(secs => :segundos) "
+			+ "WHERE id = :idCiclo AND estado = :estado "
+			+ "AND (lease_hasta IS NULL OR lease_hasta < now() OR nodo = :nodo)";
+
+	private static final String SQL_PENDIENTES = "SELECT id_empresa_cliente_contador, id_lectura "
+			+ "FROM public.facturacion_ciclo_detalle "
+			+ "WHERE id_ciclo = :idCiclo AND estado = :pendiente AND id_empresa_cliente_contador > :ultimo "
+			+ "ORDER BY id_empresa_cliente_contador LIMIT :tamano";
+
+	private static final String SQL_RECLAMAR = "SELECT 1 FROM public.facturacion_ciclo_detalle "
+			+ "WHERE id_ciclo = :idCiclo AND id_empresa_cliente_contador = :idEcc AND estado = :pendiente "
+			+ "FOR UPDATE SKIP LOCKED";
+
+	private static final String SQL_MARCAR = "UPDATE public.facturacion_ciclo_detalle "
+			+ "SET estado = :estado, mensaje = :mensaje, resultado = CAST(:resultado AS jsonb), fecha_proceso = now() "
+			+ "WHERE id_ciclo = :idCiclo AND id_empresa_cliente_contador = :idEcc AND estado = :pendiente";
+
+	private static final String SQL_FINALIZAR = "UPDATE public.facturacion_ciclo c "
+			+ "SET estado = CASE WHEN EXISTS (SELECT 1 FROM public.facturacion_ciclo_detalle d "
+			+ "    WHERE d.id_ciclo = c.id AND d.estado = :error) THEN :conErrores ELSE :finalizado END, "
+			+ "fecha_fin = now(), nodo = NULL, lease_hasta = NULL "
+			+ "WHERE c.id = :idCiclo AND EXISTS (SELECT 1 FROM public.facturacion_ciclo_detalle d "
+			+ "    WHERE d.id_ciclo = c.id) "
+			+ "AND NOT EXISTS (SELECT 1 FROM public.facturacion_ciclo_detalle d "
+			+ "    WHERE d.id_ciclo = c.id AND d.estado = :pendiente)";
+
+	private static final String SQL_CERRAR_VACIO = "UPDATE public.facturacion_ciclo c "
+			+ "SET estado = :finalizado, fecha_fin = now(), nodo = NULL, lease_hasta = NULL "
+			+ "WHERE c.id = :idCiclo AND NOT EXISTS (SELECT 1 FROM public.facturacion_ciclo_detalle d "
+			+ "    WHERE d.id_ciclo = c.id)";
+
+	private static final String SQL_CONSULTAR = "SELECT c.id, c.id_empresa, c.periodo, c.estado, c.usuario_creacion, "
+			+ "c.fecha_creacion, c.fecha_fin, count(d.*) AS total, "
+			+ "count(d.*) FILTER (WHERE d.estado = :pendiente) AS pendientes, "
+			+ "count(d.*) FILTER (WHERE d.estado = :facturado) AS facturados, "
+			+ "count(d.*) FILTER (WHERE d.estado = :error) AS fallidos "
+			+ "FROM public.facturacion_ciclo c "
+			+ "LEFT JOIN public.facturacion_ciclo_detalle d ON d.id_ciclo = c.id "
+			+ "WHERE c.id = :idCiclo GROUP BY c.id";
+
+	private static final String SQL_PARAMETROS = "SELECT parametros, usuario_creacion, periodo "
+			+ "FROM public.facturacion_ciclo WHERE id = :idCiclo";
+
+	private static final String SQL_NOTIFICACION = "SELECT f.id, f.total, f.fecha_creacion, ecc.id_empresa, "
+			+ "p.nombre, p.apellido, c.serial, cg.correo "
+			+ "FROM public.factura f "
+			+ "JOIN public.empresa_cliente_contador ecc ON ecc.id = f.id_empresa_cliente_contador "
+			+ "JOIN public.persona p ON p.id = ecc.id_persona "
+			+ "JOIN public.contador c ON c.id = ecc.id_contador "
+			+ "JOIN LATERAL (SELECT correo FROM public.correo_general "
+			+ "    WHERE id_persona = p.id AND activo ORDER BY id LIMIT 1) cg ON true "
+			+ "WHERE f.id_lectura = :idLectura AND f.activo "
+			+ "ORDER BY f.id DESC LIMIT 1";
+
+	private static final String SQL_FALLIDOS = "SELECT id_empresa_cliente_contador, id_lectura, estado, mensaje, fecha_proceso "
+			+ "FROM public.facturacion_ciclo_detalle WHERE id_ciclo = :idCiclo AND estado = :error "
+			+ "ORDER BY id_empresa_cliente_contador LIMIT :limite";
+
+	private static final String SQL_REINTENTAR = "UPDATE public.facturacion_ciclo_detalle "
+			+ "SET estado = :pendiente, mensaje = NULL, fecha_proceso = NULL "
+			+ "WHERE id_ciclo = :idCiclo AND estado = :error";
+
+	private static final String SQL_REABRIR = "UPDATE public.facturacion_ciclo SET estado = :estado, fecha_fin = NULL "
+			+ "WHERE id = :idCiclo";
+
+	private static final String SQL_HUERFANOS = "SELECT id FROM public.facturacion_ciclo "
+			+ "WHERE estado = :estado AND (lease_hasta IS NULL OR lease_hasta < now()) ORDER BY id";
+
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+	};
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public record Pendiente(Integer idEmpresaClienteContador, Integer idLectura) {
+	}
+
+	public record Parametros(Map<String, Object> valores, String usuarioCreacion, String periodo) {
+	}
+
+	public record FacturaNotificacion(Integer idFactura, Integer idEmpresa, String cliente, String contador,
+			BigDecimal total, Timestamp fechaCreacion, String correo) {
+	}
+
+	/**
+	 * Metodo encargado de crear o reabrir el ciclo de la empresa y periodo, con el lease del nodo que lo inicia.
+	 * Si el ciclo ya existe y otro nodo tiene su lease vigente, el lease se conserva.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve el id del ciclo
+	 */
+	@Transactional
+	public Integer crear(Integer idEmpresa, String periodo, Map<String, Object> parametros, String usuario,
+			String nodo, int segundos) throws JsonProcessingException {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idEmpresa", idEmpresa)
+				.addValue("periodo", periodo)
+				.addValue("estado", ESTADO_EN_PROCESO)
+				.addValue("parametros", objectMapper.writeValueAsString(parametros != null ? parametros : Map.of()))
+				.addValue("usuario", usuario)
+				.addValue("nodo", nodo)
+				.addValue("segundos", segundos);
+		return namedParameterJdbcTemplate.queryForObject(SQL_CREAR, params, Integer.class);
+	}
+
+	@Transactional
+	public int sembrarDetalle(Integer idCiclo, Integer idEmpresa, LocalDate desde, LocalDate hasta) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("idEmpresa", idEmpresa)
+				.addValue("pendiente", DETALLE_PENDIENTE)
+				.addValue("desde", Timestamp.valueOf(desde.atStartOfDay()))
+				.addValue("hasta", Timestamp.valueOf(hasta.atStartOfDay()));
+		return namedParameterJdbcTemplate.update(SQL_SEMBRAR, params);
+	}
+
+	@Transactional
+	public boolean tomarLease(Integer idCiclo, String nodo, int segundos) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("nodo", nodo)
+				.addValue("segundos", segundos)
+				.addValue("estado", ESTADO_EN_PROCESO);
+		return namedParameterJdbcTemplate.update(SQL_LEASE, params) == 1;
+	}
+
+	@Transactional(readOnly = true)
+	public List<Pendiente> siguientesPendientes(Integer idCiclo, int ultimo, int tamano) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("pendiente", DETALLE_PENDIENTE)
+				.addValue("ultimo", ultimo)
+				.addValue("tamano", tamano);
+		return namedParameterJdbcTemplate.query(SQL_PENDIENTES, params,
+				(rs, rowNum) -> new Pendiente(rs.getInt(1), rs.getInt(2)));
+	}
+
+	/**
+	 * Metodo encargado de bloquear la fila de detalle del contador hasta el fin de la transaccion actual,
+	 * solo si sigue PENDIENTE. Si otro nodo la tiene bloqueada o ya la proceso no se reclama.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idCiclo
+	 * @param idEmpresaClienteContador
+	 * @return Devuelve true si el contador quedo reclamado por esta transaccion
+	 */
+	@Transactional
+	public boolean reclamar(Integer idCiclo, Integer idEmpresaClienteContador) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("idEcc", idEmpresaClienteContador)
+				.addValue("pendiente", DETALLE_PENDIENTE);
+		return !namedParameterJdbcTemplate.queryForList(SQL_RECLAMAR, params, Integer.class).isEmpty();
+	}
+
+	/**
+	 * Metodo encargado de registrar el resultado del contador. Solo cambia filas que siguen PENDIENTE,
+	 * para no sobrescribir lo que otro nodo ya registro.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve true si la fila estaba pendiente y fue actualizada
+	 */
+	@Transactional
+	public boolean marcar(Integer idCiclo, Integer idEmpresaClienteContador, String estado, String mensaje,
+			Map<String, Object> resultado) throws JsonProcessingException {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("idEcc", idEmpresaClienteContador)
+				.addValue("estado", estado)
+				.addValue("pendiente", DETALLE_PENDIENTE)
+				.addValue("mensaje", mensaje)
+				.addValue("resultado", resultado != null ? objectMapper.writeValueAsString(resultado) : null);
+		return namedParameterJdbcTemplate.update(SQL_MARCAR, params) == 1;
+	}
+
+	/**
+	 * Metodo encargado de finalizar el ciclo cuando ya no tiene contadores pendientes. Un ciclo sin filas de
+	 * detalle no se finaliza: su detalle aun no se ha sembrado o no tenia contadores (ver {@link #cerrarVacio}).
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idCiclo
+	 * @return Devuelve true si el ciclo quedo finalizado
+	 */
+	@Transactional
+	public boolean finalizar(Integer idCiclo) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("pendiente", DETALLE_PENDIENTE)
+				.addValue("error", DETALLE_ERROR)
+				.addValue("finalizado", ESTADO_FINALIZADO)
+				.addValue("conErrores", ESTADO_FINALIZADO_CON_ERRORES);
+		return namedParameterJdbcTemplate.update(SQL_FINALIZAR, params) == 1;
+	}
+
+	/**
+	 * Metodo encargado de cerrar un ciclo que quedo sin contadores despues de sembrar su detalle.
+	 * Se llama en la misma transaccion que crea y siembra el ciclo.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idCiclo
+	 * @return Devuelve true si el ciclo no tenia detalle y quedo cerrado
+	 */
+	@Transactional
+	public boolean cerrarVacio(Integer idCiclo) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("finalizado", ESTADO_FINALIZADO);
+		return namedParameterJdbcTemplate.update(SQL_CERRAR_VACIO, params) == 1;
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<FacturacionCicloDTO> consultar(Integer idCiclo) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("pendiente", DETALLE_PENDIENTE)
+				.addValue("facturado", DETALLE_FACTURADO)
+				.addValue("error", DETALLE_ERROR);
+		List<FacturacionCicloDTO> ciclos = namedParameterJdbcTemplate.query(SQL_CONSULTAR, params,
+				(rs, rowNum) -> FacturacionCicloDTO.builder()
+						.id(rs.getInt("id"))
+						.idEmpresa(rs.getInt("id_empresa"))
+						.periodo(rs.getString("periodo"))
+						.estado(rs.getString("estado"))
+						.usuarioCreacion(rs.getString("usuario_creacion"))
+						.fechaCreacion(rs.getTimestamp("fecha_creacion"))
+						.fechaFin(rs.getTimestamp("fecha_fin"))
+						.total(rs.getLong("total"))
+						.pendientes(rs.getLong("pendientes"))
+						.facturados(rs.getLong("facturados"))
+						.fallidos(rs.getLong("fallidos"))
+						.build());
+		return ciclos.stream().findFirst();
+	}
+
+	@Transactional(readOnly = true)
+	public Parametros parametros(Integer idCiclo) {
+		return namedParameterJdbcTemplate.queryForObject(SQL_PARAMETROS, new MapSqlParameterSource("idCiclo", idCiclo),
+				(rs, rowNum) -> {
+					try {
+						byte[] json = rs.getBytes("parametros");
+						Map<String, Object> valores = json != null ? objectMapper.readValue(json, MAP_TYPE)
+								: Collections.emptyMap();
+						return new Parametros(valores, rs.getString("usuario_creacion"), rs.getString("periodo"));
+					} catch (IOException e) {
+						throw new IllegalStateException("Parametros del ciclo invalidos: " + idCiclo, e);
+					}
+				});
+	}
+
+	/**
+	 * Metodo encargado de consultar los datos del correo de factura nueva: la factura generada para la lectura,
+	 * su empresa y el cliente con su correo activo
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idLectura
+	 * @return Devuelve los datos o vacio si el cliente no tiene correo
+	 */
+	@Transactional(readOnly = true)
+	public Optional<FacturaNotificacion> notificacion(Integer idLectura) {
+		return namedParameterJdbcTemplate.query(SQL_NOTIFICACION, new MapSqlParameterSource("idLectura", idLectura),
+				(rs, rowNum) -> new FacturaNotificacion(rs.getInt("id"), rs.getInt("id_empresa"),
+						(Objects.toString(rs.getString("nombre"), "") + " "
+								+ Objects.toString(rs.getString("apellido"), "")).trim(),
+						rs.getString("serial"), rs.getBigDecimal("total"), rs.getTimestamp("fecha_creacion"),
+						rs.getString("correo")))
+				.stream().findFirst();
+	}
+
+	@Transactional(readOnly = true)
+	public List<FacturacionCicloDetalleDTO> fallidos(Integer idCiclo, int limite) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("error", DETALLE_ERROR)
+				.addValue("limite", limite);
+		return namedParameterJdbcTemplate.query(SQL_FALLIDOS, params,
+				(rs, rowNum) -> FacturacionCicloDetalleDTO.builder()
+						.idEmpresaClienteContador(rs.getInt("id_empresa_cliente_contador"))
+						.idLectura(rs.getInt("id_lectura"))
+						.estado(rs.getString("estado"))
+						.mensaje(rs.getString("mensaje"))
+						.fechaProceso(rs.getTimestamp("fecha_proceso"))
+						.build());
+	}
+
+	@Transactional
+	public int reintentarFallidos(Integer idCiclo) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idCiclo", idCiclo)
+				.addValue("pendiente", DETALLE_PENDIENTE)
+				.addValue("error", DETALLE_ERROR)
+				.addValue("estado", ESTADO_EN_PROCESO);
+		int reintentos = namedParameterJdbcTemplate.update(SQL_REINTENTAR, params);
+		if (reintentos > 0) {
+			namedParameterJdbcTemplate.update(SQL_REABRIR, params);
+		}
+		return reintentos;
+	}
+
+	@Transactional(readOnly = true)
+	public List<Integer> ciclosHuerfanos() {
+		return namedParameterJdbcTemplate.queryForList(SQL_HUERFANOS,
+				new MapSqlParameterSource("estado", ESTADO_EN_PROCESO), Integer.class);
+	}
+}
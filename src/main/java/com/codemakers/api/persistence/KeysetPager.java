@@ -0,0 +1,149 @@
+package com.codemakers.api.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.codemakers.api.dtos.PaginaDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * @version 1.0
+ * Componente encargado de las consultas paginadas por cursor (keyset sobre {@code id}) y de la descarga
+ * en streaming de cualquier entidad. Reemplaza la carga completa de {@code repository.findAll()} en los
+ * listados de tablas grandes.
+ */
+@Component
+public class KeysetPager {
+
+	private static final String ID = "id";
+	private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+	private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate readOnlyTransaction;
+	private final int tamanoDefecto;
+	private final int tamanoMaximo;
+	private final int fetchSize;
+
+	public KeysetPager(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+			@Value("${paginacion.tamano-defecto:100}") int tamanoDefecto,
+			@Value("${paginacion.tamano-maximo:500}") int tamanoMaximo,
+			@Value("${paginacion.stream-fetch-size:500}") int fetchSize) {
+		this.objectMapper = objectMapper;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.tamanoDefecto = tamanoDefecto;
+		this.tamanoMaximo = tamanoMaximo;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Metodo encargado de consultar la pagina siguiente al cursor ordenada por id
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param entidad clase de la entidad
+	 * @param cursor ultimo id recibido, nulo para la primera pagina
+	 * @param tamano tamaño solicitado, limitado por {@code paginacion.tamano-maximo}
+	 * @param contar si se debe calcular el total de registros
+	 * @param mapper conversion de entidad a DTO
+	 * @return Devuelve la pagina con el cursor de la siguiente
+	 */
+	@Transactional(readOnly = true)
+	public <E, D> PaginaDTO<D> pagina(Class<E> entidad, Integer cursor, Integer tamano, boolean contar,
+			Function<E, D> mapper) {
+		int limite = tamano == null || tamano <= 0 ? tamanoDefecto : Math.min(tamano, tamanoMaximo);
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> query = cb.createQuery(entidad);
+		Root<E> root = query.from(entidad);
+		if (cursor != null) {
+			query.where(cb.greaterThan(root.get(ID), cursor));
+		}
+		query.orderBy(cb.asc(root.get(ID)));
+
+		List<E> filas = entityManager.createQuery(query)
+				.setHint(HINT_READ_ONLY, true)
+				.setMaxResults(limite + 1)
+				.getResultList();
+		boolean hayMas = filas.size() > limite;
+		List<E> pagina = hayMas ? filas.subList(0, limite) : filas;
+
+		List<D> items = new ArrayList<>(pagina.size());
+		pagina.forEach(fila -> items.add(mapper.apply(fila)));
+		Integer siguiente = hayMas ? (Integer) entityManager.getEntityManagerFactory().getPersistenceUnitUtil()
+				.getIdentifier(pagina.get(pagina.size() - 1)) : null;
+
+		return PaginaDTO.<D>builder()
+				.items(items)
+				.siguienteCursor(siguiente)
+				.tamano(limite)
+				.total(contar ? contar(entidad) : null)
+				.build();
+	}
+
+	/**
+	 * Metodo encargado de escribir todos los registros como un arreglo JSON a medida que se leen del cursor
+	 * de base de datos. El contexto de persistencia se limpia cada {@code fetchSize} filas, incluidas las
+	 * asociaciones perezosas cargadas por el mapper, por lo que la memoria usada no depende del tamaño de la tabla.
+	 * El tiempo maximo de la descarga lo fija {@code spring.mvc.async.request-timeout}.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param entidad clase de la entidad
+	 * @param mapper conversion de entidad a DTO
+	 * @return Devuelve el cuerpo de la respuesta en streaming
+	 */
+	public <E, D> StreamingResponseBody stream(Class<E> entidad, Function<E, D> mapper) {
+		return out -> readOnlyTransaction.executeWithoutResult(status -> {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<E> query = cb.createQuery(entidad);
+			query.orderBy(cb.asc(query.from(entidad).get(ID)));
+			TypedQuery<E> typedQuery = entityManager.createQuery(query)
+					.setHint(HINT_FETCH_SIZE, fetchSize)
+					.setHint(HINT_READ_ONLY, true);
+
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+					Stream<E> filas = typedQuery.getResultStream()) {
+				generator.writeStartArray();
+				int escritos = 0;
+				for (E fila : (Iterable<E>) filas::iterator) {
+					generator.writeObject(mapper.apply(fila));
+					if (++escritos % fetchSize == 0) {
+						generator.flush();
+						entityManager.clear();
+					}
+				}
+				generator.writeEndArray();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	private <E> Long contar(Class<E> entidad) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		query.select(cb.count(query.from(entidad)));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+}
@@ -0,0 +1,113 @@
+package com.codemakers.api.persistence;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codemakers.api.dtos.LecturaLoteItemDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Acceso JDBC para la carga masiva de lecturas.
+ * Los contadores se consultan una sola vez por lote y las lecturas se insertan con batch JDBC.
+ * El insert es idempotente sobre (contador, fecha de lectura): reenviar un lote ya registrado no crea duplicados.
+ * Despues de insertar se consulta el valor registrado de cada clave, para distinguir un reenvio identico de una
+ * lectura distinta para el mismo contador y fecha.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LecturaLoteRepository {
+
+	private static final String SQL_CONTADORES = "SELECT id FROM public.contador WHERE id IN (:ids) AND activo";
+
+	private static final String SQL_INSERTAR = "INSERT INTO public.lectura "
+			+ "(id_contador, lectura_actual, fecha_lectura, usuario_creacion, fecha_creacion, activo) "
+			+ "VALUES (:idContador, :lecturaActual, :fechaLectura, :usuarioCreacion, :fechaCreacion, true) "
+			+ "ON CONFLICT (id_contador, fecha_lectura) WHERE activo DO NOTHING";
+
+	private static final String SQL_REGISTRADAS = "SELECT id_contador, fecha_lectura, lectura_actual FROM public.lectura "
+			+ "WHERE activo AND id_contador IN (:contadores) AND fecha_lectura IN (:fechas)";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * Metodo encargado de filtrar los contadores activos de un lote en una sola consulta
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param ids
+	 * @return Devuelve los ids de contador que existen y estan activos
+	 */
+	@Transactional(readOnly = true)
+	public Set<Integer> contadoresActivos(Collection<Integer> ids) {
+		if (ids.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(namedParameterJdbcTemplate.queryForList(SQL_CONTADORES,
+				new MapSqlParameterSource("ids", ids), Integer.class));
+	}
+
+	/**
+	 * Metodo encargado de insertar las lecturas con una sola sentencia batch. Las lecturas que ya existen
+	 * (mismo contador y fecha) se omiten sin error.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param lecturas
+	 * @return Devuelve el conteo de filas afectadas por cada lectura
+	 */
+	@Transactional
+	public int[] insertar(List<LecturaLoteItemDTO> lecturas) {
+		Timestamp ahora = new Timestamp(System.currentTimeMillis());
+		MapSqlParameterSource[] batch = lecturas.stream()
+				.map(lectura -> new MapSqlParameterSource()
+						.addValue("idContador", lectura.getIdContador())
+						.addValue("lecturaActual", lectura.getLecturaActual())
+						.addValue("fechaLectura", new Timestamp(lectura.getFechaLectura().getTime()))
+						.addValue("usuarioCreacion", lectura.getUsuarioCreacion())
+						.addValue("fechaCreacion", ahora))
+				.toArray(MapSqlParameterSource[]::new);
+		return namedParameterJdbcTemplate.batchUpdate(SQL_INSERTAR, batch);
+	}
+
+	/**
+	 * Metodo encargado de consultar el valor registrado para el contador y la fecha de cada lectura
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param lecturas
+	 * @return Devuelve el valor activo registrado por clave ({@link #clave(Integer, long)})
+	 */
+	@Transactional(readOnly = true)
+	public Map<String, BigDecimal> registradas(List<LecturaLoteItemDTO> lecturas) {
+		if (lecturas.isEmpty()) {
+			return Map.of();
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("contadores", lecturas.stream().map(LecturaLoteItemDTO::getIdContador).distinct().toList())
+				.addValue("fechas", lecturas.stream()
+						.map(lectura -> new Timestamp(lectura.getFechaLectura().getTime())).distinct().toList());
+		Map<String, BigDecimal> registradas = new HashMap<>();
+		namedParameterJdbcTemplate.query(SQL_REGISTRADAS, params, rs -> {
+			registradas.put(clave(rs.getInt("id_contador"), rs.getTimestamp("fecha_lectura").getTime()),
+					rs.getBigDecimal("lectura_actual"));
+		});
+		return registradas;
+	}
+
+	/**
+	 * @return Devuelve la clave de idempotencia de una lectura
+	 */
+	public static String clave(Integer idContador, long fechaLectura) {
+		return idContador + "|" + fechaLectura;
+	}
+}
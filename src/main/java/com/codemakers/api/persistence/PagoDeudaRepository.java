@@ -0,0 +1,117 @@
+package com.codemakers.api.persistence;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codemakers.api.dtos.AbonoLoteItemDTO;
+import com.codemakers.api.utils.Dinero;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Aplicacion de abonos sobre {@code public.deuda_cliente}.
+ * El descuento del saldo es una sola sentencia condicional ({@code valor >= :monto}); PostgreSQL vuelve a evaluar
+ * la condicion sobre la version confirmada de la fila tras esperar el bloqueo, por lo que dos abonos concurrentes
+ * no pueden dejar el saldo negativo ni perder una actualizacion.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PagoDeudaRepository {
+
+	private static final String SQL_APLICAR = "UPDATE public.deuda_cliente "
+			+ "SET valor = valor - CAST(:monto AS numeric), fecha_modificacion = :fecha, usuario_modificacion = :usuario "
+			+ "WHERE id = :idDeuda AND valor >= CAST(:monto AS numeric)";
+
+	private static final String SQL_APLICAR_RETORNANDO = SQL_APLICAR + " RETURNING valor";
+
+	private static final String SQL_DEUDAS = "SELECT id FROM public.deuda_cliente WHERE id IN (:ids)";
+
+	private static final String SQL_INSERTAR_ABONO = "INSERT INTO public.abono "
+			+ "(id_deuda_cliente, valor, usuario_creacion, fecha_creacion, activo) "
+			+ "VALUES (:idDeuda, :monto, :usuario, :fecha, true)";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * Metodo encargado de descontar un abono del saldo de la deuda si el saldo alcanza
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idDeuda
+	 * @param monto
+	 * @param usuario
+	 * @return Devuelve el nuevo saldo, o vacio si la deuda no existe o el saldo es menor al abono
+	 */
+	@Transactional
+	public Optional<Dinero> aplicar(Integer idDeuda, Dinero monto, String usuario) {
+		List<BigDecimal> saldo = namedParameterJdbcTemplate.queryForList(SQL_APLICAR_RETORNANDO,
+				parametros(idDeuda, monto, usuario, new Timestamp(System.currentTimeMillis())), BigDecimal.class);
+		return saldo.stream().findFirst().map(Dinero::de);
+	}
+
+	@Transactional(readOnly = true)
+	public Set<Integer> deudasExistentes(Collection<Integer> ids) {
+		if (ids.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(namedParameterJdbcTemplate.queryForList(SQL_DEUDAS,
+				new MapSqlParameterSource("ids", ids), Integer.class));
+	}
+
+	/**
+	 * Metodo encargado de aplicar un bloque de abonos con dos sentencias batch: el descuento condicional de los
+	 * saldos y el registro de los abonos aplicados. Los abonos se aplican ordenados por deuda para que dos cargas
+	 * concurrentes tomen los bloqueos en el mismo orden; dentro de una deuda se respeta el orden recibido.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param abonos
+	 * @return Devuelve por cada abono, en el orden recibido, si fue aplicado
+	 */
+	@Transactional
+	public boolean[] aplicarLote(List<AbonoLoteItemDTO> abonos) {
+		Timestamp ahora = new Timestamp(System.currentTimeMillis());
+		int[] orden = IntStream.range(0, abonos.size()).boxed()
+				.sorted(Comparator.comparing(i -> abonos.get(i).getIdDeudaCliente()))
+				.mapToInt(Integer::intValue)
+				.toArray();
+		MapSqlParameterSource[] batch = IntStream.of(orden)
+				.mapToObj(i -> parametros(abonos.get(i).getIdDeudaCliente(), abonos.get(i).getValor(),
+						abonos.get(i).getUsuarioCreacion(), ahora))
+				.toArray(MapSqlParameterSource[]::new);
+		int[] conteos = namedParameterJdbcTemplate.batchUpdate(SQL_APLICAR, batch);
+
+		boolean[] aplicados = new boolean[abonos.size()];
+		List<MapSqlParameterSource> registros = new ArrayList<>(abonos.size());
+		for (int j = 0; j < orden.length; j++) {
+			if (conteos[j] > 0) {
+				aplicados[orden[j]] = true;
+				registros.add(batch[j]);
+			}
+		}
+		if (!registros.isEmpty()) {
+			namedParameterJdbcTemplate.batchUpdate(SQL_INSERTAR_ABONO, registros.toArray(MapSqlParameterSource[]::new));
+		}
+		return aplicados;
+	}
+
+	private MapSqlParameterSource parametros(Integer idDeuda, Dinero monto, String usuario, Timestamp fecha) {
+		return new MapSqlParameterSource()
+				.addValue("idDeuda", idDeuda)
+				.addValue("monto", monto.toBigDecimal())
+				.addValue("usuario", usuario)
+				.addValue("fecha", fecha);
+	}
+}
@@ -0,0 +1,45 @@
+package com.codemakers.api.persistence;
+
+import java.util.Optional;
+
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * @version 1.0
+ * Operaciones comunes de los servicios sobre los repositorios de entidades.
+ * Reemplazan el patron {@code existsById} seguido de {@code findById}/{@code deleteById}, que consultaba
+ * la misma fila dos o tres veces, por una sola carga.
+ */
+public final class Registros {
+
+	private Registros() {
+	}
+
+	/**
+	 * Metodo encargado de cargar la entidad a actualizar. El resultado indica a la vez si la operacion
+	 * es una actualizacion (presente) o una creacion (vacio).
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param repository
+	 * @param id
+	 * @return Devuelve la entidad existente o vacio si el id es nulo o no existe
+	 */
+	public static <E, I> Optional<E> existente(CrudRepository<E, I> repository, I id) {
+		return id == null ? Optional.empty() : repository.findById(id);
+	}
+
+	/**
+	 * Metodo encargado de eliminar la entidad con una sola carga. Se elimina la entidad cargada
+	 * y no por id para conservar las cascadas y callbacks de JPA.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param repository
+	 * @param id
+	 * @return Devuelve true si la entidad existia y fue eliminada
+	 */
+	public static <E, I> boolean eliminar(CrudRepository<E, I> repository, I id) {
+		Optional<E> entidad = existente(repository, id);
+		entidad.ifPresent(repository::delete);
+		return entidad.isPresent();
+	}
+}
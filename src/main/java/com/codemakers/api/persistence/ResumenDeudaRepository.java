@@ -0,0 +1,66 @@
+package com.codemakers.api.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codemakers.api.dtos.DeudaResumenDTO;
+import com.codemakers.api.dtos.DeudaTotalDTO;
+import com.codemakers.api.utils.Dinero;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Totales de deuda calculados en la base de datos con aritmetica {@code numeric}.
+ * El total de la empresa se acumula en centavos ({@code long}) a partir de los totales por cliente.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResumenDeudaRepository {
+
+	private static final String SQL_TOTALES_CLIENTE = "SELECT ecc.id_persona, count(*) AS deudas, "
+			+ "sum(CAST(d.valor AS numeric)) AS total "
+			+ "FROM public.deuda_cliente d "
+			+ "JOIN public.empresa_cliente_contador ecc ON ecc.id = d.id_empresa_cliente_contador "
+			+ "WHERE ecc.id_empresa = :idEmpresa AND d.activo AND d.valor > 0 "
+			+ "GROUP BY ecc.id_persona ORDER BY ecc.id_persona";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * Metodo encargado de consultar el saldo pendiente de una empresa agrupado por cliente
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idEmpresa
+	 * @return Devuelve el resumen con el total exacto de la empresa
+	 */
+	@Transactional(readOnly = true)
+	public DeudaResumenDTO porEmpresa(Integer idEmpresa) {
+		List<DeudaTotalDTO> clientes = new ArrayList<>();
+		long[] acumulado = new long[2];
+		namedParameterJdbcTemplate.query(SQL_TOTALES_CLIENTE, new MapSqlParameterSource("idEmpresa", idEmpresa),
+				(RowCallbackHandler) rs -> {
+					Dinero total = Dinero.de(rs.getBigDecimal("total"));
+					long deudas = rs.getLong("deudas");
+					acumulado[0] = Math.addExact(acumulado[0], total.getCentavos());
+					acumulado[1] += deudas;
+					clientes.add(DeudaTotalDTO.builder()
+							.idPersona(rs.getInt("id_persona"))
+							.deudas(deudas)
+							.total(total)
+							.build());
+				});
+		return DeudaResumenDTO.builder()
+				.idEmpresa(idEmpresa)
+				.deudas(acumulado[1])
+				.total(Dinero.deCentavos(acumulado[0]))
+				.clientes(clientes)
+				.build();
+	}
+}
@@ -0,0 +1,175 @@
+package com.codemakers.api.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @version 1.0
+ * Componente encargado de invocar los procedimientos almacenados {@code public.*} que reciben y devuelven jsonb.
+ * El resultado se deserializa directamente desde los bytes entregados por el driver JDBC, sin pasar por
+ * {@code PGobject} ni por un {@link String} intermedio. Cada procedimiento usa siempre el mismo texto SQL,
+ * lo que permite al driver reutilizar la sentencia preparada en el servidor.
+ */
+@Component
+public class StoredProcedureGateway {
+
+	public static final String METRIC_NAME = "acueducto.procedimiento";
+
+	private static final Pattern FUNCTION_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+	};
+
+	private final JdbcOperations jdbcOperations;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final JavaType mapType;
+	private final Map<String, String> sqlCache = new ConcurrentHashMap<>();
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	public StoredProcedureGateway(NamedParameterJdbcTemplate namedParameterJdbcTemplate, ObjectMapper objectMapper,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.jdbcOperations = namedParameterJdbcTemplate.getJdbcOperations();
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+		this.mapType = objectMapper.getTypeFactory().constructType(MAP_TYPE);
+	}
+
+	/**
+	 * Metodo encargado de invocar un procedimiento que recibe un unico parametro jsonb
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param function nombre del procedimiento dentro del esquema public
+	 * @param payload objeto a serializar como parametro jsonb
+	 * @return Devuelve el resultado como mapa, o null si el procedimiento devolvio NULL
+	 * @throws JsonProcessingException
+	 */
+	public Map<String, Object> callJson(String function, Object payload) throws JsonProcessingException {
+		return callJson(function, payload, mapType);
+	}
+
+	/**
+	 * Metodo encargado de invocar un procedimiento jsonb y deserializar el resultado en un tipo concreto
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param <T>
+	 * @param function
+	 * @param payload
+	 * @param type
+	 * @return Devuelve el resultado tipado, o null si el procedimiento devolvio NULL
+	 * @throws JsonProcessingException
+	 */
+	public <T> T callJson(String function, Object payload, Class<T> type) throws JsonProcessingException {
+		return callJson(function, payload, objectMapper.constructType(type));
+	}
+
+	/**
+	 * Metodo encargado de invocar un procedimiento jsonb y deserializar el resultado en un tipo generico
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param <T>
+	 * @param function
+	 * @param payload
+	 * @param type
+	 * @return Devuelve el resultado tipado, o null si el procedimiento devolvio NULL
+	 * @throws JsonProcessingException
+	 */
+	public <T> T callJson(String function, Object payload, TypeReference<T> type) throws JsonProcessingException {
+		return callJson(function, payload, objectMapper.getTypeFactory().constructType(type));
+	}
+
+	/**
+	 * Metodo encargado de invocar un procedimiento con parametros posicionales que devuelve jsonb
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param function
+	 * @param args
+	 * @return Devuelve el resultado como mapa, o null si el procedimiento devolvio NULL
+	 * @throws JsonProcessingException
+	 */
+	public Map<String, Object> call(String function, Object... args) throws JsonProcessingException {
+		String sql = sqlCache.computeIfAbsent(function + "#" + args.length, key -> buildSql(function, args.length, false));
+		return execute(function, sql, mapType, ps -> {
+			for (int i = 0; i < args.length; i++) {
+				ps.setObject(i + 1, args[i]);
+			}
+		});
+	}
+
+	private <T> T callJson(String function, Object payload, JavaType type) throws JsonProcessingException {
+		String json = objectMapper.writeValueAsString(payload);
+		String sql = sqlCache.computeIfAbsent(function, key -> buildSql(function, 1, true));
+		return execute(function, sql, type, ps -> ps.setString(1, json));
+	}
+
+	private <T> T execute(String function, String sql, JavaType type, PreparedStatementSetter setter)
+			throws JsonProcessingException {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			T result = jdbcOperations.query(sql, setter, rs -> rs.next() ? read(rs, type) : null);
+			success = true;
+			return result;
+		} catch (UncheckedIOException e) {
+			if (e.getCause() instanceof JsonProcessingException jsonException) {
+				throw jsonException;
+			}
+			throw e;
+		} finally {
+			timer(function, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private <T> T read(ResultSet rs, JavaType type) throws SQLException {
+		byte[] json = rs.getBytes(1);
+		if (json == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Timer timer(String function, boolean success) {
+		String resultado = success ? "ok" : "error";
+		return timers.computeIfAbsent(function + "|" + resultado, key -> Timer.builder(METRIC_NAME)
+				.description("Latencia de los procedimientos almacenados")
+				.tag("procedimiento", function)
+				.tag("resultado", resultado)
+				.register(meterRegistry));
+	}
+
+	private static String buildSql(String function, int parameters, boolean jsonb) {
+		if (!FUNCTION_NAME.matcher(function).matches()) {
+			throw new IllegalArgumentException("Nombre de procedimiento invalido: " + function);
+		}
+		StringJoiner args = new StringJoiner(", ", "(", ")");
+		for (int i = 0; i < parameters; i++) {
+			args.add(jsonb ? "CAST(? AS jsonb)" : "?");
+		}
+		return "SELECT * FROM public." + function + args;
+	}
+}
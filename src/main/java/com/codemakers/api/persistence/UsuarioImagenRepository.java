@@ -0,0 +1,111 @@
+package com.codemakers.api.persistence;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.SqlBinaryValue;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * Almacen de las imagenes de perfil en {@code public.usuario_imagen}, separado de la fila del usuario para que
+ * las consultas de usuarios no carguen los bytes. La escritura y la lectura se hacen por streams y los rangos
+ * se recortan en la base de datos con {@code substring}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsuarioImagenRepository {
+
+	private static final String SQL_GUARDAR = "INSERT INTO public.usuario_imagen "
+			+ "(id_usuario, hash, tipo_contenido, tamano, imagen, miniatura, tipo_miniatura, usuario_creacion, "
+			+ "fecha_creacion) "
+			+ "VALUES (:idUsuario, :hash, :tipo, :tamano, :imagen, :miniatura, :tipoMiniatura, :usuario, now()) "
+			+ "ON CONFLICT (id_usuario) DO UPDATE SET hash = EXCLUDED.hash, tipo_contenido = EXCLUDED.tipo_contenido, "
+			+ "tamano = EXCLUDED.tamano, imagen = EXCLUDED.imagen, miniatura = EXCLUDED.miniatura, "
+			+ "tipo_miniatura = EXCLUDED.tipo_miniatura, usuario_creacion = EXCLUDED.usuario_creacion, "
+			+ "fecha_creacion = EXCLUDED.fecha_creacion";
+
+	private static final String SQL_METADATOS = "SELECT hash, tipo_contenido, tamano, tipo_miniatura, "
+			+ "octet_length(miniatura) AS tamano_miniatura "
+			+ "FROM public.usuario_imagen WHERE id_usuario = :idUsuario";
+
+	private static final String SQL_IMAGEN = "SELECT substring(imagen FROM :desde FOR :longitud) "
+			+ "FROM public.usuario_imagen WHERE id_usuario = :idUsuario";
+
+	private static final String SQL_MINIATURA = "SELECT substring(miniatura FROM :desde FOR :longitud) "
+			+ "FROM public.usuario_imagen WHERE id_usuario = :idUsuario";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public record Metadatos(String hash, String tipoContenido, long tamano, String tipoMiniatura,
+			long tamanoMiniatura) {
+	}
+
+	/**
+	 * Metodo encargado de guardar o reemplazar la imagen de un usuario leyendo el contenido por stream
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idUsuario
+	 * @param metadatos hash, tipos y tamanos de la imagen y su miniatura
+	 * @param imagen stream de la imagen original
+	 * @param miniatura bytes de la miniatura ya generada
+	 * @param usuario
+	 */
+	@Transactional
+	public void guardar(Integer idUsuario, Metadatos metadatos, InputStream imagen, byte[] miniatura, String usuario) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idUsuario", idUsuario)
+				.addValue("hash", metadatos.hash())
+				.addValue("tipo", metadatos.tipoContenido())
+				.addValue("tamano", metadatos.tamano())
+				.addValue("imagen", new SqlBinaryValue(imagen, metadatos.tamano()))
+				.addValue("miniatura", new SqlBinaryValue(miniatura))
+				.addValue("tipoMiniatura", metadatos.tipoMiniatura())
+				.addValue("usuario", usuario);
+		namedParameterJdbcTemplate.update(SQL_GUARDAR, params);
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<Metadatos> metadatos(Integer idUsuario) {
+		List<Metadatos> filas = namedParameterJdbcTemplate.query(SQL_METADATOS,
+				new MapSqlParameterSource("idUsuario", idUsuario),
+				(rs, rowNum) -> new Metadatos(rs.getString("hash"), rs.getString("tipo_contenido"), rs.getLong("tamano"),
+						rs.getString("tipo_miniatura"), rs.getLong("tamano_miniatura")));
+		return filas.stream().findFirst();
+	}
+
+	/**
+	 * Metodo encargado de copiar un rango de la imagen (o de su miniatura) al stream de salida
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idUsuario
+	 * @param miniatura true para leer la miniatura
+	 * @param desde posicion inicial, base 0
+	 * @param longitud cantidad de bytes
+	 * @param salida
+	 */
+	@Transactional(readOnly = true)
+	public void copiar(Integer idUsuario, boolean miniatura, long desde, long longitud, OutputStream salida) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("idUsuario", idUsuario)
+				.addValue("desde", desde + 1)
+				.addValue("longitud", longitud);
+		namedParameterJdbcTemplate.query(miniatura ? SQL_MINIATURA : SQL_IMAGEN, params, (RowCallbackHandler) rs -> {
+			try (InputStream in = rs.getBinaryStream(1)) {
+				in.transferTo(salida);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+}
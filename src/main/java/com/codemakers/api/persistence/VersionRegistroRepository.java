@@ -0,0 +1,50 @@
+package com.codemakers.api.persistence;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codemakers.api.utils.RespuestaEtag;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * @version 1.0
+ * Calcula la version de un registro o de un conjunto de registros sin cargar las entidades.
+ * La version se compone del numero de filas, la ultima fecha de creacion o modificacion y la suma de ids,
+ * de modo que cambia con cada insercion, actualizacion o eliminacion.
+ */
+@Repository
+public class VersionRegistroRepository {
+
+	private static final String JPQL_VERSION = "SELECT COUNT(e), MAX(COALESCE(e.fechaModificacion, e.fechaCreacion)), "
+			+ "COALESCE(SUM(e.id), 0) FROM %s e";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Metodo encargado de calcular el ETag de los registros de una entidad
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param entidad clase de la entidad, debe tener id, fechaCreacion y fechaModificacion
+	 * @param atributo ruta del atributo de filtro (por ejemplo {@code empresa.id}), nulo para toda la tabla
+	 * @param valor valor del filtro
+	 * @return Devuelve el ETag de la version actual
+	 */
+	@Transactional(readOnly = true)
+	public String etag(Class<?> entidad, String atributo, Object valor) {
+		String nombre = entityManager.getMetamodel().entity(entidad).getName();
+		String jpql = JPQL_VERSION.formatted(nombre) + (atributo != null ? " WHERE e." + atributo + " = :valor" : "");
+		TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+		if (atributo != null) {
+			query.setParameter("valor", valor);
+		}
+		Object[] version = query.getSingleResult();
+		String firma = nombre + "|" + atributo + "|" + valor + "|" + version[0] + "|" + version[1] + "|" + version[2];
+		return RespuestaEtag.etag(firma.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -1,19 +1,27 @@
 package com.codemakers.api.service;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.dtos.AbonoLoteItemDTO;
 import com.codemakers.commons.dtos.AbonoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 
 public interface IAbonoService {
 	
 	ResponseEntity<ResponseDTO> save(AbonoDTO abonoDTO);
+
+	ResponseEntity<ResponseDTO> aplicarLote(List<AbonoLoteItemDTO> abonos);
 	
 	ResponseEntity<ResponseDTO> update(AbonoDTO abonoDTO);
 	
     ResponseEntity<ResponseDTO> findById(Integer id);
     
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     
     ResponseEntity<ResponseDTO> deleteById(Integer id);
 }
@@ -1,6 +1,7 @@
 package com.codemakers.api.service;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.commons.dtos.ContadorDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -20,6 +21,8 @@ public interface IContadorService {
 	ResponseEntity<ResponseDTO> save(ContadorDTO contadorDTO);
     ResponseEntity<ResponseDTO> findById(Integer id);
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     ResponseEntity<ResponseDTO> deleteById(Integer id);
     
 }
@@ -1,6 +1,7 @@
 package com.codemakers.api.service;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.commons.dtos.CuentaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -19,5 +20,7 @@ public interface ICuentaService {
 	ResponseEntity<ResponseDTO> save(CuentaDTO cuentaDTO);
     ResponseEntity<ResponseDTO> findById(Integer id);
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     ResponseEntity<ResponseDTO> deleteById(Integer id);
 }
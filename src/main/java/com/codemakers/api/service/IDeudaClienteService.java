@@ -1,6 +1,9 @@
 package com.codemakers.api.service;
 
+import java.time.LocalDate;
+
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.commons.dtos.DeudaClienteDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -12,6 +15,12 @@ public interface IDeudaClienteService {
     ResponseEntity<ResponseDTO> findById(Integer id);
     
     ResponseEntity<ResponseDTO> findAll();
+
+    ResponseEntity<ResponseDTO> totalesPorEmpresa(Integer idEmpresa);
+
+    ResponseEntity<ResponseDTO> estadoCuenta(Integer idEmpresaClienteContador, Integer idPersona, LocalDate desde);
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     
     ResponseEntity<ResponseDTO> deleteById(Integer id);
     
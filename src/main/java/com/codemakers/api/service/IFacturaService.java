@@ -1,6 +1,7 @@
 package com.codemakers.api.service;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.commons.dtos.FacturaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -16,6 +17,8 @@ public interface IFacturaService {
     ResponseEntity<ResponseDTO> findByEnterpriseId(Integer idEmpresa);
     
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     
     ResponseEntity<ResponseDTO> deleteById(Integer id);
 
@@ -0,0 +1,17 @@
+package com.codemakers.api.service;
+
+import org.springframework.http.ResponseEntity;
+
+import com.codemakers.api.dtos.FacturacionCicloRequestDTO;
+import com.codemakers.commons.dtos.ResponseDTO;
+
+public interface IFacturacionCicloService {
+
+	ResponseEntity<ResponseDTO> iniciar(FacturacionCicloRequestDTO request);
+
+	ResponseEntity<ResponseDTO> findById(Integer id);
+
+	ResponseEntity<ResponseDTO> findFallidos(Integer id);
+
+	ResponseEntity<ResponseDTO> reintentarFallidos(Integer id);
+}
@@ -1,6 +1,7 @@
 package com.codemakers.api.service;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.commons.dtos.InventarioDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -21,5 +22,7 @@ public interface IInventarioService {
     ResponseEntity<ResponseDTO> findById(Integer id);
     ResponseEntity<ResponseDTO> findByEnterpriseId(Integer idEmpresa);
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     ResponseEntity<ResponseDTO> deleteById(Integer id);
 }
@@ -1,7 +1,11 @@
 package com.codemakers.api.service;
 
+import java.util.Iterator;
+
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.dtos.LecturaLoteItemDTO;
 import com.codemakers.commons.dtos.LecturaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 
@@ -20,6 +24,9 @@ public interface ILecturaService {
 	ResponseEntity<ResponseDTO> save(LecturaDTO lecturaDTO);
     ResponseEntity<ResponseDTO> findById(Integer id);
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     ResponseEntity<ResponseDTO> deleteById(Integer id);
+    ResponseEntity<ResponseDTO> guardarLote(Iterator<LecturaLoteItemDTO> lecturas);
     
 }
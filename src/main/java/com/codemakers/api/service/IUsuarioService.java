@@ -1,6 +1,10 @@
 package com.codemakers.api.service;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.UsuarioDTO;
@@ -18,9 +22,13 @@ import com.codemakers.commons.dtos.UsuarioDTO;
 public interface IUsuarioService {
 
 	ResponseEntity<ResponseDTO> save(UsuarioDTO usuarioDTO);
-	ResponseEntity<ResponseDTO> updateImage(Integer id, byte[] nuevaImagen, String usuarioModificacion);
+	ResponseEntity<ResponseDTO> updateImage(Integer id, MultipartFile imagen, String usuarioModificacion);
+	ResponseEntity<StreamingResponseBody> findImage(Integer id, boolean miniatura, String version, HttpHeaders headers,
+			WebRequest request);
     ResponseEntity<ResponseDTO> findById(Integer id);
     ResponseEntity<ResponseDTO> findAll();
+    ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar);
+    StreamingResponseBody streamAll();
     ResponseEntity<ResponseDTO> deleteById(Integer id);
     ResponseEntity<ResponseDTO> updatePassword(Integer idUsuario, String nuevaContrasena, String usuarioModificacion);
     
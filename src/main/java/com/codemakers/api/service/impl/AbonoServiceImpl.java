@@ -1,21 +1,33 @@
 package com.codemakers.api.service.impl;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.dtos.AbonoLoteItemDTO;
+import com.codemakers.api.dtos.AbonoLoteRespuestaDTO;
+import com.codemakers.api.dtos.AbonoLoteResultadoDTO;
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.PagoDeudaRepository;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IAbonoService;
+import com.codemakers.api.utils.Dinero;
 import com.codemakers.commons.dtos.AbonoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.AbonoEntity;
-import com.codemakers.commons.entities.DeudaClienteEntity;
 import com.codemakers.commons.maps.AbonoMapper;
 import com.codemakers.commons.repositories.AbonoRepository;
-import com.codemakers.commons.repositories.DeudaClienteRepository;
 import com.codemakers.commons.utils.Constantes;
 
 import lombok.RequiredArgsConstructor;
@@ -28,7 +40,14 @@ public class AbonoServiceImpl implements IAbonoService {
 
 	private final AbonoRepository abonoRepository;
 	private final AbonoMapper abonoMapper;
-	private final DeudaClienteRepository deudaClienteRepository;
+	private final KeysetPager keysetPager;
+	private final PagoDeudaRepository pagoDeudaRepository;
+
+	@Value("${abono.lote.tamano:500}")
+	private int tamanoLote;
+
+	@Value("${abono.lote.max-items:10000}")
+	private int maxItemsLote;
 
 	@Override
 	@Transactional
@@ -36,46 +55,145 @@ public class AbonoServiceImpl implements IAbonoService {
 		log.info("Inicio metodo crear abono");
 		try {
 			Integer deudaId = abonoDTO.getDeudaCliente().getId();
-			DeudaClienteEntity deuda = deudaClienteRepository.findById(deudaId)
-					.orElseThrow(() -> new RuntimeException("Deuda no encontrada con ID: " + deudaId));
-
-			if (abonoDTO.getValor() > deuda.getValor()) {
+			Dinero valor = valorExacto(abonoDTO);
+			if (valor == null || !valor.esPositivo()) {
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseDTO.builder().success(false)
+						.message(Constantes.DATA_VALIDATION_MESSAGE).code(HttpStatus.BAD_REQUEST.value()).build());
+			}
+			Optional<Dinero> saldo = pagoDeudaRepository.aplicar(deudaId, valor, abonoDTO.getUsuarioCreacion());
+			if (saldo.isEmpty()) {
+				if (pagoDeudaRepository.deudasExistentes(List.of(deudaId)).isEmpty()) {
+					return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseDTO.builder().success(false)
+							.message(Constantes.RECORD_NOT_FOUND).code(HttpStatus.NOT_FOUND.value()).build());
+				}
 				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseDTO.builder().success(false)
 						.message(Constantes.MAYOR_VALUE).code(HttpStatus.BAD_REQUEST.value()).build());
 			}
-			double nuevoValorDeuda = deuda.getValor() - abonoDTO.getValor();
-			deuda.setValor(nuevoValorDeuda);
-			deuda.setFechaModificacion(new Date());
-			deuda.setUsuarioModificacion(abonoDTO.getUsuarioCreacion());
-			deudaClienteRepository.save(deuda);
 			AbonoEntity entity = abonoMapper.dtoToEntity(abonoDTO);
+			entity.setValor(valor.toDouble());
 			entity.setFechaCreacion(new Date());
 			entity.setUsuarioCreacion(abonoDTO.getUsuarioCreacion());
 			entity.setActivo(true);
 			AbonoEntity saved = abonoRepository.save(entity);
 			AbonoDTO savedDTO = abonoMapper.entityToDto(saved);
+			if (savedDTO.getDeudaCliente() != null) {
+				savedDTO.getDeudaCliente().setValor(saldo.get().toDouble());
+			}
 			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.SAVED_SUCCESSFULLY)
 					.code(HttpStatus.CREATED.value()).response(savedDTO).build();
 			log.info("Finalizo metodo crear abono");
 			return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
 		} catch (Exception e) {
 			log.error("Error creando el abono ", e);
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 			ResponseDTO errorResponse = ResponseDTO.builder().success(false).message(Constantes.SAVE_ERROR)
 					.code(HttpStatus.BAD_REQUEST.value()).build();
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
 		}
 	}
 
+	/**
+	 * Metodo encargado de convertir el valor del abono sin redondear; un valor con mas de dos decimales no es valido
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param abonoDTO
+	 * @return Devuelve el valor monetario, o null si falta o tiene mas de dos decimales
+	 */
+	private static Dinero valorExacto(AbonoDTO abonoDTO) {
+		try {
+			return Dinero.exacto(abonoDTO.getValor());
+		} catch (ArithmeticException e) {
+			log.warn("Abono rechazado, el valor {} tiene mas de dos decimales", abonoDTO.getValor());
+			return null;
+		}
+	}
+
+	/**
+	 * Metodo encargado de aplicar una carga masiva de abonos por bloques. Cada bloque se confirma en su propia
+	 * transaccion; un abono se rechaza si la deuda no existe o su saldo no alcanza al momento de aplicarlo.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param abonos
+	 * @return Devuelve el resumen con el resultado de cada abono
+	 */
+	@Override
+	public ResponseEntity<ResponseDTO> aplicarLote(List<AbonoLoteItemDTO> abonos) {
+		log.info("Aplicar lote de {} abonos", abonos == null ? 0 : abonos.size());
+		if (abonos == null || abonos.isEmpty() || abonos.size() > maxItemsLote) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseDTO.builder().success(false)
+					.message(Constantes.DATA_VALIDATION_MESSAGE).code(HttpStatus.BAD_REQUEST.value()).build());
+		}
+		List<AbonoLoteResultadoDTO> resultados = new ArrayList<>(abonos.size());
+		List<AbonoLoteItemDTO> bloque = new ArrayList<>(tamanoLote);
+		List<AbonoLoteResultadoDTO> pendientes = new ArrayList<>(tamanoLote);
+		for (int i = 0; i < abonos.size(); i++) {
+			AbonoLoteItemDTO abono = abonos.get(i);
+			AbonoLoteResultadoDTO resultado = AbonoLoteResultadoDTO.builder()
+					.indice(i)
+					.referencia(abono != null ? abono.getReferencia() : null)
+					.idDeudaCliente(abono != null ? abono.getIdDeudaCliente() : null)
+					.build();
+			resultados.add(resultado);
+			if (abono == null || abono.getIdDeudaCliente() == null || abono.getValor() == null
+					|| !abono.getValor().esPositivo()) {
+				resultado.setMensaje(Constantes.DATA_VALIDATION_MESSAGE);
+				continue;
+			}
+			bloque.add(abono);
+			pendientes.add(resultado);
+			if (bloque.size() == tamanoLote) {
+				aplicarBloque(bloque, pendientes);
+				bloque.clear();
+				pendientes.clear();
+			}
+		}
+		if (!bloque.isEmpty()) {
+			aplicarBloque(bloque, pendientes);
+		}
+
+		int aplicados = (int) resultados.stream().filter(AbonoLoteResultadoDTO::isAplicado).count();
+		AbonoLoteRespuestaDTO respuesta = AbonoLoteRespuestaDTO.builder()
+				.total(resultados.size())
+				.aplicados(aplicados)
+				.rechazados(resultados.size() - aplicados)
+				.resultados(resultados)
+				.build();
+		return ResponseEntity.ok(ResponseDTO.builder()
+				.success(aplicados == resultados.size())
+				.message(aplicados > 0 ? Constantes.SAVED_SUCCESSFULLY : Constantes.SAVE_ERROR)
+				.code(HttpStatus.OK.value())
+				.response(respuesta)
+				.build());
+	}
+
+	private void aplicarBloque(List<AbonoLoteItemDTO> bloque, List<AbonoLoteResultadoDTO> resultados) {
+		try {
+			Set<Integer> existentes = pagoDeudaRepository.deudasExistentes(
+					bloque.stream().map(AbonoLoteItemDTO::getIdDeudaCliente).collect(Collectors.toSet()));
+			boolean[] aplicados = pagoDeudaRepository.aplicarLote(bloque);
+			for (int i = 0; i < bloque.size(); i++) {
+				AbonoLoteResultadoDTO resultado = resultados.get(i);
+				resultado.setAplicado(aplicados[i]);
+				if (aplicados[i]) {
+					resultado.setMensaje(Constantes.SAVED_SUCCESSFULLY);
+				} else {
+					resultado.setMensaje(existentes.contains(bloque.get(i).getIdDeudaCliente()) ? Constantes.MAYOR_VALUE
+							: Constantes.RECORD_NOT_FOUND);
+				}
+			}
+		} catch (Exception e) {
+			log.error("Error aplicando un bloque de {} abonos", bloque.size(), e);
+			resultados.forEach(resultado -> resultado.setMensaje(Constantes.SAVE_ERROR));
+		}
+	}
+
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> update(AbonoDTO abonoDTO) {
 		log.info("inicio metodo Actualizando abono");
 		try {
-			if (abonoDTO.getId() == null || !abonoRepository.existsById(abonoDTO.getId())) {
-				throw new IllegalArgumentException(Constantes.ABONO_NOT_EXIST);
-			}
-
-			AbonoEntity entity = abonoRepository.findById(abonoDTO.getId()).orElseThrow();
+			AbonoEntity entity = Registros.existente(abonoRepository, abonoDTO.getId())
+					.orElseThrow(() -> new IllegalArgumentException(Constantes.ABONO_NOT_EXIST));
 			abonoMapper.updateEntityFromDto(abonoDTO, entity);
 			entity.setFechaModificacion(new Date());
 			entity.setUsuarioModificacion(abonoDTO.getUsuarioModificacion());
@@ -119,6 +237,35 @@ public class AbonoServiceImpl implements IAbonoService {
 		}
 	}
 
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar abonos paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(AbonoEntity.class, cursor, tamano, contar, abonoMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar abonos paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar abonos en streaming");
+		return keysetPager.stream(AbonoEntity.class, abonoMapper::entityToDto);
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findAll() {
@@ -142,12 +289,11 @@ public class AbonoServiceImpl implements IAbonoService {
 	public ResponseEntity<ResponseDTO> deleteById(Integer id) {
 		log.info("Inicio método para eliminar abono por id: {}", id);
 		try {
-			if (!abonoRepository.existsById(id)) {
+			if (!Registros.eliminar(abonoRepository, id)) {
 				ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.RECORD_NOT_FOUND)
 						.code(HttpStatus.NOT_FOUND.value()).build();
 				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
 			}
-			abonoRepository.deleteById(id);
 			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.DELETED_SUCCESSFULLY)
 					.code(HttpStatus.OK.value()).build();
 			return ResponseEntity.ok(responseDTO);
@@ -14,11 +14,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.codemakers.api.configs.security.utils.JwtUtil;
+import com.codemakers.api.configs.security.utils.TokenClaims;
 import com.codemakers.api.utils.EncriptarDesencriptar;
 import com.codemakers.commons.dtos.AutenticacionDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.UsuarioDTO;
+import com.codemakers.commons.entities.EmpresaEntity;
 import com.codemakers.commons.entities.UsuarioEntity;
+import com.codemakers.commons.repositories.EmpresaRepository;
 import com.codemakers.commons.repositories.UsuarioRepository;
 import com.codemakers.commons.utils.Constantes;
 
@@ -38,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AutenticacionServiceImpl implements UserDetailsService {
 
     private final UsuarioRepository usuarioRepository;
+    private final EmpresaRepository empresaRepository;
     private final EncriptarDesencriptar serviceEncriptacion;
     private final JwtUtil jwtTokenUtil;
 
@@ -69,14 +73,21 @@ public class AutenticacionServiceImpl implements UserDetailsService {
 	    if (responseUsuario.isPresent()) {
 	        UsuarioEntity user = responseUsuario.get();
 
-	        final String token = jwtTokenUtil.generateToken(user.getNombre());
+	        final Integer rolId = user.getRol() != null ? user.getRol().getId() : null;
+	        final Integer personaId = user.getPersona() != null ? user.getPersona().getId() : null;
+	        final Integer empresaId = empresaRepository.findByUsuario_Id(user.getId())
+	                .map(EmpresaEntity::getId)
+	                .orElse(null);
+
+	        final String token = jwtTokenUtil.generateToken(user.getNombre(),
+	                TokenClaims.identityClaims(user.getId(), rolId, personaId, empresaId));
 
 	        AutenticacionDTO authData = AutenticacionDTO.builder()
 	                .id(user.getId())
 	                .nombre(user.getNombre())
 	                .token(Constantes.BEARER + token)
-	                .rolId(user.getRol() != null ? user.getRol().getId() : null)
-	                .personaId(user.getPersona() != null ? user.getPersona().getId() : null)
+	                .rolId(rolId)
+	                .personaId(personaId)
 	                .build();
 
 	        ResponseDTO successResponse = ResponseDTO.builder()
@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ICategoriaProductoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.CategoriaProductoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.CategoriaProductoEntity;
@@ -33,17 +38,20 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
 
 	private final CategoriaProductoRepository categoriaRepository;
 	private final CategoriaProductoMapper categoriaMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.CATEGORIA_PRODUCTO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(CategoriaProductoDTO categoriaDTO) {
 	    log.info("Guardar/Actualizar Tipo Cuenta Contable");
 	    try {
-	        boolean isUpdate = categoriaDTO.getId() != null && categoriaRepository.existsById(categoriaDTO.getId());
+	        var existente = Registros.existente(categoriaRepository, categoriaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        CategoriaProductoEntity entity;
 
 	        if (isUpdate) {
-	            entity = categoriaRepository.findById(categoriaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            categoriaMapper.updateEntityFromDto(categoriaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(categoriaDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
 	}
 	
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.CATEGORIA_PRODUCTO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar categoria producto por id: {}", id);
@@ -95,7 +104,7 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
 	}
 	
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.CATEGORIA_PRODUCTO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todas las categortias");
@@ -128,7 +138,7 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar las categorias", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
     }
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.CATEGORIA_PRODUCTO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar categoria por id: {}", id);
         try {
-            if (!categoriaRepository.existsById(id)) {
+            if (!Registros.eliminar(categoriaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class CategoriaProductoServiceImpl implements ICategoriaProductoService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            categoriaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ICiudadService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.CiudadDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.CiudadEntity;
@@ -33,17 +38,20 @@ public class CiudadServiceImpl implements ICiudadService {
 
 	private final CiudadRepository ciudadRepository;
 	private final CiudadMapper ciudadMapper;
+	private final RespuestaEtag respuestaEtag;
 
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.CIUDAD, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(CiudadDTO ciudadDTO) {
 	    log.info("Guardar/Actualizar Ciudad");
 	    try {
-	        boolean isUpdate = ciudadDTO.getId() != null && ciudadRepository.existsById(ciudadDTO.getId());
+	        var existente = Registros.existente(ciudadRepository, ciudadDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        CiudadEntity entity;
 
 	        if (isUpdate) {
-	            entity = ciudadRepository.findById(ciudadDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            ciudadMapper.updateEntityFromDto(ciudadDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(ciudadDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class CiudadServiceImpl implements ICiudadService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.CIUDAD, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar ciudad por id: {}", id);
@@ -95,7 +104,7 @@ public class CiudadServiceImpl implements ICiudadService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class CiudadServiceImpl implements ICiudadService {
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.CIUDAD, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos las ciudades");
@@ -128,7 +138,7 @@ public class CiudadServiceImpl implements ICiudadService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar las ciudades", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class CiudadServiceImpl implements ICiudadService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.CIUDAD, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar ciudad por id: {}", id);
         try {
-            if (!ciudadRepository.existsById(id)) {
+            if (!Registros.eliminar(ciudadRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class CiudadServiceImpl implements ICiudadService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            ciudadRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IClienteNovedadService;
 import com.codemakers.commons.dtos.ClienteNovedadDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -26,6 +29,7 @@ public class ClienteNovedadServiceImpl implements IClienteNovedadService{
 	
 	private final ClienteNovedadRepository clienteNovedadRepository;
 	private final ClienteNovedadMapper clienteNovedadMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
@@ -65,11 +69,8 @@ public class ClienteNovedadServiceImpl implements IClienteNovedadService{
     public ResponseEntity<ResponseDTO> update(ClienteNovedadDTO clienteNovedadDTO) {
         log.info("inicio metodo Actualizando Cliente Novedad");
         try {
-            if (clienteNovedadDTO.getId() == null || !clienteNovedadRepository.existsById(clienteNovedadDTO.getId())) {
-                throw new IllegalArgumentException(Constantes.CLIENT_NOT_EXIST);
-            }
-
-            ClienteNovedadEntity entity = clienteNovedadRepository.findById(clienteNovedadDTO.getId()).orElseThrow();
+            ClienteNovedadEntity entity = Registros.existente(clienteNovedadRepository, clienteNovedadDTO.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(Constantes.CLIENT_NOT_EXIST));
             clienteNovedadMapper.updateEntityFromDto(clienteNovedadDTO, entity); 
             entity.setFechaModificacion(new Date());
             entity.setUsuarioModificacion(clienteNovedadDTO.getUsuarioModificacion());
@@ -130,6 +131,35 @@ public class ClienteNovedadServiceImpl implements IClienteNovedadService{
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar novedades de cliente paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(ClienteNovedadEntity.class, cursor, tamano, contar, clienteNovedadMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar novedades de cliente paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar novedades de cliente en streaming");
+        return keysetPager.stream(ClienteNovedadEntity.class, clienteNovedadMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -161,7 +191,7 @@ public class ClienteNovedadServiceImpl implements IClienteNovedadService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Cliente Novedad por id: {}", id);
         try {
-            if (!clienteNovedadRepository.existsById(id)) {
+            if (!Registros.eliminar(clienteNovedadRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -169,7 +199,6 @@ public class ClienteNovedadServiceImpl implements IClienteNovedadService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            clienteNovedadRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
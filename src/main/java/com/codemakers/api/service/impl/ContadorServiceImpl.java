@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IContadorService;
 import com.codemakers.commons.dtos.ContadorDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -42,17 +45,19 @@ public class ContadorServiceImpl implements IContadorService {
 	private final TipoContadorRepository tipoContadorRepository;
 	private final DireccionRepository direccionRepository;
 	private final ContadorMapper contadorMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(ContadorDTO contadorDTO) {
 	    log.info("Guardar/Actualizar contador");
 	    try {
-	        boolean isUpdate = contadorDTO.getId() != null && contadorRepository.existsById(contadorDTO.getId());
+	        var existente = Registros.existente(contadorRepository, contadorDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        ContadorEntity entity;
 	        log.info("exite id contador:{} ",contadorDTO.getId());
 	        if (isUpdate) {
-	            entity = contadorRepository.findById(contadorDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            contadorMapper.updateEntityFromDto(contadorDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(contadorDTO.getUsuarioModificacion());
@@ -145,6 +150,35 @@ public class ContadorServiceImpl implements IContadorService {
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar contadores paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(ContadorEntity.class, cursor, tamano, contar, contadorMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar contadores paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar contadores en streaming");
+        return keysetPager.stream(ContadorEntity.class, contadorMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -176,7 +210,7 @@ public class ContadorServiceImpl implements IContadorService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar contador por id: {}", id);
         try {
-            if (!contadorRepository.existsById(id)) {
+            if (!Registros.eliminar(contadorRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -184,7 +218,6 @@ public class ContadorServiceImpl implements IContadorService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            contadorRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
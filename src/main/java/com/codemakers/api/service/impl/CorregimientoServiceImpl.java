@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ICorregimientoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.CorregimientoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.CorregimientoEntity;
@@ -33,17 +38,20 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
 
 	private final CorregimientoRepository corregimientoRepository;
 	private final CorregimientoMapper corregimientoMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.CORREGIMIENTO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(CorregimientoDTO corregimientoDTO) {
 	    log.info("Guardar/Actualizar Corregimiento");
 	    try {
-	        boolean isUpdate = corregimientoDTO.getId() != null && corregimientoRepository.existsById(corregimientoDTO.getId());
+	        var existente = Registros.existente(corregimientoRepository, corregimientoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        CorregimientoEntity entity;
 
 	        if (isUpdate) {
-	            entity = corregimientoRepository.findById(corregimientoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            corregimientoMapper.updateEntityFromDto(corregimientoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(corregimientoDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.CORREGIMIENTO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar corregimiento por id: {}", id);
@@ -95,7 +104,7 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.CORREGIMIENTO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los corregimientos");
@@ -128,7 +138,7 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los corregimientos", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.CORREGIMIENTO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar corregimiento por id: {}", id);
         try {
-            if (!corregimientoRepository.existsById(id)) {
+            if (!Registros.eliminar(corregimientoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class CorregimientoServiceImpl implements ICorregimientoService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            corregimientoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
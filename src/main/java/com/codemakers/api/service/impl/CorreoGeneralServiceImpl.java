@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ICorreoGeneralService;
 import com.codemakers.commons.dtos.CorreoGeneralDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -26,13 +29,15 @@ public class CorreoGeneralServiceImpl implements ICorreoGeneralService{
 	
 	private final CorreoGeneralRepository correoGeneralRepository;
 	private final CorreoGeneralMapper correoGeneralMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(CorreoGeneralDTO correoGeneralDTO) {
 	    log.info("Guardar/Actualizar Correo General");
 	    try {
-	        boolean isUpdate = correoGeneralDTO.getId() != null && correoGeneralRepository.existsById(correoGeneralDTO.getId());
+	        var existente = Registros.existente(correoGeneralRepository, correoGeneralDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 
 	        Optional<CorreoGeneralEntity> existingCorreo = correoGeneralRepository.findByCorreoIgnoreCase(correoGeneralDTO.getCorreo());
 
@@ -47,7 +52,7 @@ public class CorreoGeneralServiceImpl implements ICorreoGeneralService{
 
 	        CorreoGeneralEntity entity;
 	        if (isUpdate) {
-	            entity = correoGeneralRepository.findById(correoGeneralDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            correoGeneralMapper.updateEntityFromDto(correoGeneralDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(correoGeneralDTO.getUsuarioModificacion());
@@ -120,6 +125,35 @@ public class CorreoGeneralServiceImpl implements ICorreoGeneralService{
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar correos paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(CorreoGeneralEntity.class, cursor, tamano, contar, correoGeneralMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar correos paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar correos en streaming");
+        return keysetPager.stream(CorreoGeneralEntity.class, correoGeneralMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -151,7 +185,7 @@ public class CorreoGeneralServiceImpl implements ICorreoGeneralService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Correo General por id: {}", id);
         try {
-            if (!correoGeneralRepository.existsById(id)) {
+            if (!Registros.eliminar(correoGeneralRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -159,7 +193,6 @@ public class CorreoGeneralServiceImpl implements ICorreoGeneralService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            correoGeneralRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
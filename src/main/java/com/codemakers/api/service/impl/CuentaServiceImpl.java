@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ICuentaService;
 import com.codemakers.commons.dtos.CuentaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -33,17 +36,19 @@ public class CuentaServiceImpl implements ICuentaService {
 
 	private final CuentaRepository cuentaRepository;
 	private final CuentaMapper cuentaMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(CuentaDTO cuentaDTO) {
 	    log.info("Guardar/Actualizar Cuenta ");
 	    try {
-	        boolean isUpdate = cuentaDTO.getId() != null && cuentaRepository.existsById(cuentaDTO.getId());
+	        var existente = Registros.existente(cuentaRepository, cuentaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        CuentaEntity entity;
 
 	        if (isUpdate) {
-	            entity = cuentaRepository.findById(cuentaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            cuentaMapper.updateEntityFromDto(cuentaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(cuentaDTO.getUsuarioModificacion());
@@ -115,6 +120,35 @@ public class CuentaServiceImpl implements ICuentaService {
 	    }
 	}
 	
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar cuentas paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(CuentaEntity.class, cursor, tamano, contar, cuentaMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar cuentas paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar cuentas en streaming");
+		return keysetPager.stream(CuentaEntity.class, cuentaMapper::entityToDto);
+	}
+
 	@Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -146,7 +180,7 @@ public class CuentaServiceImpl implements ICuentaService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar cuenta por id: {}", id);
         try {
-            if (!cuentaRepository.existsById(id)) {
+            if (!Registros.eliminar(cuentaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +188,6 @@ public class CuentaServiceImpl implements ICuentaService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            cuentaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
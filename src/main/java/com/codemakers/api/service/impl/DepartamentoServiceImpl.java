@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IDepartamentoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.DepartamentoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.DepartamentoEntity;
@@ -33,17 +38,20 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
 
 	private final DepartamentoRepository departamentoRepository;
 	private final DepartamentoMapper departamentoMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.DEPARTAMENTO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(DepartamentoDTO departamentoDTO) {
 	    log.info("Guardar/Actualizar departamento");
 	    try {
-	        boolean isUpdate = departamentoDTO.getId() != null && departamentoRepository.existsById(departamentoDTO.getId());
+	        var existente = Registros.existente(departamentoRepository, departamentoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        DepartamentoEntity entity;
 
 	        if (isUpdate) {
-	            entity = departamentoRepository.findById(departamentoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            departamentoMapper.updateEntityFromDto(departamentoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(departamentoDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.DEPARTAMENTO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar departamento por id: {}", id);
@@ -95,7 +104,7 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.DEPARTAMENTO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los departamentos");
@@ -128,7 +138,7 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los departamentos", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.DEPARTAMENTO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar persona por id: {}", id);
         try {
-            if (!departamentoRepository.existsById(id)) {
+            if (!Registros.eliminar(departamentoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class DepartamentoServiceImpl implements IDepartamentoService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            departamentoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -1,13 +1,20 @@
 package com.codemakers.api.service.impl;
 
+import java.time.LocalDate;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.ResumenDeudaRepository;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IDeudaClienteService;
 import com.codemakers.commons.dtos.DeudaClienteDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -28,18 +35,21 @@ public class DeudaClienteServiceImpl implements IDeudaClienteService {
 	private final DeudaClienteRepository deudaClienteRepository;
 	private final DeudaClienteMapper deudaClienteMapper;
 	private final AbonoRepository abonoRepository;
+	private final KeysetPager keysetPager;
+	private final ResumenDeudaRepository resumenDeudaRepository;
+	private final StoredProcedureGateway storedProcedureGateway;
 
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(DeudaClienteDTO deudaClienteDTO) {
 		log.info("Inicio metodo de Guardar deuda de Cliente");
 		try {
-			boolean isUpdate = deudaClienteDTO.getId() != null
-					&& deudaClienteRepository.existsById(deudaClienteDTO.getId());
+			var existente = Registros.existente(deudaClienteRepository, deudaClienteDTO.getId());
+			boolean isUpdate = existente.isPresent();
 			DeudaClienteEntity entity;
 
 			if (isUpdate) {
-				entity = deudaClienteRepository.findById(deudaClienteDTO.getId()).orElseThrow();
+				entity = existente.get();
 				deudaClienteMapper.updateEntityFromDto(deudaClienteDTO, entity);
 				entity.setFechaModificacion(new Date());
 				entity.setUsuarioModificacion(deudaClienteDTO.getUsuarioModificacion());
@@ -92,6 +102,85 @@ public class DeudaClienteServiceImpl implements IDeudaClienteService {
 		}
 	}
 
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar deudas de cliente paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(DeudaClienteEntity.class, cursor, tamano, contar, deudaClienteMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar deudas de cliente paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar deudas de cliente en streaming");
+		return keysetPager.stream(DeudaClienteEntity.class, deudaClienteMapper::entityToDto);
+	}
+
+	@Override
+	public ResponseEntity<ResponseDTO> totalesPorEmpresa(Integer idEmpresa) {
+		log.info("Consultar saldo pendiente por cliente de la empresa: {}", idEmpresa);
+		try {
+			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value()).response(resumenDeudaRepository.porEmpresa(idEmpresa)).build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al consultar el saldo pendiente de la empresa: {}", idEmpresa, e);
+			ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value()).response(null).build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	/**
+	 * Metodo encargado de consultar el estado de cuenta de un cliente (deudas, abonos con saldo acumulado y
+	 * facturas pendientes) con una sola consulta en la base de datos
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idEmpresaClienteContador contador del cliente; si es nulo se usan todos los contadores de la persona
+	 * @param idPersona
+	 * @param desde fecha opcional desde la cual se listan los movimientos
+	 * @return Devuelve el estado de cuenta
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDTO> estadoCuenta(Integer idEmpresaClienteContador, Integer idPersona,
+			LocalDate desde) {
+		log.info("Consultar estado de cuenta, contador: {}, persona: {}", idEmpresaClienteContador, idPersona);
+		if (idEmpresaClienteContador == null && idPersona == null) {
+			ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.DATA_VALIDATION_MESSAGE)
+					.code(HttpStatus.BAD_REQUEST.value()).build();
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDTO);
+		}
+		try {
+			Map<String, Object> estadoCuenta = storedProcedureGateway.call("estado_cuenta", idEmpresaClienteContador,
+					idPersona, desde);
+			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value()).response(estadoCuenta).build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al consultar el estado de cuenta, contador: {}, persona: {}", idEmpresaClienteContador,
+					idPersona, e);
+			ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value()).response(null).build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findAll() {
@@ -116,13 +205,14 @@ public class DeudaClienteServiceImpl implements IDeudaClienteService {
 	public ResponseEntity<ResponseDTO> deleteById(Integer id) {
 		log.info("Inicio método para eliminar Deuda de Cliente por id: {}", id);
 		try {
-			if (!deudaClienteRepository.existsById(id)) {
+			var deuda = Registros.existente(deudaClienteRepository, id);
+			if (deuda.isEmpty()) {
 				ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.RECORD_NOT_FOUND)
 						.code(HttpStatus.NOT_FOUND.value()).build();
 				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
 			}
 			abonoRepository.deleteByDeudaClienteId(id);
-			deudaClienteRepository.deleteById(id);
+			deudaClienteRepository.delete(deuda.get());
 			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.DELETED_SUCCESSFULLY)
 					.code(HttpStatus.OK.value()).build();
 			return ResponseEntity.ok(responseDTO);
@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IDireccionService;
 import com.codemakers.commons.dtos.DireccionDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -42,17 +45,19 @@ public class DireccionServiceImpl implements IDireccionService {
 	private final DepartamentoRepository departamentoRepository;
 	private final CiudadRepository ciudadRepository;
 	private final DireccionMapper direccionMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(DireccionDTO direccionDTO) {
 	    log.info("Guardar/Actualizar direccion");
 	    try {
-	        boolean isUpdate = direccionDTO.getId() != null && direccionRepository.existsById(direccionDTO.getId());
+	        var existente = Registros.existente(direccionRepository, direccionDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        DireccionEntity entity;
 	        log.info("exite id direccion:{} ",direccionDTO.getId());
 	        if (isUpdate) {
-	            entity = direccionRepository.findById(direccionDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            direccionMapper.updateEntityFromDto(direccionDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(direccionDTO.getUsuarioModificacion());
@@ -145,6 +150,35 @@ public class DireccionServiceImpl implements IDireccionService {
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar direcciones paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(DireccionEntity.class, cursor, tamano, contar, direccionMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar direcciones paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar direcciones en streaming");
+        return keysetPager.stream(DireccionEntity.class, direccionMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -176,7 +210,7 @@ public class DireccionServiceImpl implements IDireccionService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar direccion por id: {}", id);
         try {
-            if (!direccionRepository.existsById(id)) {
+            if (!Registros.eliminar(direccionRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -184,7 +218,6 @@ public class DireccionServiceImpl implements IDireccionService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            direccionRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
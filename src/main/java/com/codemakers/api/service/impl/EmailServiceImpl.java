@@ -1,34 +1,174 @@
 package com.codemakers.api.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import com.codemakers.api.persistence.CorreoSalienteRepository;
+import com.codemakers.api.persistence.CorreoSalienteRepository.CorreoSaliente;
+
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * @version 2.0
+ * Envio de correos a traves de la bandeja de salida {@code public.correo_saliente}.
+ * {@link #sendEmail} solo registra el correo dentro de la transaccion del llamador; el envio lo hace
+ * un proceso en segundo plano que reparte los pendientes entre los hilos de {@code correoExecutor}.
+ * Cada hilo envia su lote por una sola conexion SMTP, los fallos se reintentan con espera exponencial
+ * y al agotar los intentos el correo queda en estado FALLIDO. Al enviarse o fallar se descarta el cuerpo.
+ */
 @Service
 @Slf4j
 public class EmailServiceImpl {
-	
+
 	private final JavaMailSender mailSender;
+	private final CorreoSalienteRepository correoSalienteRepository;
+	private final ThreadPoolTaskExecutor correoExecutor;
+
+	@Value("${correo.outbox.tamano-lote:50}")
+	private int tamanoLote;
+
+	@Value("${correo.outbox.hilos:2}")
+	private int hilos;
+
+	@Value("${correo.outbox.lease-segundos:300}")
+	private int leaseSegundos;
+
+	@Value("${correo.outbox.max-intentos:6}")
+	private int maxIntentos;
 
-	public EmailServiceImpl(JavaMailSender mailSender) {
+	@Value("${correo.outbox.espera-base-segundos:30}")
+	private long esperaBaseSegundos;
+
+	@Value("${correo.outbox.espera-maxima-segundos:3600}")
+	private long esperaMaximaSegundos;
+
+	@Value("${correo.outbox.retencion-dias:30}")
+	private int retencionDias;
+
+	public EmailServiceImpl(JavaMailSender mailSender, CorreoSalienteRepository correoSalienteRepository,
+			@Qualifier("correoExecutor") ThreadPoolTaskExecutor correoExecutor) {
 		this.mailSender = mailSender;
+		this.correoSalienteRepository = correoSalienteRepository;
+		this.correoExecutor = correoExecutor;
 	}
 
+	/**
+	 * Metodo encargado de registrar el correo en la bandeja de salida. El envio es asincrono y solo
+	 * ocurre si la transaccion del llamador se confirma.
+	 * @since 18-10-2026
+	 * @version 2.0
+	 * @param to
+	 * @param subject
+	 * @param body
+	 */
 	public void sendEmail(String to, String subject, String body) {
+		correoSalienteRepository.encolar(to, subject, body);
+		log.info("Correo para {} registrado en la bandeja de salida", to);
+	}
+
+	/**
+	 * Metodo encargado de enviar los correos pendientes de la bandeja de salida
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(fixedDelayString = "${correo.outbox.poll-millis:5000}")
+	public void enviarPendientes() {
+		List<CorreoSaliente> correos = correoSalienteRepository.reclamar(tamanoLote * hilos, leaseSegundos);
+		if (correos.isEmpty()) {
+			return;
+		}
+		log.info("Enviando {} correos de la bandeja de salida", correos.size());
+		List<CompletableFuture<Void>> envios = new ArrayList<>();
+		for (int inicio = 0; inicio < correos.size(); inicio += tamanoLote) {
+			List<CorreoSaliente> lote = correos.subList(inicio, Math.min(inicio + tamanoLote, correos.size()));
+			envios.add(CompletableFuture.runAsync(() -> enviarLote(lote), correoExecutor));
+		}
+		CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new)).join();
+	}
+
+	/**
+	 * Metodo encargado de purgar los correos enviados y fallidos vencidos de la bandeja de salida
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(cron = "${correo.outbox.purge-cron:0 30 3 * * *}")
+	public void purgar() {
+		int eliminados = correoSalienteRepository.purgar(retencionDias);
+		log.info("Correos enviados y fallidos purgados de la bandeja de salida: {}", eliminados);
+	}
+
+	private void enviarLote(List<CorreoSaliente> lote) {
+		Map<MimeMessage, CorreoSaliente> mensajes = new LinkedHashMap<>();
+		for (CorreoSaliente correo : lote) {
+			try {
+				mensajes.put(construir(correo), correo);
+			} catch (MessagingException e) {
+				log.error("Correo {} invalido, no se reintentara", correo.id(), e);
+				correoSalienteRepository.marcarFallido(correo.id(), e.getMessage());
+			}
+		}
+		if (mensajes.isEmpty()) {
+			return;
+		}
+
+		Map<Object, Exception> fallidos = Map.of();
 		try {
-			MimeMessage message = mailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(message, true);
-			helper.setTo(to);
-			helper.setSubject(subject);
-			helper.setText(body, true);
-			mailSender.send(message);
-			log.info("Correo enviado a {}", to);
-		} catch (MessagingException e) {
-			log.error("Error enviando correo a {}", to, e);
+			mailSender.send(mensajes.keySet().toArray(MimeMessage[]::new));
+		} catch (MailSendException e) {
+			fallidos = e.getFailedMessages();
+		} catch (MailException e) {
+			Map<Object, Exception> todos = new LinkedHashMap<>();
+			mensajes.keySet().forEach(mensaje -> todos.put(mensaje, e));
+			fallidos = todos;
+		}
+
+		List<Long> enviados = new ArrayList<>();
+		for (Map.Entry<MimeMessage, CorreoSaliente> entry : mensajes.entrySet()) {
+			Exception error = fallidos.get(entry.getKey());
+			if (error == null) {
+				enviados.add(entry.getValue().id());
+			} else {
+				registrarFallo(entry.getValue(), error);
+			}
+		}
+		correoSalienteRepository.marcarEnviados(enviados);
+		log.info("Lote de correos enviado: {} enviados, {} con error", enviados.size(), mensajes.size() - enviados.size());
+	}
+
+	private MimeMessage construir(CorreoSaliente correo) throws MessagingException {
+		MimeMessage message = mailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, true);
+		helper.setTo(correo.destinatario());
+		helper.setSubject(correo.asunto());
+		helper.setText(correo.cuerpo(), true);
+		return message;
+	}
+
+	private void registrarFallo(CorreoSaliente correo, Exception error) {
+		if (correo.intentos() >= maxIntentos) {
+			log.error("Correo {} para {} descartado tras {} intentos", correo.id(), correo.destinatario(),
+					correo.intentos(), error);
+			correoSalienteRepository.marcarFallido(correo.id(), error.getMessage());
+			return;
 		}
+		long espera = Math.min(esperaBaseSegundos << Math.min(correo.intentos() - 1, 20), esperaMaximaSegundos);
+		log.warn("Error enviando el correo {} (intento {}), se reintenta en {} s: {}", correo.id(), correo.intentos(),
+				espera, error.getMessage());
+		correoSalienteRepository.reintentar(correo.id(), espera, error.getMessage());
 	}
-}
\ No newline at end of file
+}
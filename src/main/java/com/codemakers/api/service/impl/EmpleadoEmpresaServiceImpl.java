@@ -3,14 +3,13 @@ package com.codemakers.api.service.impl;
 import java.util.Map;
 import java.util.Optional;
 
-import org.postgresql.util.PGobject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IEmpleadoEmpresaService;
 import com.codemakers.commons.dtos.EmpleadoEmpresaResponseDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -19,8 +18,6 @@ import com.codemakers.commons.maps.EmpleadoEmpresaMapper;
 import com.codemakers.commons.repositories.EmpleadoEmpresaRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,26 +36,14 @@ public class EmpleadoEmpresaServiceImpl implements IEmpleadoEmpresaService {
 
 	private final EmpleadoEmpresaRepository empleadoEmpresaRepository;
 	private final EmpleadoEmpresaMapper empleadoEmpresaMapper;
-	private final ObjectMapper objectMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final StoredProcedureGateway storedProcedureGateway;
 
 	@Transactional
 	public Map<String, Object> save(Map<String, Object> jsonParams) {
 		try {
-			String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-			String sql = "SELECT * FROM public.guardar_empleado_completo(CAST(:jsonData AS jsonb))";
-
-			MapSqlParameterSource parameters = new MapSqlParameterSource();
-			parameters.addValue("jsonData", jsonString);
-
-			Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-			Object wrappedValue = rawResult.get("guardar_empleado_completo");
-			if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-				String jsonValue = pgObject.getValue();
-				return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {
-				});
+			Map<String, Object> result = storedProcedureGateway.callJson("guardar_empleado_completo", jsonParams);
+			if (result != null) {
+				return result;
 			}
 
 			return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -75,20 +60,9 @@ public class EmpleadoEmpresaServiceImpl implements IEmpleadoEmpresaService {
 	@Transactional
 	public Map<String, Object> update(Map<String, Object> jsonParams) {
 		try {
-			String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-			String sql = "SELECT * FROM public.actualizar_empleado(CAST(:jsonData AS jsonb))";
-
-			MapSqlParameterSource parameters = new MapSqlParameterSource();
-			parameters.addValue("jsonData", jsonString);
-
-			Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-			Object wrappedValue = rawResult.get("actualizar_empleado");
-			if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-				String jsonValue = pgObject.getValue();
-				return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {
-				});
+			Map<String, Object> result = storedProcedureGateway.callJson("actualizar_empleado", jsonParams);
+			if (result != null) {
+				return result;
 			}
 
 			return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -105,20 +79,9 @@ public class EmpleadoEmpresaServiceImpl implements IEmpleadoEmpresaService {
 	@Transactional
 	public Map<String, Object> actualizarEstadoPersona(Map<String, Object> jsonParams) {
 		try {
-			String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-			String sql = "SELECT * FROM public.actualizar_estado_por_persona(CAST(:jsonData AS jsonb))";
-
-			MapSqlParameterSource parameters = new MapSqlParameterSource();
-			parameters.addValue("jsonData", jsonString);
-
-			Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-			Object wrappedValue = rawResult.get("actualizar_estado_por_persona");
-			if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-				String jsonValue = pgObject.getValue();
-				return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {
-				});
+			Map<String, Object> result = storedProcedureGateway.callJson("actualizar_estado_por_persona", jsonParams);
+			if (result != null) {
+				return result;
 			}
 
 			return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -189,12 +152,11 @@ public class EmpleadoEmpresaServiceImpl implements IEmpleadoEmpresaService {
 	public ResponseEntity<ResponseDTO> deleteById(Integer id) {
 		log.info("Inicio método para eliminar empelado empresa por id: {}", id);
 		try {
-			if (!empleadoEmpresaRepository.existsById(id)) {
+			if (!Registros.eliminar(empleadoEmpresaRepository, id)) {
 				ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.RECORD_NOT_FOUND)
 						.code(HttpStatus.NOT_FOUND.value()).build();
 				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
 			}
-			empleadoEmpresaRepository.deleteById(id);
 			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.DELETED_SUCCESSFULLY)
 					.code(HttpStatus.OK.value()).build();
 			return ResponseEntity.ok(responseDTO);
@@ -5,14 +5,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.postgresql.util.PGobject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.ConsultaEmpresaRepository;
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IEmpresaClienteContadorService;
 import com.codemakers.commons.dtos.EmpresaClienteContadorDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -21,8 +23,6 @@ import com.codemakers.commons.maps.EmpresaClienteContadorMapper;
 import com.codemakers.commons.repositories.EmpresaClienteContadorRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +34,9 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
 	
 	private final EmpresaClienteContadorRepository empresaClienteContadorRepository;
 	private final EmpresaClienteContadorMapper empresaClienteContadorMapper;
-    private final ObjectMapper objectMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final StoredProcedureGateway storedProcedureGateway;
+	private final KeysetPager keysetPager;
+	private final ConsultaEmpresaRepository consultaEmpresaRepository;
 	
 	
 	@Override
@@ -89,20 +90,9 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     @Transactional
 	public Map<String, Object> saveClient(Map<String, Object> jsonParams) {
 		try {
-			String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-			String sql = "SELECT * FROM public.guardar_cliente_completo(CAST(:jsonData AS jsonb))";
-
-			MapSqlParameterSource parameters = new MapSqlParameterSource();
-			parameters.addValue("jsonData", jsonString);
-
-			Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-			Object wrappedValue = rawResult.get("guardar_cliente_completo");
-			if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-				String jsonValue = pgObject.getValue();
-				return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {
-				});
+			Map<String, Object> result = storedProcedureGateway.callJson("guardar_cliente_completo", jsonParams);
+			if (result != null) {
+				return result;
 			}
 
 			return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -120,23 +110,9 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     public Map<String, Object> updateClient(Map<String, Object> jsonParams) {
         try {
             
-            String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-           
-            String sql = "SELECT * FROM public.actualizar_cliente_basico(CAST(:jsonData AS jsonb))";
-
-          
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("jsonData", jsonString);
-
-          
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-         
-            Object wrappedValue = rawResult.get("actualizar_cliente_basico");
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.callJson("actualizar_cliente_basico", jsonParams);
+            if (result != null) {
+                return result;
             }
 
             return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -154,17 +130,9 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     @Transactional
     public Map<String, Object> deleteClient(Integer idPersona) {
     	try {
-    		String sql = "SELECT * FROM public.eliminar_cliente_completo(:idPersona)";
-
-    		MapSqlParameterSource parameters = new MapSqlParameterSource();
-    		parameters.addValue("idPersona", idPersona);
-
-    		Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-    		Object wrappedValue = rawResult.get("eliminar_cliente_completo");
-    		if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-    			String jsonValue = pgObject.getValue();
-    			return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+    		Map<String, Object> result = storedProcedureGateway.call("eliminar_cliente_completo", idPersona);
+    		if (result != null) {
+    			return result;
     		}
 
     		return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -181,20 +149,9 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
 	@Transactional
 	public Map<String, Object> actualizarEstado(Map<String, Object> jsonParams) {
 		try {
-			String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-			String sql = "SELECT * FROM public.actualizar_estado(CAST(:jsonData AS jsonb))";
-
-			MapSqlParameterSource parameters = new MapSqlParameterSource();
-			parameters.addValue("jsonData", jsonString);
-
-			Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-			Object wrappedValue = rawResult.get("actualizar_estado");
-			if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-				String jsonValue = pgObject.getValue();
-				return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {
-				});
+			Map<String, Object> result = storedProcedureGateway.callJson("actualizar_estado", jsonParams);
+			if (result != null) {
+				return result;
 			}
 
 			return Map.of("error", "El resultado no pudo ser procesado correctamente.");
@@ -212,10 +169,8 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     public ResponseEntity<ResponseDTO> update(EmpresaClienteContadorDTO empresaClienteContadorDTO) {
         log.info("Actualizando Empresa Cliente Contador");
         try {
-            if (empresaClienteContadorDTO.getId() == null || !empresaClienteContadorRepository.existsById(empresaClienteContadorDTO.getId())) {
-                throw new IllegalArgumentException(Constantes.ECC_NOT_FOUND);
-            }
-            EmpresaClienteContadorEntity entity = empresaClienteContadorRepository.findById(empresaClienteContadorDTO.getId()).orElseThrow();
+            EmpresaClienteContadorEntity entity = Registros.existente(empresaClienteContadorRepository, empresaClienteContadorDTO.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(Constantes.ECC_NOT_FOUND));
             empresaClienteContadorMapper.updateEntityFromDto(empresaClienteContadorDTO, entity); 
             entity.setFechaModificacion(new Date());
             entity.setUsuarioModificacion(empresaClienteContadorDTO.getUsuarioModificacion());
@@ -247,7 +202,7 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     public ResponseEntity<ResponseDTO> findByEmpresaId(Integer idEmpresa) {
         log.info("Buscar Empresa Cliente Contador por id de empresa: {}", idEmpresa);
         try {
-            var list = empresaClienteContadorRepository.findByEmpresa_Id(idEmpresa);
+            var list = consultaEmpresaRepository.clientesContador(idEmpresa);
             var dtoList = empresaClienteContadorMapper.listEntityToDtoList(list);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
@@ -272,9 +227,9 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     public ResponseEntity<ResponseDTO> findByEmpresaIdResponseId(Integer idEmpresa) {
         log.info("Buscar Empresa Cliente Contador por id de empresa: {}", idEmpresa);
         try {
-        	var list = empresaClienteContadorRepository.findByEmpresa_Id(idEmpresa);
+        	List<Integer> ids = consultaEmpresaRepository.idsClientesContador(idEmpresa);
 
-            if (list.isEmpty()) {
+            if (ids.isEmpty()) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message("No se encontraron registros para la empresa con id: " + idEmpresa)
@@ -283,8 +238,8 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
 
-            List<Map<String, Object>> idList = list.stream()
-            	    .map(e -> Map.<String, Object>of("id", e.getId()))
+            List<Map<String, Object>> idList = ids.stream()
+            	    .map(id -> Map.<String, Object>of("id", id))
             	    .toList();
 
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -340,6 +295,35 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar empresas cliente contador paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(EmpresaClienteContadorEntity.class, cursor, tamano, contar, empresaClienteContadorMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar empresas cliente contador paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar empresas cliente contador en streaming");
+        return keysetPager.stream(EmpresaClienteContadorEntity.class, empresaClienteContadorMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -371,7 +355,7 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Empresa Cliente Contador por id: {}", id);
         try {
-            if (!empresaClienteContadorRepository.existsById(id)) {
+            if (!Registros.eliminar(empresaClienteContadorRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -379,7 +363,6 @@ public class EmpresaClienteContadorServiceImpl implements IEmpresaClienteContado
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            empresaClienteContadorRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
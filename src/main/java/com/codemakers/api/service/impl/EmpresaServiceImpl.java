@@ -7,14 +7,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.postgresql.util.PGobject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IEmpresaService;
 import com.codemakers.api.utils.EncriptarDesencriptar;
 import com.codemakers.commons.dtos.EmpresaDTO;
@@ -25,8 +24,6 @@ import com.codemakers.commons.maps.EmpresaMapper;
 import com.codemakers.commons.repositories.EmpresaRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,8 +35,7 @@ public class EmpresaServiceImpl implements IEmpresaService{
 	
 	private final EmpresaRepository empresaRepository;
 	private final EmpresaMapper empresaMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final ObjectMapper objectMapper;
+	private final StoredProcedureGateway storedProcedureGateway;
     private final EncriptarDesencriptar encriptarDesencriptar;
 	
 	@Override
@@ -77,16 +73,11 @@ public class EmpresaServiceImpl implements IEmpresaService{
 	@Transactional
 	public Map<String, Object> updateEmpresaDireccion(Map<String, Object> jsonParams) {
 	    try {
-	        String jsonString = objectMapper.writeValueAsString(jsonParams);
-	        String sql = "SELECT * FROM public.actualizar_empresa_direccion(CAST(:jsonData AS jsonb))";
-	        MapSqlParameterSource parameters = new MapSqlParameterSource();
-	        parameters.addValue("jsonData", jsonString);
-	        Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-	        Object wrappedValue = rawResult.get("actualizar_empresa_direccion");
-	        if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-	            String jsonValue = pgObject.getValue();
-	            return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+	        Map<String, Object> result = storedProcedureGateway.callJson("actualizar_empresa_direccion", jsonParams);
+	        if (result != null) {
+	            return result;
 	        }
+
 	        return Map.of("error", "El resultado no pudo ser procesado correctamente.");
 	    } catch (JsonProcessingException e) {
 	        log.error("Error de procesamiento JSON", e);
@@ -107,19 +98,9 @@ public class EmpresaServiceImpl implements IEmpresaService{
                 jsonParams.put("password", encodedPassword);
             }
 
-            String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-            String sql = "SELECT * FROM public.crear_o_actualizar_empresa(CAST(:jsonData AS jsonb))"; 
-            
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("jsonData", jsonString);
-
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-            Object wrappedValue = rawResult.get("crear_o_actualizar_empresa"); 
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.callJson("crear_o_actualizar_empresa", jsonParams);
+            if (result != null) {
+                return result;
             }
 
             return Map.of(Constantes.ERROR_KEY, "El resultado no pudo ser procesado correctamente.");
@@ -137,23 +118,9 @@ public class EmpresaServiceImpl implements IEmpresaService{
     public Map<String, Object> updateEnterpise(Map<String, Object> jsonParams) {
         try {
             
-            String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-           
-            String sql = "SELECT * FROM public.actualizar_estado_empresa(CAST(:jsonData AS jsonb))";
-
-          
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("jsonData", jsonString);
-
-          
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-         
-            Object wrappedValue = rawResult.get("actualizar_estado_empresa");
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.callJson("actualizar_estado_empresa", jsonParams);
+            if (result != null) {
+                return result;
             }
 
             return Map.of(Constantes.ERROR_KEY, "El resultado no pudo ser procesado correctamente.");
@@ -172,11 +139,8 @@ public class EmpresaServiceImpl implements IEmpresaService{
     public ResponseEntity<ResponseDTO> update(EmpresaDTO empresaDTO) {
         log.info("Actualizando Empresa");
         try {
-            if (empresaDTO.getId() == null || !empresaRepository.existsById(empresaDTO.getId())) {
-                throw new IllegalArgumentException(Constantes.EMP_NOT_FOUND);
-            }
-
-            EmpresaEntity entity = empresaRepository.findById(empresaDTO.getId()).orElseThrow();
+            EmpresaEntity entity = Registros.existente(empresaRepository, empresaDTO.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(Constantes.EMP_NOT_FOUND));
             empresaMapper.updateEntityFromDto(empresaDTO, entity); 
             entity.setFechaModificacion(new Date());
             entity.setUsuarioModificacion(empresaDTO.getUsuarioModificacion());
@@ -343,7 +307,7 @@ public class EmpresaServiceImpl implements IEmpresaService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar empresa por id: {}", id);
         try {
-            if (!empresaRepository.existsById(id)) {
+            if (!Registros.eliminar(empresaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -351,7 +315,6 @@ public class EmpresaServiceImpl implements IEmpresaService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            empresaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
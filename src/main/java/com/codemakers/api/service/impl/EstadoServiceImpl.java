@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IEstadoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.EstadoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.EstadoEntity;
@@ -26,17 +31,20 @@ public class EstadoServiceImpl implements IEstadoService{
 	
 	private final EstadoRepository estadoRepository;
 	private final EstadoMapper estadoMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.ESTADO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(EstadoDTO estadoDTO) {
 	    log.info("Guardar/Actualizar estado");
 	    try {
-	        boolean isUpdate = estadoDTO.getId() != null && estadoRepository.existsById(estadoDTO.getId());
+	        var existente = Registros.existente(estadoRepository, estadoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        EstadoEntity entity;
 
 	        if (isUpdate) {
-	            entity = estadoRepository.findById(estadoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            estadoMapper.updateEntityFromDto(estadoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(estadoDTO.getUsuarioModificacion());
@@ -75,6 +83,7 @@ public class EstadoServiceImpl implements IEstadoService{
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.ESTADO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar estado por id: {}", id);
@@ -88,7 +97,7 @@ public class EstadoServiceImpl implements IEstadoService{
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -109,6 +118,7 @@ public class EstadoServiceImpl implements IEstadoService{
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.ESTADO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los estados");
@@ -121,7 +131,7 @@ public class EstadoServiceImpl implements IEstadoService{
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los estados", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -135,11 +145,12 @@ public class EstadoServiceImpl implements IEstadoService{
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.ESTADO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar estado por id: {}", id);
         try {
-            if (!estadoRepository.existsById(id)) {
+            if (!Registros.eliminar(estadoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +158,6 @@ public class EstadoServiceImpl implements IEstadoService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            estadoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -6,14 +6,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.postgresql.util.PGobject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.ConsultaEmpresaRepository;
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IFacturaService;
 import com.codemakers.commons.dtos.FacturaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -27,8 +29,6 @@ import com.codemakers.commons.maps.TipoPagoMapper;
 import com.codemakers.commons.repositories.FacturaRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,8 +45,9 @@ public class FacturaServiceImpl implements IFacturaService{
 	private final LecturaMapper lecturaMapper;
 	private final TipoPagoMapper tipoPagoMapper;
 	private final EstadoMapper estadoMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final ObjectMapper objectMapper;
+	private final StoredProcedureGateway storedProcedureGateway;
+	private final KeysetPager keysetPager;
+	private final ConsultaEmpresaRepository consultaEmpresaRepository;
 	
 	@Override
 	@Transactional
@@ -185,7 +186,7 @@ public class FacturaServiceImpl implements IFacturaService{
 	public ResponseEntity<ResponseDTO> findByEnterpriseId(Integer idEmpresa) {
 	    log.info("Buscar facturas por id de empresa: {}", idEmpresa);
 	    try {
-	        List<FacturaEntity> facturas = facturaRepository.findByEmpresaClienteContador_Empresa_Id(idEmpresa);
+	        List<FacturaEntity> facturas = consultaEmpresaRepository.facturas(idEmpresa);
 
 	        if (facturas.isEmpty()) {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
@@ -219,6 +220,35 @@ public class FacturaServiceImpl implements IFacturaService{
 
 
 
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar facturas paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(FacturaEntity.class, cursor, tamano, contar, facturaMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar facturas paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar facturas en streaming");
+		return keysetPager.stream(FacturaEntity.class, facturaMapper::entityToDto);
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findAll() {
@@ -255,7 +285,7 @@ public class FacturaServiceImpl implements IFacturaService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar factura por id: {}", id);
         try {
-            if (!facturaRepository.existsById(id)) {
+            if (!Registros.eliminar(facturaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -263,7 +293,6 @@ public class FacturaServiceImpl implements IFacturaService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            facturaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -292,21 +321,9 @@ public class FacturaServiceImpl implements IFacturaService{
     @Transactional
     public Map<String, Object> generarFactura(Map<String, Object> jsonParams) {
         try {
-            String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-            String sql = "SELECT * FROM public.generar_factura(CAST(:jsonData AS jsonb))";
-            
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("jsonData", jsonString);
-
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-          
-            Object wrappedValue = rawResult.get("generar_factura");
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.callJson("generar_factura", jsonParams);
+            if (result != null) {
+                return result;
             }
 
             return Map.of(Constantes.ERROR_KEY, Constantes.RESULT_COULD_NOT_PROCESSED);
@@ -0,0 +1,342 @@
+package com.codemakers.api.service.impl;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.codemakers.api.dtos.FacturacionCicloRequestDTO;
+import com.codemakers.api.persistence.FacturacionCicloRepository;
+import com.codemakers.api.persistence.FacturacionCicloRepository.FacturaNotificacion;
+import com.codemakers.api.persistence.FacturacionCicloRepository.Parametros;
+import com.codemakers.api.persistence.FacturacionCicloRepository.Pendiente;
+import com.codemakers.api.persistence.StoredProcedureGateway;
+import com.codemakers.api.service.IFacturacionCicloService;
+import com.codemakers.api.utils.Dinero;
+import com.codemakers.api.utils.PlantillasCorreo;
+import com.codemakers.commons.dtos.ResponseDTO;
+import com.codemakers.commons.exceptions.ProcessGenericException;
+import com.codemakers.commons.utils.Constantes;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Clase encargada del ciclo de facturacion masivo de una empresa.
+ * Los contadores elegibles se registran en {@code facturacion_ciclo_detalle} y se facturan por lotes,
+ * con paralelismo acotado por {@code facturacionExecutor}. Cada factura y el estado de su contador se
+ * confirman en la misma transaccion, por lo que un ciclo interrumpido se reanuda desde los pendientes.
+ * El lease del ciclo se renueva en segundo plano mientras este nodo lo procesa; aun si dos nodos coinciden,
+ * cada contador se reclama con un bloqueo de fila antes de llamar al procedimiento.
+ * El correo de factura nueva se registra en la bandeja de salida dentro de la misma transaccion de la factura.
+ */
+@Service
+@Slf4j
+public class FacturacionCicloServiceImpl implements IFacturacionCicloService {
+
+	private static final String PROCEDIMIENTO = "generar_factura";
+	private static final int LIMITE_FALLIDOS = 1000;
+	private static final String ASUNTO_FACTURA = "Tu factura del periodo %s ya está disponible";
+
+	private final FacturacionCicloRepository facturacionCicloRepository;
+	private final StoredProcedureGateway storedProcedureGateway;
+	private final ThreadPoolTaskExecutor facturacionExecutor;
+	private final ThreadPoolTaskExecutor cicloFacturacionExecutor;
+	private final TransactionTemplate transactionTemplate;
+	private final PlantillasCorreo plantillasCorreo;
+	private final EmailServiceImpl emailService;
+	private final String nodo = UUID.randomUUID().toString();
+	private final Set<Integer> ciclosEnEjecucion = ConcurrentHashMap.newKeySet();
+	private final Set<Integer> ciclosConLease = ConcurrentHashMap.newKeySet();
+
+	@Value("${facturacion.ciclo.tamano-lote:200}")
+	private int tamanoLote;
+
+	@Value("${facturacion.ciclo.lease-segundos:120}")
+	private int leaseSegundos;
+
+	@Value("${facturacion.ciclo.notificar:true}")
+	private boolean notificarFacturas;
+
+	@Value("${facturacion.ciclo.dias-pago:15}")
+	private int diasPago;
+
+	public FacturacionCicloServiceImpl(FacturacionCicloRepository facturacionCicloRepository,
+			StoredProcedureGateway storedProcedureGateway,
+			@Qualifier("facturacionExecutor") ThreadPoolTaskExecutor facturacionExecutor,
+			@Qualifier("cicloFacturacionExecutor") ThreadPoolTaskExecutor cicloFacturacionExecutor,
+			PlatformTransactionManager transactionManager, PlantillasCorreo plantillasCorreo,
+			EmailServiceImpl emailService) {
+		this.facturacionCicloRepository = facturacionCicloRepository;
+		this.storedProcedureGateway = storedProcedureGateway;
+		this.facturacionExecutor = facturacionExecutor;
+		this.cicloFacturacionExecutor = cicloFacturacionExecutor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.plantillasCorreo = plantillasCorreo;
+		this.emailService = emailService;
+	}
+
+	@Override
+	public ResponseEntity<ResponseDTO> iniciar(FacturacionCicloRequestDTO request) {
+		log.info("Iniciar ciclo de facturacion");
+		if (request == null || request.getIdEmpresa() == null || request.getPeriodo() == null) {
+			return buildResponse(false, Constantes.DATA_VALIDATION_MESSAGE, HttpStatus.BAD_REQUEST, null);
+		}
+		try {
+			YearMonth periodo = YearMonth.parse(request.getPeriodo());
+			// El ciclo, su lease y su detalle se confirman juntos: ningun nodo puede verlo sin contadores.
+			Inicio inicio = transactionTemplate.execute(status -> {
+				try {
+					Integer id = facturacionCicloRepository.crear(request.getIdEmpresa(), periodo.toString(),
+							request.getParametros(), request.getUsuarioCreacion(), nodo, leaseSegundos);
+					int nuevos = facturacionCicloRepository.sembrarDetalle(id, request.getIdEmpresa(),
+							periodo.atDay(1), periodo.plusMonths(1).atDay(1));
+					return new Inicio(id, nuevos, facturacionCicloRepository.cerrarVacio(id));
+				} catch (JsonProcessingException e) {
+					throw new ProcessGenericException(Constantes.PROCCESSING_ERROR + e.getMessage());
+				}
+			});
+			Integer idCiclo = inicio.idCiclo();
+			log.info("Ciclo {} de la empresa {} periodo {}: {} contadores nuevos", idCiclo, request.getIdEmpresa(),
+					periodo, inicio.contadores());
+
+			if (!inicio.vacio()) {
+				programar(idCiclo);
+			}
+
+			return buildResponse(true, Constantes.SAVED_SUCCESSFULLY, HttpStatus.ACCEPTED,
+					facturacionCicloRepository.consultar(idCiclo).orElse(null));
+		} catch (DateTimeParseException e) {
+			return buildResponse(false, Constantes.DATA_VALIDATION_MESSAGE, HttpStatus.BAD_REQUEST, null);
+		} catch (Exception e) {
+			log.error("Error iniciando el ciclo de facturacion", e);
+			return buildResponse(false, Constantes.SAVE_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, null);
+		}
+	}
+
+	@Override
+	public ResponseEntity<ResponseDTO> findById(Integer id) {
+		log.info("Consultar ciclo de facturacion: {}", id);
+		try {
+			return facturacionCicloRepository.consultar(id)
+					.map(ciclo -> buildResponse(true, Constantes.CONSULTED_SUCCESSFULLY, HttpStatus.OK, ciclo))
+					.orElseGet(() -> buildResponse(false, Constantes.RECORD_NOT_FOUND, HttpStatus.NOT_FOUND, null));
+		} catch (Exception e) {
+			log.error("Error consultando el ciclo de facturacion: {}", id, e);
+			return buildResponse(false, Constantes.ERROR_QUERY_RECORD_BY_ID, HttpStatus.INTERNAL_SERVER_ERROR, null);
+		}
+	}
+
+	@Override
+	public ResponseEntity<ResponseDTO> findFallidos(Integer id) {
+		log.info("Consultar contadores fallidos del ciclo: {}", id);
+		try {
+			return buildResponse(true, Constantes.CONSULTED_SUCCESSFULLY, HttpStatus.OK,
+					facturacionCicloRepository.fallidos(id, LIMITE_FALLIDOS));
+		} catch (Exception e) {
+			log.error("Error consultando los fallidos del ciclo: {}", id, e);
+			return buildResponse(false, Constantes.CONSULTING_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, null);
+		}
+	}
+
+	@Override
+	public ResponseEntity<ResponseDTO> reintentarFallidos(Integer id) {
+		log.info("Reintentar contadores fallidos del ciclo: {}", id);
+		try {
+			int reintentos = facturacionCicloRepository.reintentarFallidos(id);
+			if (reintentos > 0) {
+				programar(id);
+			}
+			return buildResponse(true, Constantes.UPDATED_SUCCESSFULLY, HttpStatus.ACCEPTED,
+					facturacionCicloRepository.consultar(id).orElse(null));
+		} catch (Exception e) {
+			log.error("Error reintentando los fallidos del ciclo: {}", id, e);
+			return buildResponse(false, Constantes.UPDATE_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, null);
+		}
+	}
+
+	/**
+	 * Metodo encargado de reanudar los ciclos cuyo nodo dejo de renovar el lease (caida o reinicio)
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(fixedDelayString = "${facturacion.ciclo.reanudar-millis:60000}")
+	public void reanudarCiclos() {
+		for (Integer idCiclo : facturacionCicloRepository.ciclosHuerfanos()) {
+			log.info("Reanudando ciclo de facturacion: {}", idCiclo);
+			programar(idCiclo);
+		}
+	}
+
+	/**
+	 * Metodo encargado de renovar el lease de los ciclos que procesa este nodo. Si se pierde alguno,
+	 * el ciclo se detiene al terminar el lote en curso.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 */
+	@Scheduled(fixedDelayString = "${facturacion.ciclo.renovar-lease-millis:30000}")
+	public void renovarLeases() {
+		for (Integer idCiclo : ciclosConLease) {
+			try {
+				if (!facturacionCicloRepository.tomarLease(idCiclo, nodo, leaseSegundos)) {
+					ciclosConLease.remove(idCiclo);
+					log.warn("Se perdio el lease del ciclo {}, se detiene en este nodo", idCiclo);
+				}
+			} catch (Exception e) {
+				log.error("Error renovando el lease del ciclo: {}", idCiclo, e);
+			}
+		}
+	}
+
+	private void programar(Integer idCiclo) {
+		if (!ciclosEnEjecucion.add(idCiclo)) {
+			return;
+		}
+		try {
+			cicloFacturacionExecutor.execute(() -> {
+				try {
+					ejecutar(idCiclo);
+				} finally {
+					ciclosEnEjecucion.remove(idCiclo);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			ciclosEnEjecucion.remove(idCiclo);
+			log.warn("Sin capacidad para el ciclo {}, se reanudara en la siguiente revision", idCiclo);
+		}
+	}
+
+	private void ejecutar(Integer idCiclo) {
+		if (!facturacionCicloRepository.tomarLease(idCiclo, nodo, leaseSegundos)) {
+			log.info("El ciclo {} esta siendo procesado por otro nodo", idCiclo);
+			return;
+		}
+		ciclosConLease.add(idCiclo);
+		try {
+			Parametros parametros = facturacionCicloRepository.parametros(idCiclo);
+			int ultimo = 0;
+			List<Pendiente> lote = facturacionCicloRepository.siguientesPendientes(idCiclo, ultimo, tamanoLote);
+			while (!lote.isEmpty()) {
+				CompletableFuture<?>[] tareas = lote.stream()
+						.map(pendiente -> CompletableFuture.runAsync(() -> facturar(idCiclo, pendiente, parametros),
+								facturacionExecutor))
+						.toArray(CompletableFuture[]::new);
+				CompletableFuture.allOf(tareas).join();
+
+				if (!ciclosConLease.contains(idCiclo)) {
+					return;
+				}
+				ultimo = lote.get(lote.size() - 1).idEmpresaClienteContador();
+				lote = facturacionCicloRepository.siguientesPendientes(idCiclo, ultimo, tamanoLote);
+			}
+			if (facturacionCicloRepository.finalizar(idCiclo)) {
+				log.info("Ciclo de facturacion {} finalizado", idCiclo);
+			} else {
+				log.warn("El ciclo {} no se finalizo: aun tiene pendientes o no tiene detalle", idCiclo);
+			}
+		} catch (Exception e) {
+			log.error("Error ejecutando el ciclo de facturacion: {}", idCiclo, e);
+		} finally {
+			ciclosConLease.remove(idCiclo);
+		}
+	}
+
+	private void facturar(Integer idCiclo, Pendiente pendiente, Parametros parametros) {
+		Map<String, Object> payload = new HashMap<>(parametros.valores());
+		payload.put("idEmpresaClienteContador", pendiente.idEmpresaClienteContador());
+		payload.put("idLectura", pendiente.idLectura());
+		payload.putIfAbsent("usuarioCreacion", parametros.usuarioCreacion());
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				if (!facturacionCicloRepository.reclamar(idCiclo, pendiente.idEmpresaClienteContador())) {
+					log.info("El contador {} del ciclo {} ya fue procesado o lo procesa otro nodo",
+							pendiente.idEmpresaClienteContador(), idCiclo);
+					return;
+				}
+				try {
+					Map<String, Object> resultado = storedProcedureGateway.callJson(PROCEDIMIENTO, payload);
+					if (resultado == null) {
+						throw new ProcessGenericException(Constantes.RESULT_COULD_NOT_PROCESSED);
+					}
+					if (resultado.containsKey(Constantes.ERROR_KEY)) {
+						throw new ProcessGenericException(String.valueOf(resultado.get(Constantes.ERROR_KEY)));
+					}
+					facturacionCicloRepository.marcar(idCiclo, pendiente.idEmpresaClienteContador(),
+							FacturacionCicloRepository.DETALLE_FACTURADO, null, resultado);
+					if (notificarFacturas) {
+						facturacionCicloRepository.notificacion(pendiente.idLectura())
+								.ifPresent(factura -> notificar(factura, parametros.periodo()));
+					}
+				} catch (JsonProcessingException e) {
+					throw new ProcessGenericException(Constantes.PROCCESSING_ERROR + e.getMessage());
+				}
+			});
+		} catch (Exception e) {
+			log.warn("Error facturando el contador {} del ciclo {}: {}", pendiente.idEmpresaClienteContador(), idCiclo,
+					e.getMessage());
+			marcarError(idCiclo, pendiente, e.getMessage());
+		}
+	}
+
+	private void notificar(FacturaNotificacion factura, String periodo) {
+		Map<String, Object> valores = new HashMap<>();
+		valores.put("cliente", factura.cliente());
+		valores.put("periodo", periodo);
+		valores.put("codigo", factura.idFactura());
+		valores.put("contador", factura.contador());
+		valores.put("total", Dinero.de(factura.total()));
+		valores.put("fechaLimite", factura.fechaCreacion() != null
+				? factura.fechaCreacion().toLocalDateTime().toLocalDate().plusDays(diasPago) : null);
+		String cuerpo;
+		try {
+			cuerpo = plantillasCorreo.renderizar(PlantillasCorreo.FACTURA_NUEVA, factura.idEmpresa(), valores);
+		} catch (RuntimeException e) {
+			// Un problema con la plantilla no debe revertir la factura: se registra y la factura se confirma sin correo.
+			log.error("No fue posible generar el correo de la factura {}: {}", factura.idFactura(), e.getMessage());
+			return;
+		}
+		emailService.sendEmail(factura.correo(), String.format(ASUNTO_FACTURA, periodo), cuerpo);
+	}
+
+	private void marcarError(Integer idCiclo, Pendiente pendiente, String mensaje) {
+		try {
+			facturacionCicloRepository.marcar(idCiclo, pendiente.idEmpresaClienteContador(),
+					FacturacionCicloRepository.DETALLE_ERROR, mensaje, null);
+		} catch (Exception e) {
+			log.error("No fue posible registrar el error del contador {} del ciclo {}",
+					pendiente.idEmpresaClienteContador(), idCiclo, e);
+		}
+	}
+
+	private record Inicio(Integer idCiclo, int contadores, boolean vacio) {
+	}
+
+	private ResponseEntity<ResponseDTO> buildResponse(boolean success, String message, HttpStatus status,
+			Object response) {
+		return ResponseEntity.status(status).body(ResponseDTO.builder()
+				.success(success)
+				.message(message)
+				.code(status.value())
+				.response(response)
+				.build());
+	}
+}
@@ -8,7 +8,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.ConsultaEmpresaRepository;
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IInventarioService;
 import com.codemakers.commons.dtos.InventarioDTO;
 import com.codemakers.commons.dtos.InventarioResponseDTO;
@@ -35,17 +39,20 @@ public class InventarioServiceImpl implements IInventarioService{
 
 	private final InventarioRepository inventarioRepository;
 	private final InventarioMapper inventarioMapper;
+	private final KeysetPager keysetPager;
+	private final ConsultaEmpresaRepository consultaEmpresaRepository;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(InventarioDTO inventarioDTO) {
 	    log.info("Guardar/Actualizar Inventario ");
 	    try {
-	        boolean isUpdate = inventarioDTO.getId() != null && inventarioRepository.existsById(inventarioDTO.getId());
+	        var existente = Registros.existente(inventarioRepository, inventarioDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        InventarioEntity entity;
 
 	        if (isUpdate) {
-	            entity = inventarioRepository.findById(inventarioDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            inventarioMapper.updateEntityFromDto(inventarioDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(inventarioDTO.getUsuarioModificacion());
@@ -88,7 +95,7 @@ public class InventarioServiceImpl implements IInventarioService{
 	public ResponseEntity<ResponseDTO> findByEnterpriseId(Integer idEmpresa) {
 	    log.info("Buscar inventario por id de empresa: {}", idEmpresa);
 	    try {
-	        List<InventarioEntity> inventario = inventarioRepository.findByProducto_Empresa_Id(idEmpresa);
+	        List<InventarioEntity> inventario = consultaEmpresaRepository.inventario(idEmpresa);
 
 	        if (inventario.isEmpty()) {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
@@ -165,6 +172,35 @@ public class InventarioServiceImpl implements IInventarioService{
 	    }
 	}
 	
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar inventarios paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(InventarioEntity.class, cursor, tamano, contar, inventarioMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar inventarios paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar inventarios en streaming");
+		return keysetPager.stream(InventarioEntity.class, inventarioMapper::entityToDto);
+	}
+
 	@Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -196,7 +232,7 @@ public class InventarioServiceImpl implements IInventarioService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar inventario por id: {}", id);
         try {
-            if (!inventarioRepository.existsById(id)) {
+            if (!Registros.eliminar(inventarioRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -204,7 +240,6 @@ public class InventarioServiceImpl implements IInventarioService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            inventarioRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -1,18 +1,31 @@
 package com.codemakers.api.service.impl;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.postgresql.util.PGobject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.dtos.LecturaLoteItemDTO;
+import com.codemakers.api.dtos.LecturaLoteRespuestaDTO;
+import com.codemakers.api.dtos.LecturaLoteResultadoDTO;
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.LecturaLoteRepository;
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.ILecturaService;
 import com.codemakers.commons.dtos.LecturaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -23,8 +36,6 @@ import com.codemakers.commons.repositories.ContadorRepository;
 import com.codemakers.commons.repositories.LecturaRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,22 +52,32 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LecturaServiceImpl implements ILecturaService {
 
+	private static final String LECTURA_EN_CONFLICTO = "Ya existe una lectura del contador en esa fecha con un valor diferente";
+
 	private final LecturaRepository lecturaRepository;
 	private final ContadorRepository contadorRepository;
 	private final LecturaMapper lecturaMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final ObjectMapper objectMapper;
+	private final StoredProcedureGateway storedProcedureGateway;
+	private final LecturaLoteRepository lecturaLoteRepository;
+	private final KeysetPager keysetPager;
+
+	@Value("${lectura.lote.tamano:500}")
+	private int tamanoLote;
+
+	@Value("${lectura.lote.max-items:5000}")
+	private int maxItemsLote;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(LecturaDTO lecturaDTO) {
 	    log.info("Guardar/Actualizar lectura");
 	    try {
-	        boolean isUpdate = lecturaDTO.getId() != null && lecturaRepository.existsById(lecturaDTO.getId());
+	        var existente = Registros.existente(lecturaRepository, lecturaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        LecturaEntity entity;
 	        log.info("existe id lectura:{} ", lecturaDTO.getId());
 	        if (isUpdate) {
-	            entity = lecturaRepository.findById(lecturaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            lecturaMapper.updateEntityFromDto(lecturaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(lecturaDTO.getUsuarioModificacion());
@@ -112,21 +133,9 @@ public class LecturaServiceImpl implements ILecturaService {
 	@Transactional
     public Map<String, Object> guardarLectura(Map<String, Object> jsonParams) {
         try {
-            String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-            String sql = "SELECT * FROM public.registrar_lectura(CAST(:jsonData AS jsonb))";
-            
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("jsonData", jsonString);
-
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-            // Obtener el campo "value" del resultado
-            Object wrappedValue = rawResult.get("registrar_lectura");
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                // Deserializar a Map
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.callJson("registrar_lectura", jsonParams);
+            if (result != null) {
+                return result;
             }
 
             return Map.of(Constantes.ERROR_KEY, Constantes.RESULT_COULD_NOT_PROCESSED);
@@ -174,6 +183,35 @@ public class LecturaServiceImpl implements ILecturaService {
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar lecturas paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(LecturaEntity.class, cursor, tamano, contar, lecturaMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar lecturas paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar lecturas en streaming");
+        return keysetPager.stream(LecturaEntity.class, lecturaMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -205,7 +243,7 @@ public class LecturaServiceImpl implements ILecturaService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar lectura por id: {}", id);
         try {
-            if (!lecturaRepository.existsById(id)) {
+            if (!Registros.eliminar(lecturaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -213,7 +251,6 @@ public class LecturaServiceImpl implements ILecturaService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            lecturaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -230,4 +267,154 @@ public class LecturaServiceImpl implements ILecturaService {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
         }
     }
+
+    /**
+     * Metodo encargado de registrar una carga masiva de lecturas. Los items se validan en memoria contra
+     * los contadores activos del lote y se insertan con batch JDBC, un lote por transaccion. Si un lote falla
+     * sus lecturas se reintentan una a una para reportar el error exacto de cada item. Cada item debe traer la fecha
+     * de captura: con el contador forma la clave de idempotencia, por lo que reenviar el lote tras un timeout
+     * no duplica lecturas y las ya registradas con el mismo valor se informan como guardadas. Si ya existe una
+     * lectura del contador en esa fecha con otro valor, el item se informa como conflicto y no se guarda.
+     * @since 18-10-2026
+     * @version 1.0
+     * @param lecturas
+     * @return Devuelve el resultado de cada lectura
+     */
+    @Override
+    public ResponseEntity<ResponseDTO> guardarLote(Iterator<LecturaLoteItemDTO> lecturas) {
+        log.info("Guardar lote de lecturas");
+        List<LecturaLoteResultadoDTO> resultados = new ArrayList<>();
+        Set<String> recibidas = new HashSet<>();
+        List<LecturaLoteItemDTO> lote = new ArrayList<>(tamanoLote);
+        List<LecturaLoteResultadoDTO> pendientes = new ArrayList<>(tamanoLote);
+        int indice = 0;
+        try {
+            while (lecturas.hasNext()) {
+                if (indice == maxItemsLote) {
+                    log.warn("El lote supera el maximo de {} lecturas, se descarta el resto", maxItemsLote);
+                    resultados.add(LecturaLoteResultadoDTO.builder()
+                            .indice(indice)
+                            .mensaje(Constantes.DATA_VALIDATION_MESSAGE)
+                            .build());
+                    break;
+                }
+                LecturaLoteItemDTO lectura = lecturas.next();
+                LecturaLoteResultadoDTO resultado = LecturaLoteResultadoDTO.builder()
+                        .indice(indice++)
+                        .referencia(lectura != null ? lectura.getReferencia() : null)
+                        .idContador(lectura != null ? lectura.getIdContador() : null)
+                        .build();
+                resultados.add(resultado);
+                if (!esValida(lectura) || !recibidas.add(LecturaLoteRepository.clave(lectura.getIdContador(),
+                        lectura.getFechaLectura().getTime()))) {
+                    resultado.setMensaje(Constantes.DATA_VALIDATION_MESSAGE);
+                    continue;
+                }
+                lote.add(lectura);
+                pendientes.add(resultado);
+                if (lote.size() == tamanoLote) {
+                    guardarBloque(lote, pendientes);
+                    lote.clear();
+                    pendientes.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Error leyendo el lote de lecturas en el item {}", indice, e);
+            resultados.add(LecturaLoteResultadoDTO.builder()
+                    .indice(indice)
+                    .mensaje(Constantes.PROCCESSING_ERROR + e.getMessage())
+                    .build());
+        }
+        if (!lote.isEmpty()) {
+            guardarBloque(lote, pendientes);
+        }
+
+        int guardadas = (int) resultados.stream().filter(LecturaLoteResultadoDTO::isGuardada).count();
+        LecturaLoteRespuestaDTO respuesta = LecturaLoteRespuestaDTO.builder()
+                .total(resultados.size())
+                .guardadas(guardadas)
+                .fallidas(resultados.size() - guardadas)
+                .resultados(resultados)
+                .build();
+        ResponseDTO responseDTO = ResponseDTO.builder()
+                .success(guardadas == resultados.size())
+                .message(guardadas > 0 ? Constantes.SAVED_SUCCESSFULLY : Constantes.SAVE_ERROR)
+                .code(HttpStatus.OK.value())
+                .response(respuesta)
+                .build();
+        return ResponseEntity.ok(responseDTO);
+    }
+
+    private void guardarBloque(List<LecturaLoteItemDTO> lote, List<LecturaLoteResultadoDTO> resultados) {
+        Set<Integer> activos = lecturaLoteRepository.contadoresActivos(
+                lote.stream().map(LecturaLoteItemDTO::getIdContador).collect(Collectors.toSet()));
+        List<LecturaLoteItemDTO> validas = new ArrayList<>(lote.size());
+        List<LecturaLoteResultadoDTO> resultadosValidas = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            if (activos.contains(lote.get(i).getIdContador())) {
+                validas.add(lote.get(i));
+                resultadosValidas.add(resultados.get(i));
+            } else {
+                resultados.get(i).setMensaje(Constantes.CON_NOT_FOUND);
+            }
+        }
+        if (validas.isEmpty()) {
+            return;
+        }
+        List<LecturaLoteItemDTO> insertadas = new ArrayList<>(validas.size());
+        List<LecturaLoteResultadoDTO> resultadosInsertadas = new ArrayList<>(validas.size());
+        try {
+            lecturaLoteRepository.insertar(validas);
+            insertadas.addAll(validas);
+            resultadosInsertadas.addAll(resultadosValidas);
+        } catch (Exception e) {
+            log.warn("Fallo el lote de {} lecturas, se reintenta por item: {}", validas.size(), e.getMessage());
+            for (int i = 0; i < validas.size(); i++) {
+                try {
+                    lecturaLoteRepository.insertar(List.of(validas.get(i)));
+                    insertadas.add(validas.get(i));
+                    resultadosInsertadas.add(resultadosValidas.get(i));
+                } catch (Exception ex) {
+                    log.error("Error guardando la lectura del contador {}", validas.get(i).getIdContador(), ex);
+                    resultadosValidas.get(i).setMensaje(Constantes.SAVE_ERROR);
+                }
+            }
+        }
+        confirmar(insertadas, resultadosInsertadas);
+    }
+
+    /**
+     * Compara cada lectura con el valor registrado para su contador y fecha: el insert omite las claves que ya
+     * existian, por lo que un valor distinto indica una lectura en conflicto y no un reenvio.
+     */
+    private void confirmar(List<LecturaLoteItemDTO> lecturas, List<LecturaLoteResultadoDTO> resultados) {
+        Map<String, BigDecimal> registradas;
+        try {
+            registradas = lecturaLoteRepository.registradas(lecturas);
+        } catch (Exception e) {
+            log.error("Error verificando las lecturas registradas", e);
+            resultados.forEach(resultado -> resultado.setMensaje(Constantes.SAVE_ERROR));
+            return;
+        }
+        for (int i = 0; i < lecturas.size(); i++) {
+            LecturaLoteItemDTO lectura = lecturas.get(i);
+            LecturaLoteResultadoDTO resultado = resultados.get(i);
+            BigDecimal registrada = registradas.get(
+                    LecturaLoteRepository.clave(lectura.getIdContador(), lectura.getFechaLectura().getTime()));
+            if (registrada == null) {
+                resultado.setMensaje(Constantes.SAVE_ERROR);
+            } else if (registrada.compareTo(lectura.getLecturaActual()) != 0) {
+                resultado.setConflicto(true);
+                resultado.setMensaje(LECTURA_EN_CONFLICTO);
+            } else {
+                resultado.setGuardada(true);
+                resultado.setMensaje(Constantes.SAVED_SUCCESSFULLY);
+            }
+        }
+    }
+
+    private static boolean esValida(LecturaLoteItemDTO lectura) {
+        return lectura != null && lectura.getIdContador() != null && lectura.getFechaLectura() != null
+                && lectura.getLecturaActual() != null && lectura.getLecturaActual().signum() >= 0;
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IParametrosGeneralesService;
 import com.codemakers.commons.dtos.ParametrosGeneralesDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -32,11 +33,12 @@ public class ParametrosGeneralesServiceImpl implements IParametrosGeneralesServi
 	public ResponseEntity<ResponseDTO> save(ParametrosGeneralesDTO parametrosGeneralesDTO) {
 	    log.info("Guardar/Actualizar Parametros Generales");
 	    try {
-	        boolean isUpdate = parametrosGeneralesDTO.getId() != null && parametrosGeneralesRepository.existsById(parametrosGeneralesDTO.getId());
+	        var existente = Registros.existente(parametrosGeneralesRepository, parametrosGeneralesDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        ParametrosGeneralesEntity entity;
 
 	        if (isUpdate) {
-	            entity = parametrosGeneralesRepository.findById(parametrosGeneralesDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            parametrosGeneralesMapper.updateEntityFromDto(parametrosGeneralesDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(parametrosGeneralesDTO.getUsuarioModificacion());
@@ -139,7 +141,7 @@ public class ParametrosGeneralesServiceImpl implements IParametrosGeneralesServi
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Parametros Generales por id: {}", id);
         try {
-            if (!parametrosGeneralesRepository.existsById(id)) {
+            if (!Registros.eliminar(parametrosGeneralesRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +149,6 @@ public class ParametrosGeneralesServiceImpl implements IParametrosGeneralesServi
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            parametrosGeneralesRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -8,6 +8,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.security.utils.JwtKeyProvider;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IParametrosSistemaService;
 import com.codemakers.commons.dtos.ParametrosSistemaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -26,17 +28,19 @@ public class ParametrosSistemaServiceImpl implements IParametrosSistemaService{
 	
 	private final ParametrosSistemaRepository parametrosSistemaRepository;
 	private final ParametrosSistemaMapper parametrosSistemaMapper;
+	private final JwtKeyProvider jwtKeyProvider;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(ParametrosSistemaDTO parametrosSistemaDTO) {
 	    log.info("Guardar/Actualizar Parametros del Sistema");
 	    try {
-	        boolean isUpdate = parametrosSistemaDTO.getId() != null && parametrosSistemaRepository.existsById(parametrosSistemaDTO.getId());
+	        var existente = Registros.existente(parametrosSistemaRepository, parametrosSistemaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        ParametrosSistemaEntity entity;
 
 	        if (isUpdate) {
-	            entity = parametrosSistemaRepository.findById(parametrosSistemaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            parametrosSistemaMapper.updateEntityFromDto(parametrosSistemaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(parametrosSistemaDTO.getUsuarioModificacion());
@@ -48,6 +52,7 @@ public class ParametrosSistemaServiceImpl implements IParametrosSistemaService{
 	        }
 
 	        ParametrosSistemaEntity saved = parametrosSistemaRepository.save(entity);
+	        jwtKeyProvider.invalidate();
 	        ParametrosSistemaDTO savedDTO = parametrosSistemaMapper.entityToDto(saved);
 
 	        String message = isUpdate ? Constantes.UPDATED_SUCCESSFULLY : Constantes.SAVED_SUCCESSFULLY;
@@ -139,7 +144,7 @@ public class ParametrosSistemaServiceImpl implements IParametrosSistemaService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Parametros del Sistema por id: {}", id);
         try {
-            if (!parametrosSistemaRepository.existsById(id)) {
+            if (!Registros.eliminar(parametrosSistemaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +152,7 @@ public class ParametrosSistemaServiceImpl implements IParametrosSistemaService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            parametrosSistemaRepository.deleteById(id);
+            jwtKeyProvider.invalidate();
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.ConsultaEmpresaRepository;
+import com.codemakers.api.persistence.KeysetPager;
 import com.codemakers.api.service.IPatrimonioService;
 import com.codemakers.commons.dtos.PatrimonioDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -33,13 +36,15 @@ public class PatrimonioServiceImpl implements IPatrimonioService {
 	
 	private final PatrimonioRepository patrimonioRepository;
 	private final PatrimonioMapper patrimonioMapper;
+	private final KeysetPager keysetPager;
+	private final ConsultaEmpresaRepository consultaEmpresaRepository;
 	
 	@Override
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findByEnterpriseId(Integer idEmpresa) {
 	    log.info("Buscar patrimonio por id de empresa: {}", idEmpresa);
 	    try {
-	        List<PatrimonioEntity> patrimonio= patrimonioRepository.findByEmpresa_Id(idEmpresa);
+	        List<PatrimonioEntity> patrimonio= consultaEmpresaRepository.patrimonio(idEmpresa);
 
 	        if (patrimonio.isEmpty()) {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
@@ -105,6 +110,35 @@ public class PatrimonioServiceImpl implements IPatrimonioService {
 	    }
 	}
 	
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar patrimonios paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(PatrimonioEntity.class, cursor, tamano, contar, patrimonioMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar patrimonios paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar patrimonios en streaming");
+		return keysetPager.stream(PatrimonioEntity.class, patrimonioMapper::entityToDto);
+	}
+
 	@Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IPersonaService;
 import com.codemakers.commons.dtos.PersonaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -39,6 +42,7 @@ public class PersonaServiceImpl implements IPersonaService {
 	private final DireccionRepository direccionRepository;
 	private final TipoDocumentoRepository tipoDocumentoRepository;
     private final PersonaMapper personaMapper;
+    private final KeysetPager keysetPager;
 
     @Override
     @Transactional
@@ -46,7 +50,8 @@ public class PersonaServiceImpl implements IPersonaService {
         log.info("Guardar/Actualizar persona");
 
         try {
-            boolean isUpdate = personaDTO.getId() != null && personaRepository.existsById(personaDTO.getId());
+            var existente = Registros.existente(personaRepository, personaDTO.getId());
+            boolean isUpdate = existente.isPresent();
 
             ResponseEntity<ResponseDTO> validationResponse = validatePersonaData(personaDTO, isUpdate);
             if (validationResponse != null) {
@@ -100,7 +105,7 @@ public class PersonaServiceImpl implements IPersonaService {
         PersonaEntity entity;
 
         if (isUpdate) {
-            entity = personaRepository.findById(personaDTO.getId()).orElseThrow();
+            entity = existente.get();
             personaMapper.updateEntityFromDto(personaDTO, entity);
             entity.setFechaModificacion(new Date());
             entity.setUsuarioModificacion(personaDTO.getUsuarioModificacion());
@@ -173,6 +178,35 @@ public class PersonaServiceImpl implements IPersonaService {
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar personas paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(PersonaEntity.class, cursor, tamano, contar, personaMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar personas paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar personas en streaming");
+        return keysetPager.stream(PersonaEntity.class, personaMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -204,7 +238,7 @@ public class PersonaServiceImpl implements IPersonaService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar persona por id: {}", id);
         try {
-            if (!personaRepository.existsById(id)) {
+            if (!Registros.eliminar(personaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -212,7 +246,6 @@ public class PersonaServiceImpl implements IPersonaService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            personaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IPlazoPagoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.PlazoPagoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.entities.PlazoPagoEntity;
@@ -26,17 +31,20 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
 	
 	private final PlazoPagoRepository plazoPagoRepository;
 	private final PlazoPagoMapper plazoPagoMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.PLAZO_PAGO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(PlazoPagoDTO plazoPagoDTO) {
 	    log.info("Guardar/Actualizar Plazo Pago");
 	    try {
-	        boolean isUpdate = plazoPagoDTO.getId() != null && plazoPagoRepository.existsById(plazoPagoDTO.getId());
+	        var existente = Registros.existente(plazoPagoRepository, plazoPagoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        PlazoPagoEntity entity;
 
 	        if (isUpdate) {
-	            entity = plazoPagoRepository.findById(plazoPagoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            plazoPagoMapper.updateEntityFromDto(plazoPagoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(plazoPagoDTO.getUsuarioModificacion());
@@ -75,6 +83,7 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.PLAZO_PAGO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar Plazo Pago por id: {}", id);
@@ -88,7 +97,7 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -109,6 +118,7 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.PLAZO_PAGO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los Plazo Pago");
@@ -121,7 +131,7 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los Plazo Pago", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -135,11 +145,12 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.PLAZO_PAGO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Plazo Pago por id: {}", id);
         try {
-            if (!plazoPagoRepository.existsById(id)) {
+            if (!Registros.eliminar(plazoPagoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +158,6 @@ public class PlazoPagoServiceImpl implements IPlazoPagoService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            plazoPagoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -9,6 +9,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.persistence.ConsultaEmpresaRepository;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IProductoService;
 import com.codemakers.commons.dtos.ProductoDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
@@ -34,17 +36,19 @@ public class ProductoServiceImpl implements IProductoService {
 
 	private final ProductoRepository productoRepository;
 	private final ProductoMapper productoMapper;
+	private final ConsultaEmpresaRepository consultaEmpresaRepository;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(ProductoDTO productoDTO) {
 	    log.info("Guardar/Actualizar Producto ");
 	    try {
-	        boolean isUpdate = productoDTO.getId() != null && productoRepository.existsById(productoDTO.getId());
+	        var existente = Registros.existente(productoRepository, productoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        ProductoEntity entity;
 
 	        if (isUpdate) {
-	            entity = productoRepository.findById(productoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            productoMapper.updateEntityFromDto(productoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(productoDTO.getUsuarioModificacion());
@@ -87,7 +91,7 @@ public class ProductoServiceImpl implements IProductoService {
 	public ResponseEntity<ResponseDTO> findByEnterpriseId(Integer idEmpresa) {
 	    log.info("Buscar producto por id de empresa: {}", idEmpresa);
 	    try {
-	        List<ProductoEntity> producto= productoRepository.findByEmpresa_Id(idEmpresa);
+	        List<ProductoEntity> producto= consultaEmpresaRepository.productos(idEmpresa);
 
 	        if (producto.isEmpty()) {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
@@ -184,7 +188,7 @@ public class ProductoServiceImpl implements IProductoService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar producto por id: {}", id);
         try {
-            if (!productoRepository.existsById(id)) {
+            if (!Registros.eliminar(productoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -192,7 +196,6 @@ public class ProductoServiceImpl implements IProductoService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            productoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IRolService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.RolDTO;
 import com.codemakers.commons.entities.RolEntity;
@@ -33,17 +38,20 @@ public class RolServiceImpl implements IRolService {
 
 	private final RolRepository rolRepository;
 	private final RolMapper rolMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.ROL, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(RolDTO rolDTO) {
 	    log.info("Inicio guardar/actualizar rol");
 	    try {
-	        boolean isUpdate = rolDTO.getId() != null && rolRepository.existsById(rolDTO.getId());
+	        var existente = Registros.existente(rolRepository, rolDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        RolEntity rolEntity;
 
 	        if (isUpdate) {
-	            rolEntity = rolRepository.findById(rolDTO.getId()).orElseThrow();
+	            rolEntity = existente.get();
 	            rolMapper.updateEntityFromDto(rolDTO, rolEntity);
 	            rolEntity.setFechaModificacion(new Date());
 	            rolEntity.setUsuarioModificacion(rolDTO.getUsuarioModificacion());
@@ -84,6 +92,7 @@ public class RolServiceImpl implements IRolService {
 	}
 	
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.ROL, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findRolById(Integer id) {
 	    log.info("Inicio del método para obtener el rol por id: {}", id);
@@ -98,7 +107,7 @@ public class RolServiceImpl implements IRolService {
 	                .code(HttpStatus.OK.value())
 	                .response(rolDTO)
 	                .build();
-	        return ResponseEntity.ok(responseDTO);
+	        return respuestaEtag.ok(responseDTO);
 	    } else {
 	        String notFoundMsg = String.format(Constantes.ROL_NOT_FOUND, id);
 	        log.warn(notFoundMsg);
@@ -113,6 +122,7 @@ public class RolServiceImpl implements IRolService {
 	}
 	
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.ROL, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Inicio método para obtener todos los roles");
@@ -125,7 +135,7 @@ public class RolServiceImpl implements IRolService {
                     .code(HttpStatus.OK.value())
                     .response(rolDTOList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al obtener todos los roles", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -139,11 +149,12 @@ public class RolServiceImpl implements IRolService {
     }
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.ROL, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> delete(Integer id) {
 	    log.info("Inicio eliminar rol por id: {}", id);
 	    try {
-	        if (!rolRepository.existsById(id)) {
+	        if (!Registros.eliminar(rolRepository, id)) {
 	            String notFoundMsg = String.format(Constantes.ROL_NOT_FOUND, id);
 	            log.warn(notFoundMsg);
 	            ResponseDTO responseDTO = ResponseDTO.builder()
@@ -155,7 +166,6 @@ public class RolServiceImpl implements IRolService {
 	            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
 	        }
 
-	        rolRepository.deleteById(id);
 	        log.info("Rol eliminado correctamente para el Id: {}", id);
 
 	        ResponseDTO responseDTO = ResponseDTO.builder()
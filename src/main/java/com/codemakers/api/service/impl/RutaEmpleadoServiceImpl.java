@@ -1,18 +1,22 @@
 package com.codemakers.api.service.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
-import org.postgresql.util.PGobject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IRutaEmpleadoService;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.RutaEmpleadoDTO;
@@ -21,8 +25,6 @@ import com.codemakers.commons.maps.RutaEmpleadoMapper;
 import com.codemakers.commons.repositories.RutaEmpleadoRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +36,13 @@ public class RutaEmpleadoServiceImpl implements IRutaEmpleadoService{
 	
 	private final RutaEmpleadoRepository rutaEmpleadoRepository;
 	private final RutaEmpleadoMapper rutaEmpleadoMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final ObjectMapper objectMapper;
+	private final StoredProcedureGateway storedProcedureGateway;
+
+	@Value("${sync.lector.solapamiento-segundos:60}")
+	private long solapamientoSegundos;
+
+	@Value("${sync.lector.limite-maximo:500}")
+	private int limiteMaximo;
 	
 	@Override
 	@Transactional
@@ -74,11 +81,8 @@ public class RutaEmpleadoServiceImpl implements IRutaEmpleadoService{
     public ResponseEntity<ResponseDTO> update(RutaEmpleadoDTO rutaEmpleadoDTO) {
         log.info("Actualizando Ruta Empleado");
         try {
-            if (rutaEmpleadoDTO.getId() == null || !rutaEmpleadoRepository.existsById(rutaEmpleadoDTO.getId())) {
-                throw new IllegalArgumentException(Constantes.RUT_NOT_FOUND);
-            }
-
-            RutaEmpleadoEntity entity = rutaEmpleadoRepository.findById(rutaEmpleadoDTO.getId()).orElseThrow();
+            RutaEmpleadoEntity entity = Registros.existente(rutaEmpleadoRepository, rutaEmpleadoDTO.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(Constantes.RUT_NOT_FOUND));
             rutaEmpleadoMapper.updateEntityFromDto(rutaEmpleadoDTO, entity); 
             entity.setFechaModificacion(new Date());
             entity.setUsuarioModificacion(rutaEmpleadoDTO.getUsuarioModificacion());
@@ -169,7 +173,7 @@ public class RutaEmpleadoServiceImpl implements IRutaEmpleadoService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Ruta Empleado por id: {}", id);
         try {
-            if (!rutaEmpleadoRepository.existsById(id)) {
+            if (!Registros.eliminar(rutaEmpleadoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -177,7 +181,6 @@ public class RutaEmpleadoServiceImpl implements IRutaEmpleadoService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            rutaEmpleadoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -205,20 +208,9 @@ public class RutaEmpleadoServiceImpl implements IRutaEmpleadoService{
     @Transactional
     public Map<String, Object> syncLectorData(Integer idPersona, Integer offset, Integer limit) {
         try {
-            String sql = "SELECT * FROM public.sync_lector_data(:idPersona, :offset, :limit)";
-            
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("idPersona", idPersona);
-            parameters.addValue("offset", offset);
-            parameters.addValue("limit", limit);
-
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-            Object wrappedValue = rawResult.get("sync_lector_data");
-
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.call("sync_lector_data", idPersona, offset, limit);
+            if (result != null) {
+                return result;
             }
 
             return Map.of(Constantes.ERROR_KEY, Constantes.RESULT_COULD_NOT_PROCESSED);
@@ -231,4 +223,86 @@ public class RutaEmpleadoServiceImpl implements IRutaEmpleadoService{
             return Collections.singletonMap(Constantes.ERROR_KEY, Constantes.UNEXPECTED_ERROR + e.getMessage());
         }
     }
+
+    /**
+     * Metodo encargado de la sincronizacion incremental del lector. El token devuelto en cada respuesta se
+     * envia en la siguiente llamada: mientras {@code hayMas} sea true continua la pagina actual (keyset por id)
+     * y al terminar contiene la marca de agua desde la cual se consultaran los cambios en la proxima sincronizacion.
+     * Sin token se descarga la ruta completa. Si las rutas asignadas al lector cambiaron despues de la marca de agua
+     * tambien se descarga la ruta completa y la respuesta trae {@code completa = true}, para que el dispositivo
+     * reemplace sus datos; en otro caso {@code eliminados} lista los contadores que salieron de sus rutas.
+     * @since 18-10-2026
+     * @version 1.0
+     * @param idPersona
+     * @param token
+     * @param limite
+     * @return Devuelve los cambios de la ruta y el token de la siguiente llamada
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> syncLectorDataDelta(Integer idPersona, String token, Integer limite) {
+        try {
+            SyncToken actual = SyncToken.decode(token, System.currentTimeMillis());
+            int tamano = Math.min(limite != null && limite > 0 ? limite : limiteMaximo, limiteMaximo);
+            Map<String, Object> result = storedProcedureGateway.call("sync_lector_data_delta", idPersona,
+                    actual.desde() != null ? new Timestamp(actual.desde()) : null, actual.ultimoId(), tamano);
+            if (result != null && Boolean.TRUE.equals(result.get("resincronizar"))) {
+                log.info("Las rutas del lector {} cambiaron, se descarga la ruta completa", idPersona);
+                actual = new SyncToken(null, 0, actual.hasta());
+                result = storedProcedureGateway.call("sync_lector_data_delta", idPersona, null, 0, tamano);
+            }
+            if (result == null) {
+                return Map.of(Constantes.ERROR_KEY, Constantes.RESULT_COULD_NOT_PROCESSED);
+            }
+            if (result.containsKey(Constantes.ERROR_KEY)) {
+                return result;
+            }
+
+            boolean hayMas = Boolean.TRUE.equals(result.get("hayMas"));
+            SyncToken siguiente = hayMas && result.get("ultimoId") instanceof Number ultimoId
+                    ? new SyncToken(actual.desde(), ultimoId.intValue(), actual.hasta())
+                    : new SyncToken(actual.hasta() - solapamientoSegundos * 1000, 0, null);
+            Map<String, Object> respuesta = new HashMap<>(result);
+            respuesta.remove("resincronizar");
+            respuesta.put("completa", actual.desde() == null);
+            respuesta.put("token", siguiente.encode());
+            return respuesta;
+
+        } catch (IllegalArgumentException e) {
+            return Map.of(Constantes.ERROR_KEY, Constantes.DATA_VALIDATION_MESSAGE, "statusCode", 400);
+        } catch (JsonProcessingException e) {
+            log.error("Error procesando la sincronizacion del lector: {}", idPersona, e);
+            return Collections.singletonMap(Constantes.ERROR_KEY, Constantes.PROCCESSING_ERROR + e.getMessage());
+        } catch (Exception e) {
+            log.error("Error en la sincronizacion del lector: {}", idPersona, e);
+            return Collections.singletonMap(Constantes.ERROR_KEY, Constantes.UNEXPECTED_ERROR + e.getMessage());
+        }
+    }
+
+    /**
+     * Estado de la sincronizacion: cambios posteriores a {@code desde}, continuando despues de {@code ultimoId}.
+     * {@code hasta} es el instante en que inicio la descarga y sera la proxima marca de agua.
+     */
+    private record SyncToken(Long desde, int ultimoId, Long hasta) {
+
+        static SyncToken decode(String token, long ahora) {
+            if (token == null || token.isBlank()) {
+                return new SyncToken(null, 0, ahora);
+            }
+            String[] partes = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split(":");
+            if (partes.length != 3) {
+                throw new IllegalArgumentException("Token de sincronizacion invalido");
+            }
+            Long desde = partes[0].isEmpty() ? null : Long.valueOf(partes[0]);
+            int ultimoId = Integer.parseInt(partes[1]);
+            // Un token sin hasta inicia una nueva descarga desde la marca de agua.
+            long hasta = partes[2].isEmpty() ? ahora : Long.parseLong(partes[2]);
+            return new SyncToken(desde, ultimoId, hasta);
+        }
+
+        String encode() {
+            String valor = (desde != null ? desde.toString() : "") + ":" + ultimoId + ":"
+                    + (hasta != null ? hasta.toString() : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
 }
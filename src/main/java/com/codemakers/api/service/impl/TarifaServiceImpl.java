@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITarifaService;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TarifaDTO;
@@ -46,7 +47,8 @@ public class TarifaServiceImpl implements ITarifaService{
 	public ResponseEntity<ResponseDTO> save(TarifaDTO tarifaDTO) {
 	    log.info("Guardar/Actualizar tarifa");
 	    try {
-	        boolean isUpdate = tarifaDTO.getId() != null && tarifaRepository.existsById(tarifaDTO.getId());
+	        var existente = Registros.existente(tarifaRepository, tarifaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        if (!isUpdate
 	            && tarifaDTO.getEmpresa() != null && tarifaDTO.getEmpresa().getId() != null
 	            && tarifaDTO.getTipoTarifa() != null && tarifaDTO.getTipoTarifa().getId() != null
@@ -64,7 +66,7 @@ public class TarifaServiceImpl implements ITarifaService{
 	        TarifaEntity entity;
 
 	        if (isUpdate) {
-	            entity = tarifaRepository.findById(tarifaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tarifaMapper.updateEntityFromDto(tarifaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tarifaDTO.getUsuarioModificacion());
@@ -219,7 +221,7 @@ public class TarifaServiceImpl implements ITarifaService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tarifa por id: {}", id);
         try {
-            if (!tarifaRepository.existsById(id)) {
+            if (!Registros.eliminar(tarifaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -227,7 +229,6 @@ public class TarifaServiceImpl implements ITarifaService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tarifaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITelefonoGeneralService;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TelefonoGeneralDTO;
@@ -26,18 +29,19 @@ public class TelefonoGeneralServiceImpl implements ITelefonoGeneralService{
 	
 	private final TelefonoGeneralRepository telefonoGeneralRepository;
 	private final TelefonoGeneralMapper telefonoGeneralMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TelefonoGeneralDTO telefonoGeneralDTO) {
 	    log.info("Guardar/Actualizar Telefono general");
 	    try {
-	        boolean isUpdate = telefonoGeneralDTO.getId() != null && telefonoGeneralRepository.existsById(telefonoGeneralDTO.getId());
+	        var existente = Registros.existente(telefonoGeneralRepository, telefonoGeneralDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TelefonoGeneralEntity entity;
 
 	        if (isUpdate) {
-	            entity = telefonoGeneralRepository.findById(telefonoGeneralDTO.getId())
-	                    .orElseThrow(() -> new RuntimeException("TelefonoGeneral not found with ID: " + telefonoGeneralDTO.getId()));
+	            entity = existente.get();
 
 	            if (!entity.getNumero().equals(telefonoGeneralDTO.getNumero()) &&
 	                telefonoGeneralRepository.existsByNumero(telefonoGeneralDTO.getNumero())) {
@@ -133,6 +137,35 @@ public class TelefonoGeneralServiceImpl implements ITelefonoGeneralService{
 	    }
 	}
 
+    @Override
+    public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+        log.info("Listar telefonos paginado desde el cursor: {}", cursor);
+        try {
+            var pagina = keysetPager.pagina(TelefonoGeneralEntity.class, cursor, tamano, contar, telefonoGeneralMapper::entityToDto);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(true)
+                    .message(Constantes.CONSULTED_SUCCESSFULLY)
+                    .code(HttpStatus.OK.value())
+                    .response(pagina)
+                    .build();
+            return ResponseEntity.ok(responseDTO);
+        } catch (Exception e) {
+            log.error("Error al listar telefonos paginado", e);
+            ResponseDTO responseDTO = ResponseDTO.builder()
+                    .success(false)
+                    .message(Constantes.CONSULTING_ERROR)
+                    .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamAll() {
+        log.info("Descargar telefonos en streaming");
+        return keysetPager.stream(TelefonoGeneralEntity.class, telefonoGeneralMapper::entityToDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -164,7 +197,7 @@ public class TelefonoGeneralServiceImpl implements ITelefonoGeneralService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar Telefono general por id: {}", id);
         try {
-            if (!telefonoGeneralRepository.existsById(id)) {
+            if (!Registros.eliminar(telefonoGeneralRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -172,7 +205,6 @@ public class TelefonoGeneralServiceImpl implements ITelefonoGeneralService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            telefonoGeneralRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
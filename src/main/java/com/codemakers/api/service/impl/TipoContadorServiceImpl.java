@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoContadorService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoContadorDTO;
 import com.codemakers.commons.entities.TipoContadorEntity;
@@ -33,17 +38,20 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
 
 	private final TipoContadorRepository tipoContadorRepository;
 	private final TipoContadorMapper tipoContadorMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_CONTADOR, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoContadorDTO tipoContadorDTO) {
 	    log.info("Guardar/Actualizar Tipo de Documento");
 	    try {
-	        boolean isUpdate = tipoContadorDTO.getId() != null && tipoContadorRepository.existsById(tipoContadorDTO.getId());
+	        var existente = Registros.existente(tipoContadorRepository, tipoContadorDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoContadorEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoContadorRepository.findById(tipoContadorDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoContadorMapper.updateEntityFromDto(tipoContadorDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoContadorDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_CONTADOR, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo de contador por id: {}", id);
@@ -95,7 +104,7 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.TIPO_CONTADOR, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de contadores");
@@ -128,7 +138,7 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de contadores", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.TIPO_CONTADOR, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de contador por id: {}", id);
         try {
-            if (!tipoContadorRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoContadorRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class TipoContadorServiceImpl implements ITipoContadorService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoContadorRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoCuentaContableService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoCuentaContableDTO;
 import com.codemakers.commons.entities.TipoCuentaContableEntity;
@@ -33,17 +38,20 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
 
 	private final TipoCuentaContableRepository tipoCuentaRepository;
 	private final TipoCuentaContableMapper tipoCuentaMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_CUENTA_CONTABLE, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoCuentaContableDTO tipoCuentaDTO) {
 	    log.info("Guardar/Actualizar Tipo Cuenta Contable");
 	    try {
-	        boolean isUpdate = tipoCuentaDTO.getId() != null && tipoCuentaRepository.existsById(tipoCuentaDTO.getId());
+	        var existente = Registros.existente(tipoCuentaRepository, tipoCuentaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoCuentaContableEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoCuentaRepository.findById(tipoCuentaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoCuentaMapper.updateEntityFromDto(tipoCuentaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoCuentaDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
 	}
 	
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_CUENTA_CONTABLE, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo cuenta contador por id: {}", id);
@@ -95,7 +104,7 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
 	}
 	
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_CUENTA_CONTABLE, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de cuentas contables");
@@ -128,7 +138,7 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de cuentas contables", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
     }
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_CUENTA_CONTABLE, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de cuenta contable por id: {}", id);
         try {
-            if (!tipoCuentaRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoCuentaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class TipoCuentaContableServiceImpl implements ITipoCuentaContableService
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoCuentaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
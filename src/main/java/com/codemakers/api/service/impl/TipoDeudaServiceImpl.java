@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoDeudaService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoDeudaDTO;
 import com.codemakers.commons.entities.TipoDeudaEntity;
@@ -26,17 +31,20 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
 	
 	private final TipoDeudaRepository tipoDeudaRepository;
 	private final TipoDeudaMapper tipoDeudaMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_DEUDA, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoDeudaDTO tipoDeudaDTO) {
 	    log.info("Guardar/Actualizar Tipo de Deuda");
 	    try {
-	        boolean isUpdate = tipoDeudaDTO.getId() != null && tipoDeudaRepository.existsById(tipoDeudaDTO.getId());
+	        var existente = Registros.existente(tipoDeudaRepository, tipoDeudaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoDeudaEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoDeudaRepository.findById(tipoDeudaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoDeudaMapper.updateEntityFromDto(tipoDeudaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoDeudaDTO.getUsuarioModificacion());
@@ -75,6 +83,7 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_DEUDA, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo de Deuda por id: {}", id);
@@ -88,7 +97,7 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -109,6 +118,7 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.TIPO_DEUDA, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de Deuda");
@@ -121,7 +131,7 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de Deuda", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -135,11 +145,12 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.TIPO_DEUDA, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de Deuda por id: {}", id);
         try {
-            if (!tipoDeudaRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoDeudaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +158,6 @@ public class TipoDeudaServiceImpl implements ITipoDeudaService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoDeudaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
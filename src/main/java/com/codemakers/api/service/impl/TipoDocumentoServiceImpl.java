@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoDocumentoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoDocumentoDTO;
 import com.codemakers.commons.entities.TipoDocumentoEntity;
@@ -33,17 +38,20 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
 
 	private final TipoDocumentoRepository tipoDocumentoRepository;
 	private final TipoDocumentoMapper tipoDocumentoMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_DOCUMENTO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoDocumentoDTO tipoDocumentoDTO) {
 	    log.info("Guardar/Actualizar Tipo de Documento");
 	    try {
-	        boolean isUpdate = tipoDocumentoDTO.getId() != null && tipoDocumentoRepository.existsById(tipoDocumentoDTO.getId());
+	        var existente = Registros.existente(tipoDocumentoRepository, tipoDocumentoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoDocumentoEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoDocumentoRepository.findById(tipoDocumentoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoDocumentoMapper.updateEntityFromDto(tipoDocumentoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoDocumentoDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_DOCUMENTO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo de documento por id: {}", id);
@@ -95,7 +104,7 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.TIPO_DOCUMENTO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de documentos");
@@ -128,7 +138,7 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de documentos", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.TIPO_DOCUMENTO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de documento por id: {}", id);
         try {
-            if (!tipoDocumentoRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoDocumentoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class TipoDocumentoServiceImpl implements ITipoDocumentoService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoDocumentoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
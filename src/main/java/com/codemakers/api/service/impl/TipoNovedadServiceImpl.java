@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoNovedadService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoNovedadDTO;
 import com.codemakers.commons.entities.TipoNovedadEntity;
@@ -26,17 +31,20 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
 	
 	private final TipoNovedadRepository tipoNovedadRepository;
 	private final TipoNovedadMapper tipoNovedadMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_NOVEDAD, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoNovedadDTO tipoNovedadDTO) {
 	    log.info("Guardar/Actualizar Tipo de Novedad");
 	    try {
-	        boolean isUpdate = tipoNovedadDTO.getId() != null && tipoNovedadRepository.existsById(tipoNovedadDTO.getId());
+	        var existente = Registros.existente(tipoNovedadRepository, tipoNovedadDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoNovedadEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoNovedadRepository.findById(tipoNovedadDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoNovedadMapper.updateEntityFromDto(tipoNovedadDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoNovedadDTO.getUsuarioModificacion());
@@ -75,6 +83,7 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_NOVEDAD, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo de Novedad por id: {}", id);
@@ -88,7 +97,7 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -109,6 +118,7 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.TIPO_NOVEDAD, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de Novedad");
@@ -121,7 +131,7 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de Novedad", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -135,11 +145,12 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.TIPO_NOVEDAD, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de Novedad por id: {}", id);
         try {
-            if (!tipoNovedadRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoNovedadRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +158,6 @@ public class TipoNovedadServiceImpl implements ITipoNovedadService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoNovedadRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
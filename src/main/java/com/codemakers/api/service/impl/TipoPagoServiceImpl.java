@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoPagoService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoPagoDTO;
 import com.codemakers.commons.entities.TipoPagoEntity;
@@ -26,17 +31,20 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
 	
 	private final TipoPagoRepository tipoPagoRepository;
 	private final TipoPagoMapper tipoPagoMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_PAGO, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoPagoDTO tipoPagoDTO) {
 	    log.info("Guardar/Actualizar Tipo de Pago");
 	    try {
-	        boolean isUpdate = tipoPagoDTO.getId() != null && tipoPagoRepository.existsById(tipoPagoDTO.getId());
+	        var existente = Registros.existente(tipoPagoRepository, tipoPagoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoPagoEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoPagoRepository.findById(tipoPagoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoPagoMapper.updateEntityFromDto(tipoPagoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoPagoDTO.getUsuarioModificacion());
@@ -75,6 +83,7 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_PAGO, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo de pago por id: {}", id);
@@ -88,7 +97,7 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -109,6 +118,7 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.TIPO_PAGO, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de pago");
@@ -121,7 +131,7 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de pago", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -135,11 +145,12 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.TIPO_PAGO, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de pago por id: {}", id);
         try {
-            if (!tipoPagoRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoPagoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -147,7 +158,6 @@ public class TipoPagoServiceImpl implements ITipoPagoService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoPagoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
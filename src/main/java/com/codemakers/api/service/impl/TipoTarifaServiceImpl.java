@@ -3,12 +3,17 @@ package com.codemakers.api.service.impl;
 import java.util.Date;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.codemakers.api.configs.cache.CatalogoCaches;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.ITipoTarifaService;
+import com.codemakers.api.utils.RespuestaEtag;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.TipoTarifaDTO;
 import com.codemakers.commons.entities.TipoTarifaEntity;
@@ -33,17 +38,20 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
 
 	private final TipoTarifaRepository tipoTarifaRepository;
 	private final TipoTarifaMapper tipoTarifaMapper;
+	private final RespuestaEtag respuestaEtag;
 	
 	@Override
+	@CacheEvict(cacheNames = CatalogoCaches.TIPO_TARIFA, allEntries = true)
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(TipoTarifaDTO tipoTarifaDTO) {
 	    log.info("Guardar/Actualizar Tipo de Tarifa");
 	    try {
-	        boolean isUpdate = tipoTarifaDTO.getId() != null && tipoTarifaRepository.existsById(tipoTarifaDTO.getId());
+	        var existente = Registros.existente(tipoTarifaRepository, tipoTarifaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        TipoTarifaEntity entity;
 
 	        if (isUpdate) {
-	            entity = tipoTarifaRepository.findById(tipoTarifaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            tipoTarifaMapper.updateEntityFromDto(tipoTarifaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(tipoTarifaDTO.getUsuarioModificacion());
@@ -82,6 +90,7 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CatalogoCaches.TIPO_TARIFA, key = "#id", unless = CatalogoCaches.UNLESS_ERROR)
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findById(Integer id) {
 	    log.info("Buscar tipo de tarifa por id: {}", id);
@@ -95,7 +104,7 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
 	                    .code(HttpStatus.OK.value())
 	                    .response(dto)
 	                    .build();
-	            return ResponseEntity.ok(responseDTO);
+	            return respuestaEtag.ok(responseDTO);
 	        } else {
 	            ResponseDTO responseDTO = ResponseDTO.builder()
 	                    .success(false)
@@ -116,6 +125,7 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
 	}
 
     @Override
+    @Cacheable(cacheNames = CatalogoCaches.TIPO_TARIFA, key = CatalogoCaches.KEY_ALL, unless = CatalogoCaches.UNLESS_ERROR)
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
         log.info("Listar todos los tipos de tarifas");
@@ -128,7 +138,7 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
                     .code(HttpStatus.OK.value())
                     .response(dtoList)
                     .build();
-            return ResponseEntity.ok(responseDTO);
+            return respuestaEtag.ok(responseDTO);
         } catch (Exception e) {
             log.error("Error al listar los tipos de tarifas", e);
             ResponseDTO responseDTO = ResponseDTO.builder()
@@ -142,11 +152,12 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogoCaches.TIPO_TARIFA, allEntries = true)
     @Transactional
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar tipo de tarifa por id: {}", id);
         try {
-            if (!tipoTarifaRepository.existsById(id)) {
+            if (!Registros.eliminar(tipoTarifaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -154,7 +165,6 @@ public class TipoTarifaServiceImpl implements ITipoTarifaService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            tipoTarifaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
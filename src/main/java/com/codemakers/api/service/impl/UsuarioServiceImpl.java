@@ -1,31 +1,52 @@
 package com.codemakers.api.service.impl;
 
+import java.io.InputStream;
 import java.security.SecureRandom;
-import java.util.Base64;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codemakers.api.configs.security.utils.JwtUtil;
+import com.codemakers.api.configs.security.utils.UsuarioEstadoCache;
+import com.codemakers.api.persistence.CorreoEmpresaRepository;
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.UsuarioImagenRepository;
+import com.codemakers.api.persistence.UsuarioImagenRepository.Metadatos;
 import com.codemakers.api.service.IUsuarioService;
 import com.codemakers.api.utils.EncriptarDesencriptar;
+import com.codemakers.api.utils.ImagenUtil;
+import com.codemakers.api.utils.PlantillasCorreo;
 import com.codemakers.commons.dtos.PersonaDTO;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.RolDTO;
 import com.codemakers.commons.dtos.UsuarioDTO;
 import com.codemakers.commons.entities.CorreoGeneralEntity;
+import com.codemakers.commons.entities.EmpresaEntity;
 import com.codemakers.commons.entities.PersonaEntity;
 import com.codemakers.commons.entities.RolEntity;
 import com.codemakers.commons.entities.UsuarioEntity;
 import com.codemakers.commons.maps.UsuarioMapper;
 import com.codemakers.commons.repositories.CorreoGeneralRepository;
+import com.codemakers.commons.repositories.EmpresaRepository;
 import com.codemakers.commons.repositories.PersonaRepository;
 import com.codemakers.commons.repositories.RolRepository;
 import com.codemakers.commons.repositories.UsuarioRepository;
@@ -53,25 +74,41 @@ public class UsuarioServiceImpl implements IUsuarioService {
 	private final UsuarioMapper usuarioMapper;
 	private final EmailServiceImpl emailService;
 	private final JwtUtil jwtUtil;
+	private final UsuarioEstadoCache usuarioEstadoCache;
 	private final EncriptarDesencriptar serviceEncriptacion;
+	private final KeysetPager keysetPager;
+	private final PlantillasCorreo plantillasCorreo;
+	private final UsuarioImagenRepository usuarioImagenRepository;
+	private final EmpresaRepository empresaRepository;
+	private final CorreoEmpresaRepository correoEmpresaRepository;
 	private static final Random RANDOM = new Random();
+	private static final String URL_IMAGEN = "/api/v1/Usuario/imagen/";
+
+	@Value("${correo.url-frontend:http://localhost:4200}")
+	private String urlFrontend;
+
+	@Value("${usuario.imagen.lado-miniatura:128}")
+	private int ladoMiniatura;
 
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(UsuarioDTO usuarioDTO) {
 		log.info("Guardar/Actualizar usuario");
 		try {
-			boolean isUpdate = isUpdate(usuarioDTO);
+			Optional<UsuarioEntity> existente = Registros.existente(usuarioRepository, usuarioDTO.getId());
+			boolean isUpdate = existente.isPresent();
 
 			if (!isUpdate && isDuplicated(usuarioDTO)) {
 				return buildErrorResponse(Constantes.USER_ALREADY_EXISTS, HttpStatus.CONFLICT);
 			}
 
-			UsuarioEntity entity = isUpdate ? updateEntityFromDto(usuarioDTO) : createEntityFromDto(usuarioDTO);
+			UsuarioEntity entity = isUpdate ? updateEntityFromDto(existente.get(), usuarioDTO)
+					: createEntityFromDto(usuarioDTO);
 
 			setRolAndPersona(entity, usuarioDTO);
 
 			UsuarioEntity saved = usuarioRepository.save(entity);
+			usuarioEstadoCache.invalidate(saved.getId());
 			UsuarioDTO savedDTO = usuarioMapper.entityToDto(saved);
 
 			String message = isUpdate ? Constantes.UPDATED_SUCCESSFULLY : Constantes.SAVED_SUCCESSFULLY;
@@ -88,16 +125,11 @@ public class UsuarioServiceImpl implements IUsuarioService {
 		}
 	}
 
-	private boolean isUpdate(UsuarioDTO usuarioDTO) {
-		return usuarioDTO.getId() != null && usuarioRepository.existsById(usuarioDTO.getId());
-	}
-
 	private boolean isDuplicated(UsuarioDTO usuarioDTO) {
 		return usuarioDTO.getNombre() != null && usuarioRepository.existsByNombre(usuarioDTO.getNombre());
 	}
 
-	private UsuarioEntity updateEntityFromDto(UsuarioDTO usuarioDTO) {
-		UsuarioEntity entity = usuarioRepository.findById(usuarioDTO.getId()).orElseThrow();
+	private UsuarioEntity updateEntityFromDto(UsuarioEntity entity, UsuarioDTO usuarioDTO) {
 		usuarioMapper.updateEntityFromDto(usuarioDTO, entity);
 		entity.setFechaModificacion(new Date());
 		entity.setUsuarioModificacion(usuarioDTO.getUsuarioModificacion());
@@ -136,7 +168,25 @@ public class UsuarioServiceImpl implements IUsuarioService {
 		return ResponseEntity.status(status).body(errorResponse);
 	}
 
-	public ResponseEntity<ResponseDTO> updateImage(Integer id, byte[] nuevaImagen, String usuarioModificacion) {
+	/**
+	 * Metodo encargado de obtener la empresa cuya marca llevan los correos del usuario: la empresa que administra
+	 * o, si es cliente, la empresa de su primer contador activo
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param usuario
+	 * @return Devuelve el id de la empresa o null para usar la marca general
+	 */
+	private Integer empresaDe(UsuarioEntity usuario) {
+		return empresaRepository.findByUsuario_Id(usuario.getId())
+				.map(EmpresaEntity::getId)
+				.orElseGet(() -> correoEmpresaRepository
+						.empresaDePersona(usuario.getPersona() != null ? usuario.getPersona().getId() : null)
+						.orElse(null));
+	}
+
+	@Override
+	@Transactional
+	public ResponseEntity<ResponseDTO> updateImage(Integer id, MultipartFile imagen, String usuarioModificacion) {
 		log.info("Inicio de actualización de imagen para el usuario con ID: {}", id);
 		try {
 			Optional<UsuarioEntity> optionalUsuario = usuarioRepository.findById(id);
@@ -144,28 +194,113 @@ public class UsuarioServiceImpl implements IUsuarioService {
 				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseDTO.builder().success(false)
 						.message(Constantes.USER_NOT_FOUND).code(HttpStatus.NOT_FOUND.value()).build());
 			}
+			if (imagen.isEmpty()) {
+				return buildErrorResponse(Constantes.DATA_VALIDATION_MESSAGE, HttpStatus.BAD_REQUEST);
+			}
+
+			String hash;
+			ImagenUtil.Miniatura miniatura;
+			try (InputStream in = imagen.getInputStream()) {
+				hash = ImagenUtil.sha256(in);
+			}
+			try (InputStream in = imagen.getInputStream()) {
+				miniatura = ImagenUtil.miniatura(in, ladoMiniatura);
+			} catch (IllegalArgumentException e) {
+				log.warn("Imagen rechazada para el usuario {}: {}", id, e.getMessage());
+				return buildErrorResponse(Constantes.DATA_VALIDATION_MESSAGE, HttpStatus.BAD_REQUEST);
+			}
+			Metadatos metadatos = new Metadatos(hash, miniatura.tipoOriginal(), imagen.getSize(),
+					ImagenUtil.TIPO_MINIATURA, miniatura.contenido().length);
+			try (InputStream in = imagen.getInputStream()) {
+				usuarioImagenRepository.guardar(id, metadatos, in, miniatura.contenido(), usuarioModificacion);
+			}
 
 			UsuarioEntity usuario = optionalUsuario.get();
-			usuario.setImagen(nuevaImagen);
+			usuario.setImagen(null);
 			usuario.setFechaModificacion(new Date());
 			usuario.setUsuarioModificacion(usuarioModificacion);
 
 			usuarioRepository.save(usuario);
 
-			String imagenBase64 = Base64.getEncoder().encodeToString(nuevaImagen);
+			String url = URL_IMAGEN + id + "?v=" + hash;
 			Map<String, Object> responseData = new HashMap<>();
-			responseData.put("imagenBase64", imagenBase64);
+			responseData.put("hash", hash);
+			responseData.put("url", url);
+			responseData.put("urlMiniatura", url + "&miniatura=true");
 
 			return ResponseEntity.ok(ResponseDTO.builder().success(true).message("Imagen actualizada exitosamente")
 					.code(HttpStatus.OK.value()).response(responseData).build());
 
 		} catch (Exception e) {
 			log.error("Error al actualizar la imagen del usuario con ID: {}", id, e);
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseDTO.builder().success(false)
 					.message("Error actualizando la imagen").code(HttpStatus.INTERNAL_SERVER_ERROR.value()).build());
 		}
 	}
 
+	/**
+	 * Metodo encargado de servir la imagen (o la miniatura) de un usuario. Responde 304 si el ETag sigue vigente
+	 * y 206 con el rango pedido cuando llega una cabecera Range de un solo rango.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param id
+	 * @param miniatura
+	 * @param version hash enviado en la URL; si coincide la respuesta se cachea como inmutable
+	 * @param headers
+	 * @param request
+	 * @return Devuelve la respuesta con el contenido por stream
+	 */
+	@Override
+	public ResponseEntity<StreamingResponseBody> findImage(Integer id, boolean miniatura, String version,
+			HttpHeaders headers, WebRequest request) {
+		Optional<Metadatos> optionalMetadatos = usuarioImagenRepository.metadatos(id);
+		if (optionalMetadatos.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		Metadatos metadatos = optionalMetadatos.get();
+		String etag = "\"" + metadatos.hash() + (miniatura ? "-m" : "") + "\"";
+		CacheControl cacheControl = metadatos.hash().equals(version)
+				? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+				: CacheControl.noCache().cachePrivate();
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+
+		long total = miniatura ? metadatos.tamanoMiniatura() : metadatos.tamano();
+		MediaType tipo = MediaType.parseMediaType(miniatura ? metadatos.tipoMiniatura() : metadatos.tipoContenido());
+		String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+		List<HttpRange> rangos = ifRange == null || ifRange.equals(etag) ? rangos(headers) : List.of();
+
+		if (rangos.size() != 1) {
+			return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).contentType(tipo).contentLength(total)
+					.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+					.body(salida -> usuarioImagenRepository.copiar(id, miniatura, 0, total, salida));
+		}
+		long inicio;
+		long fin;
+		try {
+			inicio = rangos.get(0).getRangeStart(total);
+			fin = rangos.get(0).getRangeEnd(total);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+					.header(HttpHeaders.CONTENT_RANGE, "bytes */" + total).build();
+		}
+		long longitud = fin - inicio + 1;
+		return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).eTag(etag).cacheControl(cacheControl).contentType(tipo)
+				.contentLength(longitud).header(HttpHeaders.ACCEPT_RANGES, "bytes")
+				.header(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fin + "/" + total)
+				.body(salida -> usuarioImagenRepository.copiar(id, miniatura, inicio, longitud, salida));
+	}
+
+	private List<HttpRange> rangos(HttpHeaders headers) {
+		try {
+			return headers.getRange();
+		} catch (IllegalArgumentException e) {
+			return List.of();
+		}
+	}
+
 	public ResponseEntity<ResponseDTO> recoverPassword(String correo) {
 		log.info("Recuperación de contraseña solicitada para: {}", correo);
 
@@ -183,92 +318,11 @@ public class UsuarioServiceImpl implements IUsuarioService {
 			}
 			UsuarioEntity usuario = usuarioOpt.get();
 			String token = jwtUtil.generateToken(usuario.getNombre());
-			String recoveryLink = "http://localhost:4200/auth/recover-password?token=" + token;
+			String recoveryLink = urlFrontend + "/auth/recover-password?token=" + token;
 
 			String subject = "🔐 Recuperación de contraseña";
-			String body = """
-					<!DOCTYPE html>
-					<html lang="es">
-					<head>
-					  <meta charset="UTF-8">
-					  <style>
-					    body {
-					      font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-					      background: #f4f7ff;
-					      margin: 0;
-					      padding: 0;
-					    }
-
-					    .container {
-					      max-width: 600px;
-					      margin: 40px auto;
-					      background: white;
-					      border-radius: 12px;
-					      box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1);
-					      overflow: hidden;
-					    }
-
-					    .header {
-					      background: linear-gradient(135deg, #3b82f6, #60a5fa);
-					      color: white;
-					      padding: 24px;
-					      text-align: center;
-					      font-size: 1.8em;
-					      font-weight: bold;
-					      border-top-left-radius: 12px;
-					      border-top-right-radius: 12px;
-					    }
-
-					    .content {
-					      padding: 30px;
-					      text-align: center;
-					    }
-
-					    .btn {
-					      display: inline-block;
-					      padding: 12px 24px;
-					      margin-top: 20px;
-					      background-color: #3b82f6;
-					      color: white;
-					      border-radius: 8px;
-					      text-decoration: none;
-					      font-weight: bold;
-					    }
-
-					    .btn:hover {
-					      background-color: #2563eb;
-					    }
-
-					    .footer {
-					      font-size: 0.85em;
-					      color: #666;
-					      padding: 0 30px 30px;
-					      text-align: center;
-					    }
-
-					    a {
-					      color: #3b82f6;
-					      text-decoration: none;
-					    }
-					  </style>
-					</head>
-					<body>
-					  <div class="container">
-					    <div class="header">MultiAcueductos</div>
-					    <div class="content">
-					      <p>Hola <strong>%s</strong>,</p>
-					      <p>Hemos recibido una solicitud para restablecer tu contraseña.</p>
-					      <p>Haz clic en el siguiente botón para continuar:</p>
-					      <a href="%s" class="btn">Restablecer contraseña</a>
-					    </div>
-					    <div class="footer">
-					      <p>Este enlace expirará en 10 horas.<br>
-					      Si no hiciste esta solicitud, puedes ignorar este mensaje.</p>
-					    </div>
-					  </div>
-					</body>
-					</html>
-					""".formatted(usuario.getNombre(), recoveryLink);
+			String body = plantillasCorreo.renderizar(PlantillasCorreo.RECUPERAR_CONTRASENA, empresaDe(usuario),
+					Map.of("usuario", usuario.getNombre(), "enlace", recoveryLink));
 
 			emailService.sendEmail(correo, subject, body);
 
@@ -357,6 +411,35 @@ public class UsuarioServiceImpl implements IUsuarioService {
 		}
 	}
 
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar usuarios paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(UsuarioEntity.class, cursor, tamano, contar, usuarioMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar usuarios paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar usuarios en streaming");
+		return keysetPager.stream(UsuarioEntity.class, usuarioMapper::entityToDto);
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDTO> findAll() {
@@ -380,12 +463,12 @@ public class UsuarioServiceImpl implements IUsuarioService {
 	public ResponseEntity<ResponseDTO> deleteById(Integer id) {
 		log.info("Inicio método para eliminar usuario por id: {}", id);
 		try {
-			if (!usuarioRepository.existsById(id)) {
+			if (!Registros.eliminar(usuarioRepository, id)) {
 				ResponseDTO responseDTO = ResponseDTO.builder().success(false).message(Constantes.RECORD_NOT_FOUND)
 						.code(HttpStatus.NOT_FOUND.value()).build();
 				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
 			}
-			usuarioRepository.deleteById(id);
+			usuarioEstadoCache.invalidate(id);
 			ResponseDTO responseDTO = ResponseDTO.builder().success(true).message(Constantes.DELETED_SUCCESSFULLY)
 					.code(HttpStatus.OK.value()).build();
 			return ResponseEntity.ok(responseDTO);
@@ -431,6 +514,7 @@ public class UsuarioServiceImpl implements IUsuarioService {
 		}
 	}
 
+	@Transactional
 	public ResponseEntity<ResponseDTO> crearUsuarioYEnviarCorreo(PersonaDTO personaDTO) {
 	    try {
 	        String username = generarNombreUsuario(personaDTO);
@@ -455,32 +539,20 @@ public class UsuarioServiceImpl implements IUsuarioService {
 
 	        ResponseEntity<ResponseDTO> response = save(usuarioDTO);
 	        if (!response.getBody().getSuccess()) {
+	            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 	            return response;
 	        }
 	        String token = jwtUtil.generateToken(username);
-	        String urlRecuperacion = "http://localhost:4200/auth/recover-password?token=" + token;
+	        String urlRecuperacion = urlFrontend + "/auth/recover-password?token=" + token;
 
 	        String asunto = "Activa tu cuenta - Crea tu contraseña";
-	        String cuerpoHtml = String.format(
-	                "<html><head><style>"
-	                        + "body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }"
-	                        + ".container { max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #ddd; border-radius: 8px; background-color: #f9f9f9; }"
-	                        + ".header { text-align: center; margin-bottom: 20px; }"
-	                        + ".header h1 { color: #0056b3; }"
-	                        + ".footer { text-align: center; margin-top: 30px; font-size: 0.9em; color: #777; }"
-	                        + "strong { color: #0056b3; }"
-	                        + "a.boton { display: inline-block; padding: 10px 15px; color: white; background-color: #007bff; text-decoration: none; border-radius: 5px; }"
-	                        + "</style></head><body>"
-	                        + "<div class='container'>"
-	                        + "<div class='header'><h1>¡Bienvenido!</h1></div>"
-	                        + "<p>Hola <strong>%s %s</strong>,</p>"
-	                        + "<p>Tu usuario de acceso es: <strong>%s</strong></p>"
-	                        + "<p>Para crear tu contraseña y activar tu cuenta, haz clic en el siguiente enlace:</p>"
-	                        + "<p><a href='%s' class='boton'>Crear contraseña</a></p>"
-	                        + "<p>Este enlace estará activo durante los próximos 5 días.</p>"
-	                        + "<div class='footer'><p>Saludos cordiales,<br>Equipo de Soporte</p></div>"
-	                        + "</div></body></html>",
-	                personaDTO.getNombre(), personaDTO.getApellido(), username, urlRecuperacion);
+	        Map<String, Object> valores = new HashMap<>();
+	        valores.put("nombre", personaDTO.getNombre());
+	        valores.put("apellido", personaDTO.getApellido());
+	        valores.put("usuario", username);
+	        valores.put("enlace", urlRecuperacion);
+	        String cuerpoHtml = plantillasCorreo.renderizar(PlantillasCorreo.BIENVENIDA_USUARIO,
+	                correoEmpresaRepository.empresaDePersona(personaDTO.getId()).orElse(null), valores);
 
 	        emailService.sendEmail(correo, asunto, cuerpoHtml);
 
@@ -493,6 +565,7 @@ public class UsuarioServiceImpl implements IUsuarioService {
 
 	    } catch (Exception e) {
 	        log.error("Error creando usuario y enviando correo", e);
+	        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
 	    }
 	}
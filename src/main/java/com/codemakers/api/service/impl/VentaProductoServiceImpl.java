@@ -8,7 +8,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
 import com.codemakers.api.service.IVentaProductoService;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.VentaProductoDTO;
@@ -34,17 +37,19 @@ public class VentaProductoServiceImpl implements IVentaProductoService {
 
 	private final VentaProductoRepository ventaProductoRepository;
 	private final VentaProductoMapper ventaProductoMapper;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(VentaProductoDTO ventaProductoDTO) {
 	    log.info("Guardar/Actualizar Venta Producto");
 	    try {
-	        boolean isUpdate = ventaProductoDTO.getId() != null && ventaProductoRepository.existsById(ventaProductoDTO.getId());
+	        var existente = Registros.existente(ventaProductoRepository, ventaProductoDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        VentaProductoEntity entity;
 
 	        if (isUpdate) {
-	            entity = ventaProductoRepository.findById(ventaProductoDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            ventaProductoMapper.updateEntityFromDto(ventaProductoDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(ventaProductoDTO.getUsuarioModificacion());
@@ -153,6 +158,35 @@ public class VentaProductoServiceImpl implements IVentaProductoService {
 	    }
 	}
 	
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar productos de venta paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(VentaProductoEntity.class, cursor, tamano, contar, ventaProductoMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar productos de venta paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar productos de venta en streaming");
+		return keysetPager.stream(VentaProductoEntity.class, ventaProductoMapper::entityToDto);
+	}
+
 	@Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -184,7 +218,7 @@ public class VentaProductoServiceImpl implements IVentaProductoService {
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar venta producto por id: {}", id);
         try {
-            if (!ventaProductoRepository.existsById(id)) {
+            if (!Registros.eliminar(ventaProductoRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -192,7 +226,6 @@ public class VentaProductoServiceImpl implements IVentaProductoService {
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            ventaProductoRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -5,14 +5,15 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 
-import org.postgresql.util.PGobject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codemakers.api.persistence.KeysetPager;
+import com.codemakers.api.persistence.Registros;
+import com.codemakers.api.persistence.StoredProcedureGateway;
 import com.codemakers.api.service.IVentaService;
 import com.codemakers.commons.dtos.ResponseDTO;
 import com.codemakers.commons.dtos.VentaDTO;
@@ -21,8 +22,6 @@ import com.codemakers.commons.maps.VentaMapper;
 import com.codemakers.commons.repositories.VentaRepository;
 import com.codemakers.commons.utils.Constantes;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,19 +40,20 @@ public class VentaServiceImpl implements IVentaService{
 
 	private final VentaRepository ventaRepository;
 	private final VentaMapper ventaMapper;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final ObjectMapper objectMapper;
+	private final StoredProcedureGateway storedProcedureGateway;
+	private final KeysetPager keysetPager;
 	
 	@Override
 	@Transactional
 	public ResponseEntity<ResponseDTO> save(VentaDTO ventaDTO) {
 	    log.info("Guardar/Actualizar Venta ");
 	    try {
-	        boolean isUpdate = ventaDTO.getId() != null && ventaRepository.existsById(ventaDTO.getId());
+	        var existente = Registros.existente(ventaRepository, ventaDTO.getId());
+	        boolean isUpdate = existente.isPresent();
 	        VentaEntity entity;
 
 	        if (isUpdate) {
-	            entity = ventaRepository.findById(ventaDTO.getId()).orElseThrow();
+	            entity = existente.get();
 	            ventaMapper.updateEntityFromDto(ventaDTO, entity);
 	            entity.setFechaModificacion(new Date());
 	            entity.setUsuarioModificacion(ventaDTO.getUsuarioModificacion());
@@ -94,21 +94,9 @@ public class VentaServiceImpl implements IVentaService{
 	@Transactional
     public Map<String, Object> crearVenta(Map<String, Object> jsonParams) {
         try {
-            String jsonString = objectMapper.writeValueAsString(jsonParams);
-
-            String sql = "SELECT * FROM public.crear_venta(CAST(:jsonData AS jsonb))";
-            
-            MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue("jsonData", jsonString);
-
-            Map<String, Object> rawResult = namedParameterJdbcTemplate.queryForMap(sql, parameters);
-
-          
-            Object wrappedValue = rawResult.get("crear_venta");
-            if (wrappedValue instanceof PGobject pgObject && "jsonb".equals(pgObject.getType())) {
-                String jsonValue = pgObject.getValue();
-                
-                return objectMapper.readValue(jsonValue, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> result = storedProcedureGateway.callJson("crear_venta", jsonParams);
+            if (result != null) {
+                return result;
             }
 
             return Map.of(Constantes.ERROR_KEY, Constantes.RESULT_COULD_NOT_PROCESSED);
@@ -156,6 +144,35 @@ public class VentaServiceImpl implements IVentaService{
 	    }
 	}
 	
+	@Override
+	public ResponseEntity<ResponseDTO> findPage(Integer cursor, Integer tamano, boolean contar) {
+		log.info("Listar ventas paginado desde el cursor: {}", cursor);
+		try {
+			var pagina = keysetPager.pagina(VentaEntity.class, cursor, tamano, contar, ventaMapper::entityToDto);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(true)
+					.message(Constantes.CONSULTED_SUCCESSFULLY)
+					.code(HttpStatus.OK.value())
+					.response(pagina)
+					.build();
+			return ResponseEntity.ok(responseDTO);
+		} catch (Exception e) {
+			log.error("Error al listar ventas paginado", e);
+			ResponseDTO responseDTO = ResponseDTO.builder()
+					.success(false)
+					.message(Constantes.CONSULTING_ERROR)
+					.code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+		}
+	}
+
+	@Override
+	public StreamingResponseBody streamAll() {
+		log.info("Descargar ventas en streaming");
+		return keysetPager.stream(VentaEntity.class, ventaMapper::entityToDto);
+	}
+
 	@Override
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseDTO> findAll() {
@@ -187,7 +204,7 @@ public class VentaServiceImpl implements IVentaService{
     public ResponseEntity<ResponseDTO> deleteById(Integer id) {
         log.info("Inicio método para eliminar venta por id: {}", id);
         try {
-            if (!ventaRepository.existsById(id)) {
+            if (!Registros.eliminar(ventaRepository, id)) {
                 ResponseDTO responseDTO = ResponseDTO.builder()
                         .success(false)
                         .message(Constantes.RECORD_NOT_FOUND)
@@ -195,7 +212,6 @@ public class VentaServiceImpl implements IVentaService{
                         .build();
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
             }
-            ventaRepository.deleteById(id);
             ResponseDTO responseDTO = ResponseDTO.builder()
                     .success(true)
                     .message(Constantes.DELETED_SUCCESSFULLY)
@@ -0,0 +1,51 @@
+package com.codemakers.api.utils;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.codemakers.api.persistence.VersionRegistroRepository;
+import com.codemakers.commons.dtos.ResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @version 1.0
+ * GET condicional (ETag / If-None-Match) calculado a partir de la version de los registros.
+ * Si el cliente ya tiene la version actual se responde 304 sin ejecutar la consulta ni el mapper.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultaCondicional {
+
+	public static final String CACHE_CONTROL = "private, no-cache";
+
+	private final VersionRegistroRepository versionRegistroRepository;
+
+	/**
+	 * Metodo encargado de responder 304 cuando el ETag enviado por el cliente sigue vigente
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param request peticion actual
+	 * @param entidad entidad consultada
+	 * @param atributo ruta del atributo de filtro, nulo para toda la tabla
+	 * @param valor valor del filtro
+	 * @param consulta consulta que se ejecuta solo si hubo cambios
+	 * @return Devuelve null si se respondio 304, o la respuesta de la consulta
+	 */
+	public ResponseEntity<ResponseDTO> responder(WebRequest request, Class<?> entidad, String atributo, Object valor,
+			Supplier<ResponseEntity<ResponseDTO>> consulta) {
+		// Permite que el navegador guarde la respuesta y la revalide; sin esto Spring Security envia no-store.
+		if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+			servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+		}
+		if (request.checkNotModified(versionRegistroRepository.etag(entidad, atributo, valor))) {
+			return null;
+		}
+		return consulta.get();
+	}
+}
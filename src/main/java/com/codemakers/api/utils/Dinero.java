@@ -0,0 +1,136 @@
+package com.codemakers.api.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * @version 1.0
+ * Valor monetario exacto con dos decimales, representado como centavos en un {@code long}.
+ * Las sumas y restas son exactas y fallan con {@link ArithmeticException} en caso de desbordamiento en lugar de
+ * perder precision. En JSON se serializa como numero decimal ({@code 1234.50}) y en JDBC se enlaza como
+ * {@link BigDecimal}, que corresponde a columnas {@code numeric}.
+ */
+public final class Dinero implements Comparable<Dinero> {
+
+	public static final int ESCALA = 2;
+	public static final Dinero CERO = new Dinero(0);
+
+	private final long centavos;
+
+	private Dinero(long centavos) {
+		this.centavos = centavos;
+	}
+
+	public static Dinero deCentavos(long centavos) {
+		return centavos == 0 ? CERO : new Dinero(centavos);
+	}
+
+	/**
+	 * Metodo encargado de convertir un decimal redondeando a centavos (HALF_EVEN). Solo para valores que ya vienen
+	 * de columnas {@code numeric} o de calculos internos; los montos que envia un cliente se convierten con
+	 * {@link #exacto(BigDecimal)}
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param valor
+	 * @return Devuelve el valor monetario, o null si el valor es null
+	 */
+	public static Dinero de(BigDecimal valor) {
+		if (valor == null) {
+			return null;
+		}
+		return deCentavos(valor.setScale(ESCALA, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+	}
+
+	/**
+	 * Metodo encargado de convertir un decimal sin redondear. Un valor con mas de dos decimales significativos
+	 * (10.005) se rechaza en lugar de convertirse en 10.00; los ceros sobrantes (10.500) si se aceptan.
+	 * Es el que usa Jackson, por lo que un monto asi en el cuerpo de la peticion termina en 400
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param valor
+	 * @return Devuelve el valor monetario, o null si el valor es null
+	 * @throws ArithmeticException si el valor tiene mas de dos decimales o no cabe en centavos
+	 */
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static Dinero exacto(BigDecimal valor) {
+		if (valor == null) {
+			return null;
+		}
+		return deCentavos(valor.setScale(ESCALA, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+	}
+
+	public static Dinero exacto(Double valor) {
+		return valor == null ? null : exacto(BigDecimal.valueOf(valor));
+	}
+
+	/**
+	 * Metodo encargado de convertir un double heredado de las entidades. Se usa la representacion decimal mas corta
+	 * del double ({@link BigDecimal#valueOf(double)}), por lo que 0.1 se convierte en 0.10 y no en 0.1000000000000000055
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param valor
+	 * @return Devuelve el valor monetario, o null si el valor es null
+	 */
+	public static Dinero de(Double valor) {
+		return valor == null ? null : de(BigDecimal.valueOf(valor));
+	}
+
+	public static Dinero de(String valor) {
+		return valor == null ? null : de(new BigDecimal(valor));
+	}
+
+	public Dinero sumar(Dinero otro) {
+		return deCentavos(Math.addExact(centavos, otro.centavos));
+	}
+
+	public Dinero restar(Dinero otro) {
+		return deCentavos(Math.subtractExact(centavos, otro.centavos));
+	}
+
+	public boolean esPositivo() {
+		return centavos > 0;
+	}
+
+	public boolean esNegativo() {
+		return centavos < 0;
+	}
+
+	public long getCentavos() {
+		return centavos;
+	}
+
+	@JsonValue
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(centavos, ESCALA);
+	}
+
+	/**
+	 * @return Devuelve el valor como double, solo para las entidades y DTOs compartidos que aun usan Double
+	 */
+	public Double toDouble() {
+		return toBigDecimal().doubleValue();
+	}
+
+	@Override
+	public int compareTo(Dinero otro) {
+		return Long.compare(centavos, otro.centavos);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Dinero otro && otro.centavos == centavos;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(centavos);
+	}
+
+	@Override
+	public String toString() {
+		return toBigDecimal().toPlainString();
+	}
+}
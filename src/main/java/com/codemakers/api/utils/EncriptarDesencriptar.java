@@ -1,99 +1,121 @@
 package com.codemakers.api.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
-import org.apache.commons.codec.binary.Base64;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * @version 2.0
+ * Clase encargada del cifrado 3DES de las contraseñas y parametros del sistema.
+ * La llave se deriva una sola vez y las instancias de {@link Cipher} se reutilizan desde un pool acotado,
+ * ya que {@link Cipher} no es seguro para uso concurrente.
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class EncriptarDesencriptar {
-    
-	private static String secretKey = "";
-	
-	@Value("${seguridad.llave}")
-	private String llave;
-	
+
+	private static final String ALGORITHM = "DESede";
+
+	private final SecretKey key;
+	private final BlockingQueue<Cipher> encryptors;
+	private final BlockingQueue<Cipher> decryptors;
+
+	public EncriptarDesencriptar(@Value("${seguridad.llave}") String llave,
+			@Value("${seguridad.cipher-pool-size:32}") int poolSize) {
+		this.key = deriveKey(llave);
+		this.encryptors = new ArrayBlockingQueue<>(poolSize);
+		this.decryptors = new ArrayBlockingQueue<>(poolSize);
+	}
+
 	/**
 	 * Metodo de encriptacion de la contraseña acesso.
-	 * 
+	 *
 	 * @param texto
 	 * @return Contraseña encriptada.
 	 */
 	public String encriptar(String texto) {
-		log.info("--------------------------ENTRADA TEXTO------------------------  " + texto);
-		secretKey ="keyacuaplus";//this.llave; // llave para encriptar datos
-		String base64EncryptedString = "";
-		log.info("--------------------------ENTRADA llave------------------------  " + llave);
-
 		try {
-
-			MessageDigest md = MessageDigest.getInstance("MD5");
-			byte[] digestOfPassword = md.digest(secretKey.getBytes("utf-8"));
-			byte[] keyBytes = Arrays.copyOf(digestOfPassword, 24);
-
-			SecretKey key = new SecretKeySpec(keyBytes, "DESede");
-			Cipher cipher = Cipher.getInstance("DESede");
-			cipher.init(Cipher.ENCRYPT_MODE, key);
-
-			byte[] plainTextBytes = texto.getBytes("utf-8");
-			byte[] buf = cipher.doFinal(plainTextBytes);
-			byte[] base64Bytes = Base64.encodeBase64(buf);
-			base64EncryptedString = new String(base64Bytes);
-
+			byte[] buf = encrypt(texto.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(buf);
 		} catch (Exception e) {
-			log.error("Error encriptar: " + e.getMessage());
-			e.printStackTrace();
+			log.error("Error encriptar: {}", e.getMessage(), e);
+			return "";
 		}
-		return base64EncryptedString;
 	}
 
 	/**
 	 * Metodo de desencriptacion de contraseña.
-	 * 
+	 *
 	 * @param textoEncriptado
 	 * @return contraseña desencriptada.
-	 * @throws Exception
 	 */
 	public String desencriptar(String textoEncriptado) {
-		log.info("Ingreso desencriptar:  " );
-		secretKey ="keyacuaplus";//this.llave; llave para desenciptar datos
-		String base64EncryptedString = "";
-
 		try {
-			byte[] message = Base64.decodeBase64(textoEncriptado.getBytes("utf-8"));
-			MessageDigest md = MessageDigest.getInstance("MD5");
-			byte[] digestOfPassword = md.digest(secretKey.getBytes("utf-8"));
-			byte[] keyBytes = Arrays.copyOf(digestOfPassword, 24);
-			SecretKey key = new SecretKeySpec(keyBytes, "DESede");
-
-			Cipher decipher = Cipher.getInstance("DESede");
-			decipher.init(Cipher.DECRYPT_MODE, key);
+			byte[] plainText = decrypt(Base64.getMimeDecoder().decode(textoEncriptado));
+			return new String(plainText, StandardCharsets.UTF_8);
+		} catch (Exception e) {
+			log.error("Error desencriptar: {}", e.getMessage(), e);
+			return "";
+		}
+	}
 
-			byte[] plainText = decipher.doFinal(message);
+	/**
+	 * Metodo encargado de cifrar bytes sin conversiones intermedias
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param plain
+	 * @return Devuelve los bytes cifrados
+	 * @throws GeneralSecurityException
+	 */
+	public byte[] encrypt(byte[] plain) throws GeneralSecurityException {
+		return doFinal(encryptors, Cipher.ENCRYPT_MODE, plain);
+	}
 
-			base64EncryptedString = new String(plainText, "UTF-8");
+	/**
+	 * Metodo encargado de descifrar bytes sin conversiones intermedias
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param encrypted
+	 * @return Devuelve los bytes descifrados
+	 * @throws GeneralSecurityException
+	 */
+	public byte[] decrypt(byte[] encrypted) throws GeneralSecurityException {
+		return doFinal(decryptors, Cipher.DECRYPT_MODE, encrypted);
+	}
 
-		} catch (Exception e) {
-			log.error("Error desencriptar: " + e.getMessage());
-			e.printStackTrace();
+	private byte[] doFinal(BlockingQueue<Cipher> pool, int mode, byte[] input) throws GeneralSecurityException {
+		Cipher cipher = pool.poll();
+		if (cipher == null) {
+			cipher = Cipher.getInstance(ALGORITHM);
+			cipher.init(mode, key);
 		}
-		log.info("Salida desencriptar: {} ", base64EncryptedString );
-		return base64EncryptedString;
+		// Si doFinal falla la instancia se descarta en lugar de devolverla al pool.
+		byte[] output = cipher.doFinal(input);
+		pool.offer(cipher);
+		return output;
 	}
-	
-	public static void main(String[] args) throws Exception {
-		EncriptarDesencriptar ed = new EncriptarDesencriptar();
-		System.out.println("clave " + ed.desencriptar("eLJnIO8nNtqtl+NgvhFAXw=="));
-		System.out.println("clave " + ed.encriptar("jerson123"));
+
+	private static SecretKey deriveKey(String llave) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("MD5");
+			byte[] digestOfPassword = md.digest(llave.getBytes(StandardCharsets.UTF_8));
+			byte[] keyBytes = Arrays.copyOf(digestOfPassword, 24);
+			return new SecretKeySpec(keyBytes, ALGORITHM);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("No fue posible derivar la llave de cifrado", e);
+		}
 	}
-}
\ No newline at end of file
+}
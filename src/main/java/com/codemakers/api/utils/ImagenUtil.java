@@ -0,0 +1,127 @@
+package com.codemakers.api.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * @version 1.0
+ * Utilidades para las imagenes de perfil: hash del contenido y generacion de miniaturas.
+ * Las imagenes grandes se decodifican con submuestreo, por lo que la miniatura no requiere
+ * cargar en memoria la imagen completa a resolucion original. El tipo de la imagen se toma del lector que
+ * la decodifico y no del declarado por el cliente.
+ */
+public final class ImagenUtil {
+
+	public static final String TIPO_MINIATURA = "image/png";
+
+	private static final long MAXIMO_PIXELES = 40_000_000L;
+
+	private static final Map<String, String> TIPOS = Map.of(
+			"jpeg", "image/jpeg",
+			"jpg", "image/jpeg",
+			"png", "image/png",
+			"gif", "image/gif",
+			"bmp", "image/bmp",
+			"tiff", "image/tiff",
+			"webp", "image/webp");
+
+	/**
+	 * Miniatura generada y tipo MIME detectado de la imagen original.
+	 */
+	public record Miniatura(byte[] contenido, String tipoOriginal) {
+	}
+
+	private ImagenUtil() {
+	}
+
+	/**
+	 * Metodo encargado de calcular el SHA-256 de un stream sin cargarlo completo en memoria
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param in
+	 * @return Devuelve el hash en hexadecimal
+	 * @throws IOException
+	 */
+	public static String sha256(InputStream in) throws IOException {
+		try (DigestInputStream digest = new DigestInputStream(in, MessageDigest.getInstance("SHA-256"))) {
+			digest.transferTo(OutputStream.nullOutputStream());
+			return HexFormat.of().formatHex(digest.getMessageDigest().digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Metodo encargado de generar la miniatura PNG de una imagen y detectar su formato
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param in imagen original
+	 * @param lado tamano maximo del lado mayor de la miniatura
+	 * @return Devuelve los bytes PNG de la miniatura y el tipo MIME de la imagen original
+	 * @throws IOException
+	 * @throws IllegalArgumentException si el formato no es soportado o la imagen excede el maximo de pixeles
+	 */
+	public static Miniatura miniatura(InputStream in, int lado) throws IOException {
+		try (ImageInputStream entrada = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> lectores = entrada == null ? null : ImageIO.getImageReaders(entrada);
+			if (lectores == null || !lectores.hasNext()) {
+				throw new IllegalArgumentException("Formato de imagen no soportado");
+			}
+			ImageReader lector = lectores.next();
+			try {
+				String tipo = TIPOS.get(lector.getFormatName().toLowerCase(Locale.ROOT));
+				if (tipo == null) {
+					throw new IllegalArgumentException("Formato de imagen no soportado: " + lector.getFormatName());
+				}
+				lector.setInput(entrada, true, true);
+				int ancho = lector.getWidth(0);
+				int alto = lector.getHeight(0);
+				if ((long) ancho * alto > MAXIMO_PIXELES) {
+					throw new IllegalArgumentException("La imagen excede el tamano permitido");
+				}
+				// Se decodifica a no menos del doble del tamano final para conservar calidad al escalar.
+				int paso = Math.max(1, Math.max(ancho, alto) / (lado * 2));
+				ImageReadParam parametros = lector.getDefaultReadParam();
+				parametros.setSourceSubsampling(paso, paso, 0, 0);
+				return new Miniatura(escalar(lector.read(0, parametros), lado), tipo);
+			} finally {
+				lector.dispose();
+			}
+		}
+	}
+
+	private static byte[] escalar(BufferedImage fuente, int lado) throws IOException {
+		double escala = Math.min(1.0, (double) lado / Math.max(fuente.getWidth(), fuente.getHeight()));
+		int ancho = Math.max(1, (int) Math.round(fuente.getWidth() * escala));
+		int alto = Math.max(1, (int) Math.round(fuente.getHeight() * escala));
+		BufferedImage destino = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = destino.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(fuente, 0, 0, ancho, alto, null);
+		} finally {
+			g.dispose();
+		}
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+		ImageIO.write(destino, "png", salida);
+		return salida.toByteArray();
+	}
+}
@@ -0,0 +1,115 @@
+package com.codemakers.api.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @version 1.0
+ * Plantilla de correo ya compilada. La fuente se divide una sola vez en textos fijos y variables
+ * {@code {{nombre}}}; al renderizar solo se concatenan los segmentos sobre un buffer dimensionado de antemano
+ * y los valores se escapan como HTML. Las instancias son inmutables y seguras para uso concurrente.
+ */
+public final class PlantillaCorreo {
+
+	private static final String APERTURA = "{{";
+	private static final String CIERRE = "}}";
+
+	private final String nombre;
+	private final String[] textos;
+	private final String[] variables;
+	private final int longitudFija;
+
+	private PlantillaCorreo(String nombre, List<String> textos, List<String> variables) {
+		this.nombre = nombre;
+		this.textos = textos.toArray(String[]::new);
+		this.variables = variables.toArray(String[]::new);
+		this.longitudFija = textos.stream().mapToInt(String::length).sum();
+	}
+
+	/**
+	 * Metodo encargado de compilar la fuente de una plantilla
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param nombre
+	 * @param fuente
+	 * @return Devuelve la plantilla compilada
+	 */
+	public static PlantillaCorreo compilar(String nombre, String fuente) {
+		List<String> textos = new ArrayList<>();
+		List<String> variables = new ArrayList<>();
+		int desde = 0;
+		int apertura = fuente.indexOf(APERTURA);
+		while (apertura >= 0) {
+			int cierre = fuente.indexOf(CIERRE, apertura + APERTURA.length());
+			if (cierre < 0) {
+				throw new IllegalArgumentException("Variable sin cerrar en la plantilla " + nombre + " posicion " + apertura);
+			}
+			String variable = fuente.substring(apertura + APERTURA.length(), cierre).trim();
+			if (variable.isEmpty()) {
+				throw new IllegalArgumentException("Variable vacia en la plantilla " + nombre + " posicion " + apertura);
+			}
+			textos.add(fuente.substring(desde, apertura));
+			variables.add(variable);
+			desde = cierre + CIERRE.length();
+			apertura = fuente.indexOf(APERTURA, desde);
+		}
+		textos.add(fuente.substring(desde));
+		return new PlantillaCorreo(nombre, textos, variables);
+	}
+
+	/**
+	 * Metodo encargado de renderizar la plantilla con los valores recibidos. Un valor nulo se omite;
+	 * una variable sin valor es un error de programacion y se rechaza.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param valores
+	 * @return Devuelve el HTML con los valores escapados
+	 */
+	public String renderizar(Map<String, ?> valores) {
+		String[] resueltos = new String[variables.length];
+		int capacidad = longitudFija;
+		for (int i = 0; i < variables.length; i++) {
+			if (!valores.containsKey(variables[i])) {
+				throw new IllegalArgumentException("Falta la variable " + variables[i] + " de la plantilla " + nombre);
+			}
+			Object valor = valores.get(variables[i]);
+			resueltos[i] = valor == null ? "" : valor.toString();
+			capacidad += resueltos[i].length() + (resueltos[i].length() >> 3);
+		}
+		StringBuilder html = new StringBuilder(capacidad);
+		for (int i = 0; i < variables.length; i++) {
+			html.append(textos[i]);
+			escapar(html, resueltos[i]);
+		}
+		return html.append(textos[variables.length]).toString();
+	}
+
+	public String getNombre() {
+		return nombre;
+	}
+
+	/**
+	 * @return Devuelve las variables que usa la plantilla en orden de aparicion
+	 */
+	public Set<String> getVariables() {
+		return Collections.unmodifiableSet(new LinkedHashSet<>(List.of(variables)));
+	}
+
+	private static void escapar(StringBuilder html, String valor) {
+		for (int i = 0; i < valor.length(); i++) {
+			char c = valor.charAt(i);
+			switch (c) {
+			case '&' -> html.append("&amp;");
+			case '<' -> html.append("&lt;");
+			case '>' -> html.append("&gt;");
+			case '"' -> html.append("&quot;");
+			case '\'' -> html.append("&#39;");
+			default -> html.append(c);
+			}
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package com.codemakers.api.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import com.codemakers.api.configs.cache.CatalogoCacheNotifier;
+import com.codemakers.api.persistence.CorreoEmpresaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Catalogo de plantillas de correo. Todas las plantillas de {@code templates/correo} se compilan al iniciar
+ * la aplicacion. Una empresa puede reemplazar cualquier plantilla y su marca ({@code marca.*}) desde
+ * {@code public.correo_plantilla_empresa} y {@code public.correo_empresa}; se leen en caliente y se guardan
+ * compiladas durante {@code correo.plantillas.cache-segundos}, por lo que un cambio no requiere desplegar.
+ * Los triggers de {@code sql/correo_empresa.sql} notifican cada cambio por {@link CatalogoCacheNotifier} y todos
+ * los nodos descartan la cache de esa empresa sin esperar a que venza.
+ * Sin empresa o sin personalizacion se usan la plantilla general y la marca de {@code correo.marca}. Una plantilla
+ * de empresa que no compila, usa variables que la plantilla general no ofrece o falla al renderizar se ignora
+ * y se usa la general, de modo que un error en la tabla nunca impide enviar el correo.
+ */
+@Component
+@Slf4j
+public class PlantillasCorreo {
+
+	public static final String RECUPERAR_CONTRASENA = "recuperar-contrasena";
+	public static final String BIENVENIDA_USUARIO = "bienvenida-usuario";
+	public static final String FACTURA_NUEVA = "factura-nueva";
+
+	public static final String MARCA_NOMBRE = "marca.nombre";
+	public static final String MARCA_COLOR = "marca.color";
+
+	/**
+	 * Prefijo de las notificaciones de {@link CatalogoCacheNotifier} que invalidan la cache de una empresa,
+	 * seguido del id de la empresa.
+	 */
+	public static final String CACHE_EMPRESA = "correo_empresa:";
+
+	private static final String CARPETA = "templates/correo/";
+	private static final String EXTENSION = ".html";
+
+	private final Map<String, PlantillaCorreo> plantillas = new HashMap<>();
+	private final Map<String, Object> marca;
+	private final CorreoEmpresaRepository correoEmpresaRepository;
+	private final Cache<Integer, Map<String, Object>> marcas;
+	private final Cache<ClavePlantilla, Optional<PlantillaCorreo>> personalizadas;
+
+	private record ClavePlantilla(Integer idEmpresa, String nombre) {
+	}
+
+	public PlantillasCorreo(CorreoEmpresaRepository correoEmpresaRepository, CatalogoCacheNotifier notifier,
+			@Value("${correo.marca.nombre:MultiAcueductos}") String marcaNombre,
+			@Value("${correo.marca.color:#3b82f6}") String marcaColor,
+			@Value("${correo.plantillas.cache-segundos:300}") long cacheSegundos,
+			@Value("${correo.plantillas.cache-maximo:10000}") long cacheMaximo) throws IOException {
+		this.correoEmpresaRepository = correoEmpresaRepository;
+		this.marca = Map.of(MARCA_NOMBRE, marcaNombre, MARCA_COLOR, marcaColor);
+		this.marcas = Caffeine.newBuilder()
+				.maximumSize(cacheMaximo)
+				.expireAfterWrite(Duration.ofSeconds(cacheSegundos))
+				.build();
+		this.personalizadas = Caffeine.newBuilder()
+				.maximumSize(cacheMaximo)
+				.expireAfterWrite(Duration.ofSeconds(cacheSegundos))
+				.build();
+		Resource[] recursos = new PathMatchingResourcePatternResolver()
+				.getResources("classpath*:" + CARPETA + "**/*" + EXTENSION);
+		for (Resource recurso : recursos) {
+			String ruta = recurso.getURL().getPath();
+			String clave = ruta.substring(ruta.lastIndexOf(CARPETA) + CARPETA.length(), ruta.length() - EXTENSION.length());
+			try (InputStream in = recurso.getInputStream()) {
+				plantillas.put(clave, PlantillaCorreo.compilar(clave, new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+			}
+		}
+		log.info("Plantillas de correo compiladas: {}", plantillas.keySet());
+		notifier.suscribir(this::alNotificar);
+	}
+
+	/**
+	 * Metodo encargado de renderizar una plantilla, usando la version de la empresa si existe
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param nombre
+	 * @param idEmpresa puede ser nulo para usar la plantilla general
+	 * @param valores
+	 * @return Devuelve el HTML del correo
+	 */
+	public String renderizar(String nombre, Integer idEmpresa, Map<String, ?> valores) {
+		PlantillaCorreo general = plantillas.get(nombre);
+		if (general == null) {
+			throw new IllegalArgumentException("No existe la plantilla de correo " + nombre);
+		}
+		Map<String, Object> contexto = new HashMap<>(idEmpresa == null ? marca : marcas.get(idEmpresa, this::marcaEmpresa));
+		contexto.putAll(valores);
+		if (idEmpresa != null) {
+			PlantillaCorreo propia = personalizadas.get(new ClavePlantilla(idEmpresa, nombre), this::personalizada)
+					.orElse(null);
+			if (propia != null) {
+				try {
+					return propia.renderizar(contexto);
+				} catch (IllegalArgumentException e) {
+					log.warn("La plantilla {} de la empresa {} no se pudo renderizar, se usa la general: {}", nombre,
+							idEmpresa, e.getMessage());
+				}
+			}
+		}
+		return general.renderizar(contexto);
+	}
+
+	/**
+	 * Metodo encargado de renderizar una plantilla general
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param nombre
+	 * @param valores
+	 * @return Devuelve el HTML del correo
+	 */
+	public String renderizar(String nombre, Map<String, ?> valores) {
+		return renderizar(nombre, null, valores);
+	}
+
+	/**
+	 * Metodo encargado de descartar la marca y las plantillas en cache de una empresa, para aplicar un cambio
+	 * antes de que venza la cache
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param idEmpresa
+	 */
+	public void invalidar(Integer idEmpresa) {
+		marcas.invalidate(idEmpresa);
+		personalizadas.asMap().keySet().removeIf(clave -> clave.idEmpresa().equals(idEmpresa));
+	}
+
+	private void alNotificar(String cache) {
+		if (cache == null) {
+			marcas.invalidateAll();
+			personalizadas.invalidateAll();
+		} else if (cache.startsWith(CACHE_EMPRESA)) {
+			try {
+				invalidar(Integer.valueOf(cache.substring(CACHE_EMPRESA.length())));
+			} catch (NumberFormatException e) {
+				log.warn("Notificacion de correo de empresa invalida: {}", cache);
+			}
+		}
+	}
+
+	/**
+	 * Compila la plantilla de la empresa y verifica que solo use las variables de la plantilla general y de la marca.
+	 * Si no es valida se descarta (queda en cache como vacia) y se usa la general.
+	 */
+	private Optional<PlantillaCorreo> personalizada(ClavePlantilla clave) {
+		Optional<String> fuente = correoEmpresaRepository.plantilla(clave.idEmpresa(), clave.nombre());
+		if (fuente.isEmpty()) {
+			return Optional.empty();
+		}
+		String nombre = clave.idEmpresa() + "/" + clave.nombre();
+		try {
+			PlantillaCorreo plantilla = PlantillaCorreo.compilar(nombre, fuente.get());
+			Set<String> desconocidas = new HashSet<>(plantilla.getVariables());
+			desconocidas.removeAll(plantillas.get(clave.nombre()).getVariables());
+			desconocidas.removeAll(marca.keySet());
+			if (!desconocidas.isEmpty()) {
+				log.warn("La plantilla {} usa variables desconocidas {}, se usa la general", nombre, desconocidas);
+				return Optional.empty();
+			}
+			return Optional.of(plantilla);
+		} catch (IllegalArgumentException e) {
+			log.warn("La plantilla {} no compila, se usa la general: {}", nombre, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private Map<String, Object> marcaEmpresa(Integer idEmpresa) {
+		return correoEmpresaRepository.marca(idEmpresa)
+				.<Map<String, Object>>map(propia -> Map.of(
+						MARCA_NOMBRE, propia.nombre() != null ? propia.nombre() : marca.get(MARCA_NOMBRE),
+						MARCA_COLOR, propia.color() != null ? propia.color() : marca.get(MARCA_COLOR)))
+				.orElse(marca);
+	}
+}
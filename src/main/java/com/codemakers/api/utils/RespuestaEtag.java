@@ -0,0 +1,65 @@
+package com.codemakers.api.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.codemakers.commons.dtos.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @version 1.0
+ * Construye respuestas exitosas con ETag. Spring responde 304 Not Modified cuando el
+ * {@code If-None-Match} de la peticion coincide con el ETag del {@link ResponseEntity}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RespuestaEtag {
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Metodo encargado de construir la respuesta 200 con el ETag calculado a partir del cuerpo.
+	 * Se usa en respuestas que quedan en cache, por lo que el calculo se hace una sola vez por entrada.
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param body
+	 * @return Devuelve la respuesta con el encabezado ETag
+	 */
+	public ResponseEntity<ResponseDTO> ok(ResponseDTO body) {
+		try {
+			return ResponseEntity.ok()
+					.eTag(etag(objectMapper.writeValueAsBytes(body)))
+					.cacheControl(CacheControl.noCache().cachePrivate())
+					.body(body);
+		} catch (JsonProcessingException e) {
+			log.warn("No fue posible calcular el ETag de la respuesta: {}", e.getMessage());
+			return ResponseEntity.ok(body);
+		}
+	}
+
+	/**
+	 * Metodo encargado de calcular un ETag fuerte a partir de un contenido
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param contenido
+	 * @return Devuelve el ETag entre comillas
+	 */
+	public static String etag(byte[] contenido) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(contenido);
+			return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+-- Marca y plantillas de correo por empresa.
+-- Se leen en caliente (con cache de correo.plantillas.cache-segundos, invalidada por los triggers del final), por lo
+-- que cambiar la marca o una plantilla de una empresa no requiere desplegar la aplicacion. Sin fila se usan la marca
+-- de correo.marca y las plantillas generales de templates/correo.
+CREATE TABLE IF NOT EXISTS public.correo_empresa (
+    id_empresa            INTEGER      PRIMARY KEY,
+    marca_nombre          VARCHAR(150),
+    marca_color           VARCHAR(20),
+    usuario_modificacion  VARCHAR(100),
+    fecha_modificacion    TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS public.correo_plantilla_empresa (
+    id_empresa            INTEGER      NOT NULL,
+    nombre                VARCHAR(100) NOT NULL,
+    fuente                TEXT         NOT NULL,
+    usuario_modificacion  VARCHAR(100),
+    fecha_modificacion    TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (id_empresa, nombre)
+);
+
+-- Cada cambio de marca o plantilla notifica en el canal de CatalogoCacheNotifier ('correo_empresa:<id_empresa>'),
+-- y todos los nodos descartan la cache de esa empresa. PostgreSQL entrega la notificacion despues del commit.
+CREATE OR REPLACE FUNCTION public.notificar_correo_empresa() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM pg_notify('catalogo_cache', 'correo_empresa:' || OLD.id_empresa);
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        PERFORM pg_notify('catalogo_cache', 'correo_empresa:' || NEW.id_empresa);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_correo_empresa_notificar ON public.correo_empresa;
+CREATE TRIGGER trg_correo_empresa_notificar
+    AFTER INSERT OR UPDATE OR DELETE ON public.correo_empresa
+    FOR EACH ROW EXECUTE FUNCTION public.notificar_correo_empresa();
+
+DROP TRIGGER IF EXISTS trg_correo_plantilla_empresa_notificar ON public.correo_plantilla_empresa;
+CREATE TRIGGER trg_correo_plantilla_empresa_notificar
+    AFTER INSERT OR UPDATE OR DELETE ON public.correo_plantilla_empresa
+    FOR EACH ROW EXECUTE FUNCTION public.notificar_correo_empresa();
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS public.correo_saliente (
+    id               BIGSERIAL    PRIMARY KEY,
+    destinatario     VARCHAR(320) NOT NULL,
+    asunto           VARCHAR(500) NOT NULL,
+    cuerpo           TEXT         NOT NULL,
+    estado           VARCHAR(20)  NOT NULL DEFAULT 'PENDIENTE',
+    intentos         INTEGER      NOT NULL DEFAULT 0,
+    proximo_intento  TIMESTAMP    NOT NULL DEFAULT now(),
+    bloqueado_hasta  TIMESTAMP,
+    ultimo_error     TEXT,
+    fecha_creacion   TIMESTAMP    NOT NULL DEFAULT now(),
+    fecha_envio      TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_correo_saliente_pendiente
+    ON public.correo_saliente (proximo_intento)
+    WHERE estado IN ('PENDIENTE', 'ENVIANDO');
+
+-- El cuerpo solo se conserva mientras el correo puede reenviarse: puede contener tokens de un solo uso.
+ALTER TABLE public.correo_saliente ALTER COLUMN cuerpo DROP NOT NULL;
+
+UPDATE public.correo_saliente
+   SET cuerpo = NULL
+ WHERE estado IN ('ENVIADO', 'FALLIDO')
+   AND cuerpo IS NOT NULL;
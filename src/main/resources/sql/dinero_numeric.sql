@@ -0,0 +1,8 @@
+-- Los saldos y abonos se guardan como numeric exacto en lugar de double precision.
+-- Las entidades compartidas siguen leyendo Double, pero la aritmetica de abonos y los totales
+-- se resuelven en la base de datos sin error de redondeo.
+ALTER TABLE public.deuda_cliente ALTER COLUMN valor TYPE NUMERIC(14, 2) USING round(CAST(valor AS numeric), 2);
+ALTER TABLE public.abono ALTER COLUMN valor TYPE NUMERIC(14, 2) USING round(CAST(valor AS numeric), 2);
+
+CREATE INDEX IF NOT EXISTS idx_deuda_cliente_ecc_pendiente ON public.deuda_cliente (id_empresa_cliente_contador)
+    WHERE activo AND valor > 0;
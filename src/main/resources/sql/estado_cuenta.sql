@@ -0,0 +1,93 @@
+-- Estado de cuenta de un cliente.
+-- Se consulta por empresa_cliente_contador (p_id_ecc) o por todos los contadores de una persona (p_id_persona).
+-- Cada deuda es un cargo por su valor original (saldo actual mas los abonos aplicados) y cada abono es un credito;
+-- el saldo acumulado se calcula con una suma de ventana sobre los movimientos ordenados por fecha.
+-- Con p_desde solo se devuelven los movimientos desde esa fecha y lo anterior se resume en saldoInicial.
+
+CREATE INDEX IF NOT EXISTS idx_empresa_cliente_contador_persona
+    ON public.empresa_cliente_contador (id_persona);
+
+CREATE INDEX IF NOT EXISTS idx_deuda_cliente_ecc_fecha
+    ON public.deuda_cliente (id_empresa_cliente_contador, fecha_creacion);
+
+CREATE INDEX IF NOT EXISTS idx_abono_deuda_cliente
+    ON public.abono (id_deuda_cliente, fecha_creacion);
+
+CREATE INDEX IF NOT EXISTS idx_factura_ecc_fecha
+    ON public.factura (id_empresa_cliente_contador, fecha_creacion);
+
+CREATE OR REPLACE FUNCTION public.estado_cuenta(p_id_ecc INTEGER, p_id_persona INTEGER, p_desde DATE)
+RETURNS JSONB
+LANGUAGE sql
+STABLE
+AS $$
+WITH contadores AS (
+    SELECT ecc.id
+    FROM public.empresa_cliente_contador ecc
+    WHERE (p_id_ecc IS NOT NULL AND ecc.id = p_id_ecc)
+       OR (p_id_ecc IS NULL AND ecc.id_persona = p_id_persona)
+),
+deudas AS (
+    SELECT d.id, d.id_empresa_cliente_contador, CAST(d.valor AS numeric) AS valor, d.fecha_creacion
+    FROM public.deuda_cliente d
+    JOIN contadores c ON c.id = d.id_empresa_cliente_contador
+    WHERE d.activo
+),
+abonos AS (
+    SELECT a.id, a.id_deuda_cliente, d.id_empresa_cliente_contador, CAST(a.valor AS numeric) AS valor, a.fecha_creacion
+    FROM public.abono a
+    JOIN deudas d ON d.id = a.id_deuda_cliente
+    WHERE a.activo
+),
+abonado AS (
+    SELECT id_deuda_cliente, sum(valor) AS valor
+    FROM abonos
+    GROUP BY id_deuda_cliente
+),
+movimientos AS (
+    SELECT 'DEUDA' AS tipo, d.id, d.id AS id_deuda, d.id_empresa_cliente_contador, d.fecha_creacion AS fecha,
+           d.valor + COALESCE(ab.valor, 0) AS cargo, CAST(0 AS numeric) AS credito
+    FROM deudas d
+    LEFT JOIN abonado ab ON ab.id_deuda_cliente = d.id
+    UNION ALL
+    SELECT 'ABONO', a.id, a.id_deuda_cliente, a.id_empresa_cliente_contador, a.fecha_creacion,
+           CAST(0 AS numeric), a.valor
+    FROM abonos a
+),
+saldos AS (
+    SELECT m.*,
+           sum(m.cargo - m.credito) OVER (ORDER BY m.fecha, m.tipo DESC, m.id ROWS UNBOUNDED PRECEDING) AS saldo
+    FROM movimientos m
+)
+SELECT jsonb_build_object(
+    'saldoInicial', (SELECT COALESCE(sum(cargo - credito), 0) FROM movimientos WHERE fecha < p_desde),
+    'saldo', (SELECT COALESCE(sum(valor), 0) FROM deudas),
+    'movimientos', COALESCE((
+        SELECT jsonb_agg(jsonb_build_object(
+                   'tipo', s.tipo,
+                   'id', s.id,
+                   'idDeudaCliente', s.id_deuda,
+                   'idEmpresaClienteContador', s.id_empresa_cliente_contador,
+                   'fecha', s.fecha,
+                   'cargo', s.cargo,
+                   'credito', s.credito,
+                   'saldo', s.saldo)
+               ORDER BY s.fecha, s.tipo DESC, s.id)
+        FROM saldos s
+        WHERE p_desde IS NULL OR s.fecha >= p_desde), '[]'::jsonb),
+    'facturasPendientes', COALESCE((
+        SELECT jsonb_agg(jsonb_build_object(
+                   'id', f.id,
+                   'idEmpresaClienteContador', f.id_empresa_cliente_contador,
+                   'idLectura', f.id_lectura,
+                   'fecha', f.fecha_creacion,
+                   'total', f.total,
+                   'estado', e.nombre)
+               ORDER BY f.fecha_creacion, f.id)
+        FROM public.factura f
+        JOIN contadores c ON c.id = f.id_empresa_cliente_contador
+        LEFT JOIN public.estado e ON e.id = f.id_estado
+        WHERE f.activo
+          AND (e.nombre IS NULL OR upper(e.nombre) NOT IN ('PAGADA', 'PAGADO', 'ANULADA', 'ANULADO'))), '[]'::jsonb)
+)
+$$;
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS public.facturacion_ciclo (
+    id                  SERIAL       PRIMARY KEY,
+    id_empresa          INTEGER      NOT NULL,
+    periodo             CHAR(7)      NOT NULL,
+    estado              VARCHAR(30)  NOT NULL,
+    parametros          JSONB        NOT NULL DEFAULT '{}'::jsonb,
+    nodo                VARCHAR(64),
+    lease_hasta         TIMESTAMP,
+    usuario_creacion    VARCHAR(100),
+    fecha_creacion      TIMESTAMP    NOT NULL DEFAULT now(),
+    fecha_fin           TIMESTAMP,
+    CONSTRAINT uk_facturacion_ciclo UNIQUE (id_empresa, periodo)
+);
+
+CREATE TABLE IF NOT EXISTS public.facturacion_ciclo_detalle (
+    id_ciclo                     INTEGER      NOT NULL REFERENCES public.facturacion_ciclo (id),
+    id_empresa_cliente_contador  INTEGER      NOT NULL,
+    id_lectura                   INTEGER      NOT NULL,
+    estado                       VARCHAR(20)  NOT NULL,
+    mensaje                      TEXT,
+    resultado                    JSONB,
+    fecha_proceso                TIMESTAMP,
+    PRIMARY KEY (id_ciclo, id_empresa_cliente_contador)
+);
+
+CREATE INDEX IF NOT EXISTS idx_facturacion_ciclo_detalle_pendiente
+    ON public.facturacion_ciclo_detalle (id_ciclo, id_empresa_cliente_contador)
+    WHERE estado = 'PENDIENTE';
@@ -0,0 +1,17 @@
+-- Idempotencia de la carga masiva de lecturas.
+-- Una lectura se identifica por su contador y la fecha de captura enviada por el lector; un reintento del mismo
+-- lote (por ejemplo tras un timeout) no duplica lecturas porque el insert usa ON CONFLICT DO NOTHING sobre esta clave.
+-- Antes de crear el indice se desactivan los duplicados existentes, conservando la lectura facturada o la mas antigua.
+UPDATE public.lectura l
+   SET activo = false
+  FROM (SELECT id,
+               row_number() OVER (PARTITION BY id_contador, fecha_lectura
+                                  ORDER BY EXISTS (SELECT 1 FROM public.factura f WHERE f.id_lectura = lec.id) DESC, id) AS orden
+          FROM public.lectura lec
+         WHERE activo) d
+ WHERE l.id = d.id
+   AND d.orden > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_lectura_contador_fecha
+    ON public.lectura (id_contador, fecha_lectura)
+    WHERE activo;
@@ -0,0 +1,155 @@
+-- Sincronizacion incremental del lector.
+-- Devuelve los contadores de las rutas del lector que cambiaron despues de p_desde, paginados por
+-- id de empresa_cliente_contador (keyset). Los registros inactivos se envian para que el dispositivo
+-- los elimine. Las tarifas y los eliminados se envian solo en la primera pagina (p_ultimo_id = 0).
+--
+-- Los cambios que no dejan marca de tiempo en las filas se registran con triggers en sync_lector_evento:
+-- - cambios de asignacion de rutas del lector (ruta_empleado, incluidos borrados): la respuesta trae
+--   'resincronizar' y el servicio descarga la ruta completa;
+-- - contadores que cambian de ruta, se desactivan o se borran: se envian si quedaron en una ruta del lector
+--   y se reportan en 'eliminados' si salieron de ella;
+-- - lecturas borradas o desactivadas: se reenvia el contador con su nueva ultima lectura.
+
+CREATE TABLE IF NOT EXISTS public.sync_lector_evento (
+    id                           BIGSERIAL PRIMARY KEY,
+    id_persona                   INTEGER,
+    id_ruta                      INTEGER,
+    id_empresa_cliente_contador  INTEGER,
+    id_contador                  INTEGER,
+    fecha                        TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_lector_evento_persona ON public.sync_lector_evento (id_persona, fecha)
+    WHERE id_persona IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_sync_lector_evento_ruta ON public.sync_lector_evento (id_ruta, fecha)
+    WHERE id_ruta IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_sync_lector_evento_ecc ON public.sync_lector_evento (id_empresa_cliente_contador, fecha)
+    WHERE id_empresa_cliente_contador IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_sync_lector_evento_contador ON public.sync_lector_evento (id_contador, fecha)
+    WHERE id_contador IS NOT NULL;
+
+CREATE OR REPLACE FUNCTION public.sync_lector_evento_ruta_empleado() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        INSERT INTO public.sync_lector_evento (id_persona) VALUES (OLD.id_persona);
+    END IF;
+    IF TG_OP <> 'DELETE' AND (TG_OP = 'INSERT' OR NEW.id_persona IS DISTINCT FROM OLD.id_persona) THEN
+        INSERT INTO public.sync_lector_evento (id_persona) VALUES (NEW.id_persona);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_sync_lector_ruta_empleado ON public.ruta_empleado;
+CREATE TRIGGER trg_sync_lector_ruta_empleado
+    AFTER INSERT OR DELETE OR UPDATE OF id_persona, id_ruta, activo ON public.ruta_empleado
+    FOR EACH ROW EXECUTE FUNCTION public.sync_lector_evento_ruta_empleado();
+
+CREATE OR REPLACE FUNCTION public.sync_lector_evento_contador() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO public.sync_lector_evento (id_ruta, id_empresa_cliente_contador) VALUES (OLD.id_ruta, OLD.id);
+    IF TG_OP = 'UPDATE' AND NEW.id_ruta IS DISTINCT FROM OLD.id_ruta THEN
+        INSERT INTO public.sync_lector_evento (id_ruta, id_empresa_cliente_contador) VALUES (NEW.id_ruta, NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_sync_lector_contador ON public.empresa_cliente_contador;
+CREATE TRIGGER trg_sync_lector_contador
+    AFTER DELETE OR UPDATE OF id_ruta, activo ON public.empresa_cliente_contador
+    FOR EACH ROW EXECUTE FUNCTION public.sync_lector_evento_contador();
+
+CREATE OR REPLACE FUNCTION public.sync_lector_evento_lectura() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO public.sync_lector_evento (id_contador) VALUES (OLD.id_contador);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_sync_lector_lectura ON public.lectura;
+CREATE TRIGGER trg_sync_lector_lectura
+    AFTER DELETE OR UPDATE OF activo ON public.lectura
+    FOR EACH ROW EXECUTE FUNCTION public.sync_lector_evento_lectura();
+
+CREATE INDEX IF NOT EXISTS idx_empresa_cliente_contador_ruta
+    ON public.empresa_cliente_contador (id_ruta, id);
+
+CREATE INDEX IF NOT EXISTS idx_lectura_contador_fecha
+    ON public.lectura (id_contador, fecha_lectura DESC);
+
+CREATE OR REPLACE FUNCTION public.sync_lector_data_delta(p_id_persona INTEGER, p_desde TIMESTAMP,
+        p_ultimo_id INTEGER, p_limite INTEGER)
+RETURNS JSONB
+LANGUAGE sql
+STABLE
+AS $$
+WITH rutas AS (
+    SELECT re.id_ruta
+    FROM public.ruta_empleado re
+    WHERE re.id_persona = p_id_persona AND re.activo
+),
+cambios AS (
+    SELECT ecc.id,
+           jsonb_build_object(
+               'idEmpresaClienteContador', ecc.id,
+               'idEmpresa', ecc.id_empresa,
+               'activo', ecc.activo AND c.activo,
+               'cliente', jsonb_build_object('id', p.id, 'nombre', p.nombre, 'apellido', p.apellido),
+               'contador', jsonb_build_object('id', c.id, 'serial', c.serial),
+               'ultimaLectura', CASE WHEN l.id IS NULL THEN NULL ELSE jsonb_build_object(
+                   'id', l.id, 'lecturaActual', l.lectura_actual, 'fechaLectura', l.fecha_lectura) END
+           ) AS item
+    FROM public.empresa_cliente_contador ecc
+    JOIN rutas r ON r.id_ruta = ecc.id_ruta
+    JOIN public.contador c ON c.id = ecc.id_contador
+    JOIN public.persona p ON p.id = ecc.id_persona
+    LEFT JOIN LATERAL (
+        SELECT lec.id, lec.lectura_actual, lec.fecha_lectura,
+               COALESCE(lec.fecha_modificacion, lec.fecha_creacion) AS cambio
+        FROM public.lectura lec
+        WHERE lec.id_contador = ecc.id_contador AND lec.activo
+        ORDER BY lec.fecha_lectura DESC
+        LIMIT 1
+    ) l ON true
+    WHERE ecc.id > p_ultimo_id
+      AND (p_desde IS NULL
+           OR COALESCE(ecc.fecha_modificacion, ecc.fecha_creacion) > p_desde
+           OR COALESCE(c.fecha_modificacion, c.fecha_creacion) > p_desde
+           OR COALESCE(p.fecha_modificacion, p.fecha_creacion) > p_desde
+           OR l.cambio > p_desde
+           OR EXISTS (SELECT 1 FROM public.sync_lector_evento e
+                      WHERE e.id_empresa_cliente_contador = ecc.id AND e.fecha > p_desde)
+           OR EXISTS (SELECT 1 FROM public.sync_lector_evento e
+                      WHERE e.id_contador = ecc.id_contador AND e.fecha > p_desde))
+    ORDER BY ecc.id
+    LIMIT p_limite + 1
+)
+SELECT jsonb_build_object(
+    'resincronizar', p_desde IS NOT NULL AND (
+        EXISTS (SELECT 1 FROM public.sync_lector_evento e WHERE e.id_persona = p_id_persona AND e.fecha > p_desde)
+        OR EXISTS (SELECT 1 FROM public.ruta_empleado re WHERE re.id_persona = p_id_persona
+                   AND COALESCE(re.fecha_modificacion, re.fecha_creacion) > p_desde)),
+    'eliminados', CASE WHEN p_desde IS NULL OR p_ultimo_id > 0 THEN '[]'::jsonb ELSE COALESCE((
+        SELECT jsonb_agg(DISTINCT e.id_empresa_cliente_contador)
+        FROM public.sync_lector_evento e
+        JOIN rutas r ON r.id_ruta = e.id_ruta
+        WHERE e.fecha > p_desde
+          AND e.id_empresa_cliente_contador IS NOT NULL
+          AND NOT EXISTS (SELECT 1 FROM public.empresa_cliente_contador ecc
+                          JOIN rutas ra ON ra.id_ruta = ecc.id_ruta
+                          WHERE ecc.id = e.id_empresa_cliente_contador)
+    ), '[]'::jsonb) END,
+    'items', COALESCE((SELECT jsonb_agg(item ORDER BY id) FROM (SELECT id, item FROM cambios ORDER BY id LIMIT p_limite) pagina), '[]'::jsonb),
+    'ultimoId', (SELECT max(id) FROM (SELECT id FROM cambios ORDER BY id LIMIT p_limite) pagina),
+    'hayMas', (SELECT count(*) > p_limite FROM cambios),
+    'tarifas', CASE WHEN p_ultimo_id > 0 THEN '[]'::jsonb ELSE COALESCE((
+        SELECT jsonb_agg(to_jsonb(t))
+        FROM public.tarifa t
+        WHERE t.id_empresa IN (SELECT DISTINCT ecc.id_empresa
+                               FROM public.empresa_cliente_contador ecc
+                               JOIN rutas r ON r.id_ruta = ecc.id_ruta)
+          AND (p_desde IS NULL OR COALESCE(t.fecha_modificacion, t.fecha_creacion) > p_desde)
+    ), '[]'::jsonb) END
+);
+$$;
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS public.token_revocado (
+    jti              VARCHAR(64) PRIMARY KEY,
+    fecha_expiracion TIMESTAMP   NOT NULL,
+    fecha_revocacion TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_revocado_fecha_revocacion ON public.token_revocado (fecha_revocacion);
+CREATE INDEX IF NOT EXISTS idx_token_revocado_fecha_expiracion ON public.token_revocado (fecha_expiracion);
@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS public.usuario_imagen (
+    id_usuario         INTEGER      PRIMARY KEY REFERENCES public.usuario (id) ON DELETE CASCADE,
+    hash               VARCHAR(64)  NOT NULL,
+    tipo_contenido     VARCHAR(100) NOT NULL,
+    tamano             BIGINT       NOT NULL,
+    imagen             BYTEA        NOT NULL,
+    miniatura          BYTEA        NOT NULL,
+    tipo_miniatura     VARCHAR(100) NOT NULL,
+    usuario_creacion   VARCHAR(100),
+    fecha_creacion     TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- Los BYTEA grandes se guardan fuera de linea (TOAST) sin compresion: las imagenes ya vienen comprimidas
+-- y asi substring() solo lee los bloques del rango pedido.
+ALTER TABLE public.usuario_imagen ALTER COLUMN imagen SET STORAGE EXTERNAL;
+
+-- Migracion de las imagenes guardadas en la fila del usuario. Hasta que el usuario cargue una nueva imagen
+-- la miniatura es la misma imagen original.
+INSERT INTO public.usuario_imagen (id_usuario, hash, tipo_contenido, tamano, imagen, miniatura, tipo_miniatura,
+                                   usuario_creacion)
+SELECT u.id, encode(sha256(u.imagen), 'hex'), t.tipo, octet_length(u.imagen), u.imagen, u.imagen, t.tipo, 'migracion'
+FROM public.usuario u
+CROSS JOIN LATERAL (SELECT CASE WHEN substring(u.imagen FROM 1 FOR 3) = '\xffd8ff'::bytea THEN 'image/jpeg'
+            WHEN substring(u.imagen FROM 1 FOR 8) = '\x89504e470d0a1a0a'::bytea THEN 'image/png'
+            WHEN substring(u.imagen FROM 1 FOR 4) = '\x47494638'::bytea THEN 'image/gif'
+            ELSE 'application/octet-stream' END AS tipo) t
+WHERE u.imagen IS NOT NULL
+ON CONFLICT (id_usuario) DO NOTHING;
+
+UPDATE public.usuario SET imagen = NULL WHERE imagen IS NOT NULL;
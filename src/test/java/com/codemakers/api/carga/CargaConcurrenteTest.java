@@ -0,0 +1,112 @@
+package com.codemakers.api.carga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Prueba de carga contra una instancia ya levantada, para comparar el modo de hilos de plataforma con el de
+ * hilos virtuales ({@code HILOS_VIRTUALES=false} y {@code =true}) con la misma base de datos y el mismo pool.
+ * Solo corre si se indica la URL:
+ *
+ * <pre>
+ * ./mvnw test -Dtest=CargaConcurrenteTest -Dcarga.url=http://localhost:8080/api/... \
+ *     -Dcarga.token=... -Dcarga.conexiones=1000 -Dcarga.segundos=60
+ * </pre>
+ *
+ * El token va en la cabecera {@code token} con prefijo {@code Bearer}, que es la que lee
+ * {@code JwtAuthenticationFilter}; sin ella todas las peticiones protegidas terminan en 401 y se cuentan como errores.
+ * Cada conexion es un cliente que repite la peticion sin pausa durante el tiempo indicado. Al final se imprimen
+ * el rendimiento, las latencias p50/p95/p99 y los errores (respuestas distintas de 2xx y excepciones, incluidos los
+ * rechazos por {@code connection-timeout} del pool).
+ */
+@EnabledIfSystemProperty(named = "carga.url", matches = ".+")
+class CargaConcurrenteTest {
+
+	@Test
+	void rendimientoConConexionesConcurrentes() throws Exception {
+		URI url = URI.create(System.getProperty("carga.url"));
+		String token = System.getProperty("carga.token");
+		int conexiones = Integer.getInteger("carga.conexiones", 1000);
+		Duration duracion = Duration.ofSeconds(Integer.getInteger("carga.segundos", 60));
+
+		HttpRequest.Builder peticion = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(30)).GET();
+		if (token != null && !token.isBlank()) {
+			peticion.header("token", "Bearer " + token);
+		}
+		HttpRequest solicitud = peticion.build();
+
+		AtomicLong errores = new AtomicLong();
+		CountDownLatch salida = new CountDownLatch(1);
+		List<Future<long[]>> clientes = new ArrayList<>(conexiones);
+		long inicio;
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+				HttpClient cliente = HttpClient.newBuilder().executor(executor)
+						.version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(10)).build()) {
+			for (int i = 0; i < conexiones; i++) {
+				clientes.add(executor.submit(() -> {
+					salida.await();
+					long fin = System.nanoTime() + duracion.toNanos();
+					long[] latencias = new long[1024];
+					int total = 0;
+					while (System.nanoTime() < fin) {
+						long antes = System.nanoTime();
+						try {
+							HttpResponse<Void> respuesta = cliente.send(solicitud, HttpResponse.BodyHandlers.discarding());
+							if (respuesta.statusCode() / 100 != 2) {
+								errores.incrementAndGet();
+								continue;
+							}
+						} catch (Exception e) {
+							errores.incrementAndGet();
+							continue;
+						}
+						if (total == latencias.length) {
+							latencias = Arrays.copyOf(latencias, total * 2);
+						}
+						latencias[total++] = System.nanoTime() - antes;
+					}
+					return Arrays.copyOf(latencias, total);
+				}));
+			}
+			inicio = System.nanoTime();
+			salida.countDown();
+
+			List<long[]> resultados = new ArrayList<>(conexiones);
+			for (Future<long[]> futuro : clientes) {
+				resultados.add(futuro.get());
+			}
+			double segundos = (System.nanoTime() - inicio) / 1e9;
+			long[] todas = resultados.stream().flatMapToLong(Arrays::stream).toArray();
+			Arrays.sort(todas);
+
+			System.out.printf("conexiones=%d duracion=%.1fs exitosas=%d errores=%d rendimiento=%.1f req/s "
+					+ "p50=%.1fms p95=%.1fms p99=%.1fms%n", conexiones, segundos, todas.length, errores.get(),
+					todas.length / segundos, percentil(todas, 0.50), percentil(todas, 0.95), percentil(todas, 0.99));
+			assertThat(todas).isNotEmpty();
+		}
+	}
+
+	private static double percentil(long[] ordenadas, double percentil) {
+		if (ordenadas.length == 0) {
+			return 0;
+		}
+		int indice = (int) Math.min(ordenadas.length - 1, Math.ceil(percentil * ordenadas.length) - 1);
+		return ordenadas[Math.max(0, indice)] / 1e6;
+	}
+}
@@ -0,0 +1,51 @@
+package com.codemakers.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Verifica que {@code spring.datasource.hikari.*} llega al pool del DataSource de commons aunque la
+ * autoconfiguracion de DataSource este excluida.
+ */
+class PoolConexionesConfigTest {
+
+	private static final Binder BINDER = new Binder(new MapConfigurationPropertySource(Map.of(
+			"spring.datasource.hikari.auto-commit", "false",
+			"spring.datasource.hikari.maximum-pool-size", "20",
+			"spring.datasource.hikari.minimum-idle", "20",
+			"spring.datasource.hikari.connection-timeout", "5000")));
+
+	@Test
+	void poolSinIniciarRecibeTodaLaConfiguracion() {
+		try (HikariDataSource pool = new HikariDataSource()) {
+			pool.setJdbcUrl("jdbc:postgresql://localhost:5432/db_acueductos");
+
+			PoolConexionesConfig.aplicar(BINDER, pool, "dataSource");
+
+			assertThat(pool.isAutoCommit()).isFalse();
+			assertThat(pool.getMaximumPoolSize()).isEqualTo(20);
+			assertThat(pool.getMinimumIdle()).isEqualTo(20);
+			assertThat(pool.getConnectionTimeout()).isEqualTo(5000);
+			assertThat(pool.getJdbcUrl()).isEqualTo("jdbc:postgresql://localhost:5432/db_acueductos");
+		}
+	}
+
+	@Test
+	void poolSinPropiedadesConservaSuConfiguracion() {
+		try (HikariDataSource pool = new HikariDataSource()) {
+			pool.setMaximumPoolSize(7);
+
+			PoolConexionesConfig.aplicar(new Binder(new MapConfigurationPropertySource()), pool, "dataSource");
+
+			assertThat(pool.getMaximumPoolSize()).isEqualTo(7);
+			assertThat(pool.isAutoCommit()).isTrue();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.codemakers.api.configs.security.utils;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.codemakers.api.configs.security.revocation.InMemoryTokenRevocationStore;
+import com.codemakers.api.utils.EncriptarDesencriptar;
+import com.codemakers.commons.entities.ParametrosSistemaEntity;
+import com.codemakers.commons.repositories.ParametrosSistemaRepository;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Compara la validacion de un token por peticion en {@code JwtAuthenticationFilter}: el camino anterior
+ * (usuario del token y luego {@code validateToken(token, userDetails)}, tres parseos con verificacion de firma)
+ * contra {@link JwtUtil#validateToken(String)}, que verifica firma, vigencia y revocacion en un solo parseo.
+ * Solo corre a pedido:
+ *
+ * <pre>
+ * ./mvnw test -Dtest=JwtValidacionBenchmark -Djmh=true
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidacionBenchmark {
+
+	private static final String LLAVE_CIFRADO = "keyacuaplus";
+
+	private JwtUtil jwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		byte[] llave = new byte[64];
+		new SecureRandom().nextBytes(llave);
+		EncriptarDesencriptar encriptador = new EncriptarDesencriptar(LLAVE_CIFRADO, 4);
+
+		ParametrosSistemaEntity parametro = mock(ParametrosSistemaEntity.class);
+		when(parametro.getValorParametro()).thenReturn(encriptador.encriptar(Base64.getEncoder().encodeToString(llave)));
+		ParametrosSistemaRepository repositorio = mock(ParametrosSistemaRepository.class);
+		when(repositorio.findByLlave(anyString())).thenReturn(Optional.of(parametro));
+
+		JwtKeyProvider keyProvider = new JwtKeyProvider(repositorio, encriptador, 300);
+		jwtUtil = new JwtUtil(repositorio, keyProvider, new InMemoryTokenRevocationStore(1000));
+		token = Jwts.builder()
+				.setClaims(TokenClaims.identityClaims(1, 2, 3, 4))
+				.setId(UUID.randomUUID().toString())
+				.setSubject("usuario@prueba.com")
+				.setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+				.signWith(keyProvider.getSigningKey(), JwtKeyProvider.ALGORITHM)
+				.compact();
+	}
+
+	@Benchmark
+	public boolean tresParseos() {
+		String usuario = jwtUtil.getUsernameFromToken(token);
+		return jwtUtil.getUsernameFromToken(token).equals(usuario)
+				&& !jwtUtil.getExpirationDateFromToken(token).before(new Date());
+	}
+
+	@Benchmark
+	public Optional<TokenClaims> unParseo() {
+		return jwtUtil.validateToken(token);
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "jmh", matches = "true")
+	void ejecutar() throws RunnerException {
+		new Runner(new OptionsBuilder().include(JwtValidacionBenchmark.class.getName()).build()).run();
+	}
+}
@@ -0,0 +1,282 @@
+package com.codemakers.api.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.codemakers.api.configs.sql.EstadisticaSql;
+import com.codemakers.api.service.IEmpresaClienteContadorService;
+import com.codemakers.api.service.IFacturaService;
+import com.codemakers.api.service.IInventarioService;
+import com.codemakers.api.service.IPatrimonioService;
+import com.codemakers.api.service.IProductoService;
+import com.codemakers.api.support.PresupuestoSql;
+import com.codemakers.commons.dtos.ResponseDTO;
+import com.codemakers.commons.entities.ContadorEntity;
+import com.codemakers.commons.entities.EmpresaClienteContadorEntity;
+import com.codemakers.commons.entities.EmpresaEntity;
+import com.codemakers.commons.entities.EstadoEntity;
+import com.codemakers.commons.entities.FacturaEntity;
+import com.codemakers.commons.entities.InventarioEntity;
+import com.codemakers.commons.entities.LecturaEntity;
+import com.codemakers.commons.entities.PatrimonioEntity;
+import com.codemakers.commons.entities.PersonaEntity;
+import com.codemakers.commons.entities.ProductoEntity;
+import com.codemakers.commons.entities.TarifaEntity;
+import com.codemakers.commons.entities.TipoContadorEntity;
+import com.codemakers.commons.entities.TipoPagoEntity;
+import com.codemakers.commons.repositories.ContadorRepository;
+import com.codemakers.commons.repositories.EmpresaClienteContadorRepository;
+import com.codemakers.commons.repositories.EmpresaRepository;
+import com.codemakers.commons.repositories.EstadoRepository;
+import com.codemakers.commons.repositories.FacturaRepository;
+import com.codemakers.commons.repositories.InventarioRepository;
+import com.codemakers.commons.repositories.LecturaRepository;
+import com.codemakers.commons.repositories.PatrimonioRepository;
+import com.codemakers.commons.repositories.PersonaRepository;
+import com.codemakers.commons.repositories.ProductoRepository;
+import com.codemakers.commons.repositories.TarifaRepository;
+import com.codemakers.commons.repositories.TipoContadorRepository;
+import com.codemakers.commons.repositories.TipoPagoRepository;
+
+/**
+ * Presupuesto de sentencias SQL de los listados por empresa, medido sobre el servicio completo (consulta y mapper).
+ * Cada listado se ejecuta para una empresa con {@value #POCAS} filas y otra con {@value #MUCHAS}: las dos deben
+ * quedar dentro del mismo presupuesto fijo de {@value #PRESUPUESTO} sentencias y ejecutar exactamente las mismas,
+ * es decir, el numero de sentencias no depende de las filas. Cada fila tiene su propio cliente, contador, lectura y
+ * producto, que es donde aparece el N+1; los catalogos (tipo de contador, tarifa, estado) se comparten.
+ * Las tareas programadas se apagan porque el esquema create-drop no tiene sus tablas.
+ */
+@SpringBootTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConsultaEmpresaRepositoryTest {
+
+	private static final int POCAS = 20;
+	private static final int MUCHAS = 250;
+	private static final int PRESUPUESTO = 6;
+	private static final String USUARIO = "prueba";
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void propiedades(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+		registry.add("programacion.habilitado", () -> "false");
+		registry.add("catalogo.cache.notify.enabled", () -> "false");
+	}
+
+	@Autowired
+	private IPatrimonioService patrimonioService;
+
+	@Autowired
+	private IProductoService productoService;
+
+	@Autowired
+	private IFacturaService facturaService;
+
+	@Autowired
+	private IInventarioService inventarioService;
+
+	@Autowired
+	private IEmpresaClienteContadorService empresaClienteContadorService;
+
+	@Autowired
+	private EmpresaRepository empresaRepository;
+
+	@Autowired
+	private PatrimonioRepository patrimonioRepository;
+
+	@Autowired
+	private ProductoRepository productoRepository;
+
+	@Autowired
+	private InventarioRepository inventarioRepository;
+
+	@Autowired
+	private PersonaRepository personaRepository;
+
+	@Autowired
+	private TipoContadorRepository tipoContadorRepository;
+
+	@Autowired
+	private ContadorRepository contadorRepository;
+
+	@Autowired
+	private EmpresaClienteContadorRepository empresaClienteContadorRepository;
+
+	@Autowired
+	private LecturaRepository lecturaRepository;
+
+	@Autowired
+	private TarifaRepository tarifaRepository;
+
+	@Autowired
+	private TipoPagoRepository tipoPagoRepository;
+
+	@Autowired
+	private EstadoRepository estadoRepository;
+
+	@Autowired
+	private FacturaRepository facturaRepository;
+
+	private Integer empresaPocas;
+	private Integer empresaMuchas;
+
+	@BeforeAll
+	void setUp() {
+		empresaPocas = sembrar(POCAS);
+		empresaMuchas = sembrar(MUCHAS);
+	}
+
+	@Test
+	void patrimonioPorEmpresaConPresupuestoFijo() {
+		presupuestoFijo(id -> patrimonioService.findByEnterpriseId(id));
+	}
+
+	@Test
+	void productosPorEmpresaConPresupuestoFijo() {
+		presupuestoFijo(id -> productoService.findByEnterpriseId(id));
+	}
+
+	@Test
+	void inventarioPorEmpresaConPresupuestoFijo() {
+		presupuestoFijo(id -> inventarioService.findByEnterpriseId(id));
+	}
+
+	@Test
+	void clientesContadorPorEmpresaConPresupuestoFijo() {
+		presupuestoFijo(id -> empresaClienteContadorService.findByEmpresaId(id));
+	}
+
+	@Test
+	void facturasPorEmpresaConPresupuestoFijo() {
+		presupuestoFijo(id -> facturaService.findByEnterpriseId(id));
+	}
+
+	private void presupuestoFijo(IntFunction<ResponseEntity<ResponseDTO>> listado) {
+		EstadisticaSql pocas = PresupuestoSql.dentroDe(PRESUPUESTO,
+				() -> assertThat(listado.apply(empresaPocas).getStatusCode()).isEqualTo(HttpStatus.OK));
+		EstadisticaSql muchas = PresupuestoSql.dentroDe(PRESUPUESTO,
+				() -> assertThat(listado.apply(empresaMuchas).getStatusCode()).isEqualTo(HttpStatus.OK));
+
+		assertThat(muchas.getSentencias()).isEqualTo(pocas.getSentencias());
+		assertThat(muchas.getFilas()).isGreaterThanOrEqualTo(MUCHAS);
+	}
+
+	private Integer sembrar(int filas) {
+		EmpresaEntity empresa = new EmpresaEntity();
+		empresa.setActivo(true);
+		empresa.setFechaCreacion(new Date());
+		empresa.setUsuarioCreacion(USUARIO);
+		empresa = empresaRepository.save(empresa);
+
+		TipoContadorEntity tipoContador = new TipoContadorEntity();
+		tipoContador.setActivo(true);
+		tipoContador.setFechaCreacion(new Date());
+		tipoContador.setUsuarioCreacion(USUARIO);
+		tipoContador = tipoContadorRepository.save(tipoContador);
+
+		TarifaEntity tarifa = new TarifaEntity();
+		tarifa.setEmpresa(empresa);
+		tarifa.setActivo(true);
+		tarifa.setFechaCreacion(new Date());
+		tarifa.setUsuarioCreacion(USUARIO);
+		tarifa = tarifaRepository.save(tarifa);
+
+		TipoPagoEntity tipoPago = new TipoPagoEntity();
+		tipoPago.setActivo(true);
+		tipoPago.setFechaCreacion(new Date());
+		tipoPago.setUsuarioCreacion(USUARIO);
+		tipoPago = tipoPagoRepository.save(tipoPago);
+
+		EstadoEntity estado = new EstadoEntity();
+		estado.setActivo(true);
+		estado.setFechaCreacion(new Date());
+		estado.setUsuarioCreacion(USUARIO);
+		estado = estadoRepository.save(estado);
+
+		for (int i = 0; i < filas; i++) {
+			PatrimonioEntity bien = new PatrimonioEntity();
+			bien.setEmpresa(empresa);
+			bien.setActivo(true);
+			bien.setFechaCreacion(new Date());
+			bien.setUsuarioCreacion(USUARIO);
+			patrimonioRepository.save(bien);
+
+			ProductoEntity producto = new ProductoEntity();
+			producto.setEmpresa(empresa);
+			producto.setActivo(true);
+			producto.setFechaCreacion(new Date());
+			producto.setUsuarioCreacion(USUARIO);
+			producto = productoRepository.save(producto);
+
+			InventarioEntity inventario = new InventarioEntity();
+			inventario.setProducto(producto);
+			inventario.setActivo(true);
+			inventario.setFechaCreacion(new Date());
+			inventario.setUsuarioCreacion(USUARIO);
+			inventarioRepository.save(inventario);
+
+			PersonaEntity cliente = new PersonaEntity();
+			cliente.setActivo(true);
+			cliente.setFechaCreacion(new Date());
+			cliente.setUsuarioCreacion(USUARIO);
+			cliente = personaRepository.save(cliente);
+
+			ContadorEntity contador = new ContadorEntity();
+			contador.setCliente(cliente);
+			contador.setTipoContador(tipoContador);
+			contador.setActivo(true);
+			contador.setFechaCreacion(new Date());
+			contador.setUsuarioCreacion(USUARIO);
+			contador = contadorRepository.save(contador);
+
+			EmpresaClienteContadorEntity ecc = new EmpresaClienteContadorEntity();
+			ecc.setEmpresa(empresa);
+			ecc.setCliente(cliente);
+			ecc.setContador(contador);
+			ecc.setActivo(true);
+			ecc.setFechaCreacion(new Date());
+			ecc.setUsuarioCreacion(USUARIO);
+			ecc = empresaClienteContadorRepository.save(ecc);
+
+			LecturaEntity lectura = new LecturaEntity();
+			lectura.setContador(contador);
+			lectura.setActivo(true);
+			lectura.setFechaCreacion(new Date());
+			lectura.setUsuarioCreacion(USUARIO);
+			lectura = lecturaRepository.save(lectura);
+
+			FacturaEntity factura = new FacturaEntity();
+			factura.setEmpresaClienteContador(ecc);
+			factura.setLectura(lectura);
+			factura.setTarifa(tarifa);
+			factura.setTipoPago(tipoPago);
+			factura.setEstado(estado);
+			factura.setActivo(true);
+			factura.setFechaCreacion(new Date());
+			factura.setUsuarioCreacion(USUARIO);
+			facturaRepository.save(factura);
+		}
+		return empresa.getId();
+	}
+}
@@ -0,0 +1,187 @@
+package com.codemakers.api.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.codemakers.api.dtos.AbonoLoteItemDTO;
+import com.codemakers.api.utils.Dinero;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Pruebas de concurrencia de la aplicacion de abonos contra PostgreSQL real.
+ * Muchos hilos abonan a la misma deuda a la vez: el saldo nunca queda negativo, no se pierden
+ * actualizaciones y cada abono aplicado queda registrado una sola vez.
+ */
+@Testcontainers
+@SpringJUnitConfig(PagoDeudaRepositoryTest.Config.class)
+class PagoDeudaRepositoryTest {
+
+	private static final int HILOS = 32;
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private PagoDeudaRepository pagoDeudaRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS public.abono, public.deuda_cliente");
+		jdbcTemplate.execute("CREATE TABLE public.deuda_cliente (id SERIAL PRIMARY KEY, valor NUMERIC(14, 2) NOT NULL, "
+				+ "fecha_modificacion TIMESTAMP, usuario_modificacion VARCHAR(100), activo BOOLEAN DEFAULT true)");
+		jdbcTemplate.execute("CREATE TABLE public.abono (id SERIAL PRIMARY KEY, id_deuda_cliente INTEGER NOT NULL, "
+				+ "valor NUMERIC(14, 2) NOT NULL, usuario_creacion VARCHAR(100), fecha_creacion TIMESTAMP, activo BOOLEAN)");
+	}
+
+	@Test
+	void aplicarConcurrenteNoDejaSaldoNegativo() throws Exception {
+		Integer idDeuda = deuda("100.00");
+
+		List<Boolean> resultados = enParalelo(HILOS * 2,
+				() -> pagoDeudaRepository.aplicar(idDeuda, Dinero.de("7.00"), "prueba").isPresent());
+
+		assertThat(resultados.stream().filter(Boolean::booleanValue).count()).isEqualTo(14);
+		assertThat(saldo(idDeuda)).isEqualByComparingTo("2.00");
+	}
+
+	@Test
+	void aplicarLoteConcurrenteRegistraUnAbonoPorDescuento() throws Exception {
+		Integer idDeuda = deuda("100.00");
+
+		List<Boolean> resultados = enParalelo(HILOS * 2, () -> pagoDeudaRepository.aplicarLote(List.of(
+				abono(idDeuda, "10.00")))[0]);
+
+		assertThat(resultados.stream().filter(Boolean::booleanValue).count()).isEqualTo(10);
+		assertThat(saldo(idDeuda)).isEqualByComparingTo("0.00");
+		assertThat(abonos(idDeuda)).isEqualTo(10);
+		assertThat(jdbcTemplate.queryForObject("SELECT sum(valor) FROM public.abono WHERE id_deuda_cliente = ?",
+				BigDecimal.class, idDeuda)).isEqualByComparingTo("100.00");
+	}
+
+	@Test
+	void lotesCruzadosSobreVariasDeudasNoSeBloquean() throws Exception {
+		Integer primera = deuda("500.00");
+		Integer segunda = deuda("500.00");
+
+		List<Boolean> resultados = enParalelo(HILOS, () -> {
+			boolean[] aplicados = pagoDeudaRepository.aplicarLote(List.of(
+					abono(segunda, "5.00"), abono(primera, "5.00"), abono(segunda, "5.00")));
+			return aplicados[0] && aplicados[1] && aplicados[2];
+		});
+
+		assertThat(resultados).containsOnly(true);
+		assertThat(saldo(primera)).isEqualByComparingTo("340.00");
+		assertThat(saldo(segunda)).isEqualByComparingTo("180.00");
+		assertThat(abonos(primera)).isEqualTo(HILOS);
+		assertThat(abonos(segunda)).isEqualTo(HILOS * 2);
+	}
+
+	private Integer deuda(String valor) {
+		return jdbcTemplate.queryForObject("INSERT INTO public.deuda_cliente (valor) VALUES (?) RETURNING id",
+				Integer.class, new BigDecimal(valor));
+	}
+
+	private BigDecimal saldo(Integer idDeuda) {
+		return jdbcTemplate.queryForObject("SELECT valor FROM public.deuda_cliente WHERE id = ?", BigDecimal.class,
+				idDeuda);
+	}
+
+	private int abonos(Integer idDeuda) {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM public.abono WHERE id_deuda_cliente = ?",
+				Integer.class, idDeuda);
+	}
+
+	private static AbonoLoteItemDTO abono(Integer idDeuda, String valor) {
+		return AbonoLoteItemDTO.builder()
+				.idDeudaCliente(idDeuda)
+				.valor(Dinero.de(valor))
+				.usuarioCreacion("prueba")
+				.build();
+	}
+
+	/**
+	 * Ejecuta la tarea en {@code veces} hilos que arrancan a la vez.
+	 */
+	private static <T> List<T> enParalelo(int veces, Callable<T> tarea) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+		CountDownLatch salida = new CountDownLatch(1);
+		try {
+			List<Future<T>> futuros = new ArrayList<>(veces);
+			for (int i = 0; i < veces; i++) {
+				futuros.add(executor.submit(() -> {
+					salida.await();
+					return tarea.call();
+				}));
+			}
+			salida.countDown();
+			List<T> resultados = new ArrayList<>(veces);
+			for (Future<T> futuro : futuros) {
+				resultados.add(futuro.get(30, TimeUnit.SECONDS));
+			}
+			return resultados;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@Import(PagoDeudaRepository.class)
+	static class Config {
+
+		@Bean
+		DataSource dataSource() {
+			HikariDataSource dataSource = new HikariDataSource();
+			dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+			dataSource.setUsername(POSTGRES.getUsername());
+			dataSource.setPassword(POSTGRES.getPassword());
+			dataSource.setMaximumPoolSize(HILOS);
+			return dataSource;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(DataSource dataSource) {
+			return new DataSourceTransactionManager(dataSource);
+		}
+
+		@Bean
+		JdbcTemplate jdbcTemplate(DataSource dataSource) {
+			return new JdbcTemplate(dataSource);
+		}
+
+		@Bean
+		NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+			return new NamedParameterJdbcTemplate(dataSource);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.codemakers.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.codemakers.api.persistence.CorreoSalienteRepository;
+import com.codemakers.api.persistence.CorreoSalienteRepository.CorreoSaliente;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Pruebas del envio de la bandeja de salida contra un servidor SMTP en proceso (GreenMail).
+ * El repositorio se simula: lo que se valida es el envio real por SMTP y el estado que se registra.
+ */
+class EmailServiceImplTest {
+
+	@RegisterExtension
+	static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final CorreoSalienteRepository repository = mock(CorreoSalienteRepository.class);
+	private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+	@BeforeEach
+	void setUp() {
+		executor.setCorePoolSize(2);
+		executor.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void enviarPendientesEntregaElLoteYLoMarcaEnviado() throws Exception {
+		when(repository.reclamar(anyInt(), anyInt())).thenReturn(List.of(
+				new CorreoSaliente(1L, "uno@acueducto.test", "Activacion", "<p>Enlace uno</p>", 1),
+				new CorreoSaliente(2L, "dos@acueducto.test", "Recuperacion", "<p>Enlace dos</p>", 1)));
+
+		servicio(GREEN_MAIL.getSmtp().getPort()).enviarPendientes();
+
+		MimeMessage[] recibidos = GREEN_MAIL.getReceivedMessages();
+		assertThat(recibidos).hasSize(2);
+		assertThat(recibidos).extracting(MimeMessage::getSubject).containsExactlyInAnyOrder("Activacion", "Recuperacion");
+		assertThat(GreenMailUtil.getBody(recibidos[0])).contains("Enlace");
+		verify(repository).marcarEnviados(List.of(1L, 2L));
+		verify(repository, never()).reintentar(anyLong(), anyLong(), anyString());
+	}
+
+	@Test
+	void enviarPendientesSinServidorReintentaOMarcaFallido() throws Exception {
+		when(repository.reclamar(anyInt(), anyInt())).thenReturn(List.of(
+				new CorreoSaliente(1L, "uno@acueducto.test", "Activacion", "<p>Enlace uno</p>", 1),
+				new CorreoSaliente(2L, "dos@acueducto.test", "Recuperacion", "<p>Enlace dos</p>", 6)));
+
+		servicio(puertoCerrado()).enviarPendientes();
+
+		verify(repository).reintentar(eq(1L), eq(30L), anyString());
+		verify(repository).marcarFallido(eq(2L), anyString());
+		verify(repository).marcarEnviados(List.of());
+		assertThat(GREEN_MAIL.getReceivedMessages()).isEmpty();
+	}
+
+	private EmailServiceImpl servicio(int puerto) {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(puerto);
+		mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+		EmailServiceImpl servicio = new EmailServiceImpl(mailSender, repository, executor);
+		ReflectionTestUtils.setField(servicio, "tamanoLote", 50);
+		ReflectionTestUtils.setField(servicio, "hilos", 2);
+		ReflectionTestUtils.setField(servicio, "leaseSegundos", 300);
+		ReflectionTestUtils.setField(servicio, "maxIntentos", 6);
+		ReflectionTestUtils.setField(servicio, "esperaBaseSegundos", 30L);
+		ReflectionTestUtils.setField(servicio, "esperaMaximaSegundos", 3600L);
+		return servicio;
+	}
+
+	private static int puertoCerrado() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
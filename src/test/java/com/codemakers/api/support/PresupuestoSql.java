@@ -0,0 +1,83 @@
+package com.codemakers.api.support;
+
+import java.util.Map;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.codemakers.api.configs.sql.EstadisticaSql;
+import com.codemakers.api.configs.sql.PresupuestoSqlResponseAdvice;
+
+/**
+ * @version 1.0
+ * Utilidades para validar en pruebas de integracion el presupuesto de sentencias SQL de un endpoint o servicio.
+ * <pre>
+ * mockMvc.perform(get("/api/v1/Lectura/1")).andExpect(PresupuestoSql.maximo(3)).andExpect(PresupuestoSql.sinRepetidas());
+ * PresupuestoSql.dentroDe(2, () -> lecturaService.save(lectura));
+ * </pre>
+ */
+public final class PresupuestoSql {
+
+	private static final int UMBRAL_REPETICIONES = 5;
+
+	private PresupuestoSql() {
+	}
+
+	/**
+	 * Metodo encargado de validar que la respuesta no ejecuto mas sentencias que las permitidas
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param sentencias
+	 * @return Devuelve el validador de la respuesta
+	 */
+	public static ResultMatcher maximo(int sentencias) {
+		return result -> {
+			int ejecutadas = cabecera(result.getResponse().getHeader(PresupuestoSqlResponseAdvice.CABECERA_SENTENCIAS));
+			if (ejecutadas > sentencias) {
+				throw new AssertionError("Se ejecutaron " + ejecutadas + " sentencias SQL, el presupuesto es " + sentencias);
+			}
+		};
+	}
+
+	/**
+	 * Metodo encargado de validar que la respuesta no tuvo formas de sentencia repetidas (N+1)
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @return Devuelve el validador de la respuesta
+	 */
+	public static ResultMatcher sinRepetidas() {
+		return result -> {
+			int repetidas = cabecera(result.getResponse().getHeader(PresupuestoSqlResponseAdvice.CABECERA_REPETIDAS));
+			if (repetidas > 0) {
+				throw new AssertionError("La respuesta tiene " + repetidas + " sentencias SQL repetidas (posible N+1)");
+			}
+		};
+	}
+
+	/**
+	 * Metodo encargado de ejecutar un bloque y validar su presupuesto de sentencias y que no tenga N+1
+	 * @since 18-10-2026
+	 * @version 1.0
+	 * @param sentencias
+	 * @param accion
+	 * @return Devuelve la estadistica del bloque
+	 */
+	public static EstadisticaSql dentroDe(int sentencias, Runnable accion) {
+		EstadisticaSql estadistica = EstadisticaSql.medir(accion);
+		if (estadistica.getSentencias() > sentencias) {
+			throw new AssertionError("Se ejecutaron " + estadistica.getSentencias()
+					+ " sentencias SQL, el presupuesto es " + sentencias);
+		}
+		Map<String, Integer> repetidas = estadistica.repetidas(UMBRAL_REPETICIONES);
+		if (!repetidas.isEmpty()) {
+			throw new AssertionError("Sentencias SQL repetidas (posible N+1): " + repetidas);
+		}
+		return estadistica;
+	}
+
+	private static int cabecera(String valor) {
+		if (valor == null) {
+			throw new AssertionError("La respuesta no trae el conteo SQL; verifique que el perfil no sea prod");
+		}
+		return Integer.parseInt(valor);
+	}
+}
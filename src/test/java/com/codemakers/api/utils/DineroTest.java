@@ -0,0 +1,46 @@
+package com.codemakers.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.codemakers.api.dtos.AbonoLoteItemDTO;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Verifica que los montos que envia un cliente no se redondean: 10.005 se rechaza en lugar de quedar en 10.00.
+ */
+class DineroTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void exactoAceptaHastaDosDecimales() {
+		assertThat(Dinero.exacto(new BigDecimal("10.5")).getCentavos()).isEqualTo(1050);
+		assertThat(Dinero.exacto(new BigDecimal("10.500")).getCentavos()).isEqualTo(1050);
+		assertThat(Dinero.exacto(10.01).getCentavos()).isEqualTo(1001);
+	}
+
+	@Test
+	void exactoRechazaMasDeDosDecimales() {
+		assertThatThrownBy(() -> Dinero.exacto(new BigDecimal("10.005"))).isInstanceOf(ArithmeticException.class);
+		assertThatThrownBy(() -> Dinero.exacto(10.005)).isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	void deSigueRedondeandoValoresInternos() {
+		assertThat(Dinero.de(new BigDecimal("10.005")).getCentavos()).isEqualTo(1000);
+	}
+
+	@Test
+	void jsonConMasDeDosDecimalesNoSeDeserializa() throws Exception {
+		assertThat(objectMapper.readValue("{\"valor\": 10.50}", AbonoLoteItemDTO.class).getValor())
+				.isEqualTo(Dinero.deCentavos(1050));
+		assertThatThrownBy(() -> objectMapper.readValue("{\"valor\": 10.005}", AbonoLoteItemDTO.class))
+				.isInstanceOf(JsonMappingException.class);
+	}
+}
@@ -0,0 +1,90 @@
+package com.codemakers.api.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compara el cifrado 3DES con llave derivada una vez y {@link Cipher} reutilizados desde el pool
+ * ({@link EncriptarDesencriptar}) contra el esquema anterior, que derivaba la llave y creaba e inicializaba un
+ * {@link Cipher} en cada llamada. Cada operacion es un cifrado y su descifrado. Corre con varios hilos a la vez
+ * para medir tambien la contencion del pool. Solo corre a pedido:
+ *
+ * <pre>
+ * ./mvnw test -Dtest=EncriptarDesencriptarBenchmark -Djmh=true -Djmh.hilos=8
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncriptarDesencriptarBenchmark {
+
+	private static final String LLAVE = "keyacuaplus";
+	private static final String TEXTO = "Contrasena-de-prueba-2026";
+
+	private EncriptarDesencriptar encriptador;
+
+	@Setup
+	public void setUp() {
+		encriptador = new EncriptarDesencriptar(LLAVE, 32);
+	}
+
+	@Benchmark
+	public String conPool() {
+		return encriptador.desencriptar(encriptador.encriptar(TEXTO));
+	}
+
+	@Benchmark
+	public String porLlamada() throws GeneralSecurityException {
+		String cifrado = Base64.getEncoder().encodeToString(
+				cipher(Cipher.ENCRYPT_MODE).doFinal(TEXTO.getBytes(StandardCharsets.UTF_8)));
+		return new String(cipher(Cipher.DECRYPT_MODE).doFinal(Base64.getMimeDecoder().decode(cifrado)),
+				StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reproduce el esquema anterior: MD5 de la llave, {@code Cipher.getInstance} e {@code init} en cada llamada.
+	 */
+	private static Cipher cipher(int modo) throws GeneralSecurityException {
+		byte[] digest = MessageDigest.getInstance("MD5").digest(LLAVE.getBytes(StandardCharsets.UTF_8));
+		SecretKey key = new SecretKeySpec(Arrays.copyOf(digest, 24), "DESede");
+		Cipher cipher = Cipher.getInstance("DESede");
+		cipher.init(modo, key);
+		return cipher;
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "jmh", matches = "true")
+	void ejecutar() throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(EncriptarDesencriptarBenchmark.class.getName())
+				.threads(Integer.getInteger("jmh.hilos", 8))
+				.build()).run();
+	}
+}